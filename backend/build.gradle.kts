@@ -61,6 +61,11 @@ dependencies {
     implementation("org.redisson:redisson-spring-boot-starter:3.45.0")
     //Jedis
     implementation("redis.clients:jedis")
+    //Caffeine (로컬 캐시)
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    //Jackson Dataformat: Smile, CBOR (캐시 코덱)
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
 
     developmentOnly("org.springframework.boot:spring-boot-devtools")
 
@@ -91,6 +96,9 @@ dependencies {
     //Mockito Kotlin
     testImplementation("org.mockito.kotlin:mockito-kotlin:5.4.0")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+    //JMH (벤치마크)
+    testImplementation("org.openjdk.jmh:jmh-core:1.37")
+    kaptTest("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 
     //test lombok
     testImplementation("org.projectlombok:lombok")
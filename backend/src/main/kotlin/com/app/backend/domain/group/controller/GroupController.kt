@@ -2,6 +2,7 @@ package com.app.backend.domain.group.controller
 
 import com.app.backend.domain.group.constant.GroupMessageConstant
 import com.app.backend.domain.group.dto.request.GroupRequest
+import com.app.backend.domain.group.dto.request.GroupSearchCriteria
 import com.app.backend.domain.group.dto.response.GroupResponse
 import com.app.backend.domain.group.exception.GroupException
 import com.app.backend.domain.group.exception.GroupMembershipException
@@ -10,19 +11,26 @@ import com.app.backend.domain.group.service.GroupService
 import com.app.backend.domain.member.entity.MemberDetails
 import com.app.backend.global.annotation.CustomPageJsonSerializer
 import com.app.backend.global.dto.response.ApiResponse
+import com.app.backend.global.dto.response.CursorPage
 import com.app.backend.global.error.exception.GlobalErrorCode
+import jakarta.servlet.http.HttpServletRequest
 import jakarta.validation.Valid
 import jakarta.validation.constraints.Min
+import org.springframework.beans.factory.annotation.Value
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.Pageable
 import org.springframework.data.domain.Sort
 import org.springframework.data.web.PageableDefault
 import org.springframework.http.HttpStatus
 import org.springframework.http.MediaType
+import org.springframework.http.ResponseEntity
 import org.springframework.security.core.annotation.AuthenticationPrincipal
 import org.springframework.security.core.userdetails.UserDetails
 import org.springframework.validation.BindingResult
 import org.springframework.web.bind.annotation.*
+import org.springframework.web.context.request.async.WebAsyncUtils
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody
+import java.time.Duration
 
 @RestController
 @RequestMapping(
@@ -32,7 +40,8 @@ import org.springframework.web.bind.annotation.*
 )
 class GroupController(
     private val groupService: GroupService,
-    private val groupMembershipService: GroupMembershipService
+    private val groupMembershipService: GroupMembershipService,
+    @Value("\${group.export.timeout:10m}") private val exportTimeout: Duration
 ) {
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -91,6 +100,60 @@ class GroupController(
                 ), pageable, (userDetails as MemberDetails).id!!)
         )
 
+    @GetMapping("/cursor")
+    fun getGroupsByCursor(
+        @RequestParam(required = false, defaultValue = "") categoryName: String,
+        @RequestParam(required = false, defaultValue = "") recruitStatus: String,
+        @RequestParam(required = false, defaultValue = "") province: String,
+        @RequestParam(required = false, defaultValue = "") city: String,
+        @RequestParam(required = false, defaultValue = "") town: String,
+        @RequestParam(required = false, defaultValue = "") keyword: String,
+        @RequestParam(required = false) cursor: String?,
+        @RequestParam(defaultValue = "10") size: Int,
+        @RequestParam(defaultValue = "false") withTotal: Boolean,
+        @AuthenticationPrincipal userDetails: UserDetails
+    ): ApiResponse<CursorPage<GroupResponse.ListInfoWithLike>> =
+        ApiResponse.of(
+            true, HttpStatus.OK, GroupMessageConstant.READ_GROUPS_SUCCESS, groupService.searchGroups(
+                GroupSearchCriteria.from(
+                    GroupRequest.Search(categoryName, recruitStatus, keyword, province, city, town)
+                ), cursor, size, withTotal, (userDetails as MemberDetails).id!!)
+        )
+
+    @GetMapping("/nearby")
+    fun getNearbyGroups(
+        @RequestParam latitude: Double,
+        @RequestParam longitude: Double,
+        @RequestParam(defaultValue = "5") radius: Double,
+        @RequestParam(defaultValue = "20") size: Int,
+        @AuthenticationPrincipal userDetails: UserDetails
+    ): ApiResponse<List<GroupResponse.NearbyListInfo>> =
+        ApiResponse.of(
+            true, HttpStatus.OK, GroupMessageConstant.READ_GROUPS_SUCCESS, groupService.getNearbyGroups(
+                latitude, longitude, radius, size, (userDetails as MemberDetails).id!!
+            )
+        )
+
+    @GetMapping("/export", produces = [MediaType.APPLICATION_NDJSON_VALUE])
+    fun exportGroups(
+        @RequestParam(required = false, defaultValue = "") categoryName: String,
+        @RequestParam(required = false, defaultValue = "") recruitStatus: String,
+        @RequestParam(required = false, defaultValue = "") province: String,
+        @RequestParam(required = false, defaultValue = "") city: String,
+        @RequestParam(required = false, defaultValue = "") town: String,
+        @RequestParam(required = false, defaultValue = "") keyword: String,
+        request: HttpServletRequest
+    ): ResponseEntity<StreamingResponseBody> {
+        val criteria = GroupSearchCriteria.from(
+            GroupRequest.Search(categoryName, recruitStatus, keyword, province, city, town)
+        )
+        //전역 비동기 타임아웃(서블릿 컨테이너 기본값) 대신 내보내기 전용 타임아웃 적용
+        WebAsyncUtils.getAsyncManager(request).asyncWebRequest?.setTimeout(exportTimeout.toMillis())
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(StreamingResponseBody { groupService.exportGroups(criteria, it) })
+    }
+
     @PatchMapping("/{groupId}")
     fun modifyGroup(
         @PathVariable @Min(1) groupId: Long,
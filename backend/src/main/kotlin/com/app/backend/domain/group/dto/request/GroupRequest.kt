@@ -1,21 +1,25 @@
 package com.app.backend.domain.group.dto.request
 
 import com.fasterxml.jackson.annotation.JsonAlias
+import jakarta.validation.constraints.DecimalMax
+import jakarta.validation.constraints.DecimalMin
 import jakarta.validation.constraints.Min
 import jakarta.validation.constraints.NotBlank
 
 class GroupRequest {
-    data class Create(
+    data class Create @JvmOverloads constructor(
         @field:NotBlank val name: String,
         @field:NotBlank val province: String,
         @field:NotBlank val city: String,
         @field:NotBlank val town: String,
         @field:NotBlank val description: String,
         @field:Min(1) val maxRecruitCount: Int,
-        @field:NotBlank val categoryName: String
+        @field:NotBlank val categoryName: String,
+        @field:DecimalMin("-90.0") @field:DecimalMax("90.0") val latitude: Double? = null,
+        @field:DecimalMin("-180.0") @field:DecimalMax("180.0") val longitude: Double? = null
     )
 
-    data class Update(
+    data class Update @JvmOverloads constructor(
         @field:NotBlank val name: String,
         @field:NotBlank val province: String,
         @field:NotBlank val city: String,
@@ -23,7 +27,9 @@ class GroupRequest {
         @field:NotBlank val description: String,
         @field:NotBlank val recruitStatus: String,
         @field:Min(1) val maxRecruitCount: Int,
-        @field:NotBlank val categoryName: String
+        @field:NotBlank val categoryName: String,
+        @field:DecimalMin("-90.0") @field:DecimalMax("90.0") val latitude: Double? = null,
+        @field:DecimalMin("-180.0") @field:DecimalMax("180.0") val longitude: Double? = null
     )
 
     data class ApproveJoining(
@@ -0,0 +1,27 @@
+package com.app.backend.domain.group.dto.request
+
+import com.app.backend.domain.group.entity.RecruitStatus
+
+/**
+ * 모임 검색 조건, 비어 있는 조건은 검색에 적용하지 않음
+ */
+data class GroupSearchCriteria(
+    val categoryName: String? = null,
+    val recruitStatus: RecruitStatus? = null,
+    val name: String? = null,
+    val province: String? = null,
+    val city: String? = null,
+    val town: String? = null,
+    val disabled: Boolean = false
+) {
+    companion object {
+        fun from(dto: GroupRequest.Search) = GroupSearchCriteria(
+            categoryName = dto.categoryName,
+            recruitStatus = dto.recruitStatus?.takeIf { it.isNotBlank() }?.let { RecruitStatus.valueOf(it) },
+            name = dto.name,
+            province = dto.province,
+            city = dto.city,
+            town = dto.town
+        )
+    }
+}
@@ -0,0 +1,20 @@
+package com.app.backend.domain.group.dto.response
+
+import com.app.backend.domain.group.entity.RecruitStatus
+import java.time.LocalDateTime
+
+/**
+ * 모임 목록 조회 프로젝션(목록에 필요한 컬럼만), 엔티티를 영속성 컨텍스트에 올리지 않는다.
+ */
+data class GroupListProjection(
+    val id: Long,
+    val categoryName: String,
+    val name: String,
+    val province: String,
+    val city: String,
+    val town: String,
+    val recruitStatus: RecruitStatus,
+    val maxRecruitCount: Int,
+    val likeCount: Int,
+    val createdAt: LocalDateTime
+)
@@ -0,0 +1,10 @@
+package com.app.backend.domain.group.dto.response
+
+/**
+ * 반경 검색 후보 모임의 좌표 프로젝션(지오해시 인덱스만으로 조회)
+ */
+data class GroupLocationProjection(
+    val id: Long,
+    val latitude: Double,
+    val longitude: Double
+)
@@ -0,0 +1,12 @@
+package com.app.backend.domain.group.dto.response
+
+import com.app.backend.domain.group.entity.GroupRole
+
+/**
+ * 모임 목록의 승인된 회원 프로젝션(현재 인원 수, 모임장 닉네임 계산용)
+ */
+data class GroupMemberProjection(
+    val groupId: Long,
+    val groupRole: GroupRole,
+    val nickname: String?
+)
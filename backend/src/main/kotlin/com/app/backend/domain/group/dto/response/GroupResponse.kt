@@ -5,6 +5,7 @@ import com.app.backend.domain.group.entity.GroupRole
 import com.app.backend.domain.group.entity.MembershipStatus
 import com.app.backend.global.util.AppUtil
 import com.fasterxml.jackson.annotation.JsonProperty
+import com.fasterxml.jackson.annotation.JsonUnwrapped
 
 class GroupResponse {
     companion object {
@@ -114,7 +115,36 @@ class GroupResponse {
             likeCount = group.likeCount
         )
 
+        fun toListInfo(group: GroupListProjection, members: List<GroupMemberProjection>) = ListInfo(
+            id = group.id,
+            categoryName = group.categoryName,
+            name = group.name,
+            province = group.province,
+            city = group.city,
+            town = group.town,
+            recruitStatus = group.recruitStatus.name,
+            maxRecruitCount = group.maxRecruitCount,
+            currentMemberCount = members.size,
+            createdAt = AppUtil.localDateTimeToString(group.createdAt),
+            groupLeaders = members.filter { it.groupRole == GroupRole.LEADER }.map { it.nickname!! }
+        )
 
+        fun toListInfoWithLike(group: GroupListProjection, members: List<GroupMemberProjection>, isLiked: Boolean) =
+            ListInfoWithLike(
+                id = group.id,
+                categoryName = group.categoryName,
+                name = group.name,
+                province = group.province,
+                city = group.city,
+                town = group.town,
+                recruitStatus = group.recruitStatus.name,
+                maxRecruitCount = group.maxRecruitCount,
+                currentMemberCount = members.size,
+                createdAt = AppUtil.localDateTimeToString(group.createdAt),
+                groupLeaders = members.filter { it.groupRole == GroupRole.LEADER }.map { it.nickname!! },
+                isLiked = isLiked,
+                likeCount = group.likeCount
+            )
     }
 
     data class Detail(
@@ -184,4 +214,9 @@ class GroupResponse {
         val isLiked: Boolean,
         val likeCount: Int
     )
+
+    data class NearbyListInfo(
+        val distanceKm: Double,
+        @get:JsonUnwrapped val group: ListInfoWithLike
+    )
 }
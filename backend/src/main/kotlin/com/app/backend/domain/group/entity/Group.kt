@@ -4,11 +4,19 @@ import com.app.backend.domain.category.entity.Category
 import com.app.backend.domain.chat.room.entity.ChatRoom
 import com.app.backend.domain.meetingApplication.entity.MeetingApplication
 import com.app.backend.global.entity.BaseEntity
+import com.app.backend.global.util.GeoHash
 import jakarta.persistence.*
 import jakarta.validation.constraints.Min
 
 @Entity
-@Table(name = "tbl_groups")
+@Table(
+    name = "tbl_groups",
+    indexes = [
+        Index(name = "idx_groups_search", columnList = "disabled, category_id, province, city, town, recruit_status"),
+        Index(name = "idx_groups_created", columnList = "disabled, created_at, group_id"),
+        Index(name = "idx_groups_geohash", columnList = "disabled, geohash, latitude, longitude")
+    ]
+)
 class Group private constructor(
     name: String,
     province: String,
@@ -81,6 +89,17 @@ class Group private constructor(
     var maxRecruitCount: Int = maxRecruitCount
         protected set
 
+    var latitude: Double? = null
+        protected set
+
+    var longitude: Double? = null
+        protected set
+
+    //위치를 등록한 모임만 값이 있음(위치 기능 이전에 생성된 모임은 null이며 반경 검색에서 제외)
+    @Column(length = GeoHash.PRECISION)
+    var geohash: String? = null
+        protected set
+
     @OneToMany(mappedBy = "group")
     val members: MutableList<GroupMembership> = mutableListOf()
 
@@ -140,6 +159,20 @@ class Group private constructor(
         this.town = newTown
     }
 
+    /**
+     * 모임 위치(좌표) 수정, 반경 검색용 지오해시도 함께 갱신
+     *
+     * @param newLatitude  - 새로운 위도
+     * @param newLongitude - 새로운 경도
+     * @return this
+     */
+    fun modifyLocation(newLatitude: Double, newLongitude: Double) = apply {
+        if (this.latitude == newLatitude && this.longitude == newLongitude) return@apply
+        this.latitude = newLatitude
+        this.longitude = newLongitude
+        this.geohash = GeoHash.encode(newLatitude, newLongitude)
+    }
+
     /**
      * 모임 정보 수정
      *
@@ -1,3 +1,5 @@
 package com.app.backend.domain.group.repository
 
-interface GroupLikeRepositoryCustom
+interface GroupLikeRepositoryCustom {
+    fun findLikedGroupIds(memberId: Long, groupIds: Collection<Long>): Set<Long>
+}
@@ -1,7 +1,28 @@
 package com.app.backend.domain.group.repository
 
+import com.app.backend.domain.group.entity.QGroupLike
 import com.querydsl.jpa.impl.JPAQueryFactory
 import org.springframework.stereotype.Repository
 
 @Repository
-class GroupLikeRepositoryImpl(private val jpaQueryFactory: JPAQueryFactory) : GroupLikeRepositoryCustom
\ No newline at end of file
+class GroupLikeRepositoryImpl(private val jpaQueryFactory: JPAQueryFactory) : GroupLikeRepositoryCustom {
+
+    /**
+     * 모임 ID 목록 중 회원이 좋아요한 모임 ID 조회(IN 쿼리 1회)
+     *
+     * @param memberId - 회원 ID
+     * @param groupIds - 모임 ID 목록
+     * @return 좋아요한 모임 ID 집합
+     */
+    override fun findLikedGroupIds(memberId: Long, groupIds: Collection<Long>): Set<Long> {
+        if (groupIds.isEmpty()) return emptySet()
+
+        val groupLike = QGroupLike.groupLike
+
+        return jpaQueryFactory.select(groupLike.group.id)
+            .from(groupLike)
+            .where(groupLike.member.id.eq(memberId), groupLike.group.id.`in`(groupIds))
+            .fetch()
+            .toSet()
+    }
+}
@@ -1,3 +1,7 @@
 package com.app.backend.domain.group.repository
 
-interface GroupMembershipRepositoryCustom 
+import com.app.backend.domain.group.dto.response.GroupMemberProjection
+
+interface GroupMembershipRepositoryCustom {
+    fun findApprovedMembersByGroupIds(groupIds: Collection<Long>): List<GroupMemberProjection>
+}
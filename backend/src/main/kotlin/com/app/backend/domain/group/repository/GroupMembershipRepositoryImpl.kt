@@ -1,7 +1,44 @@
 package com.app.backend.domain.group.repository
 
+import com.app.backend.domain.group.dto.response.GroupMemberProjection
+import com.app.backend.domain.group.entity.MembershipStatus
+import com.app.backend.domain.group.entity.QGroupMembership
+import com.app.backend.domain.member.entity.QMember
+import com.querydsl.core.types.Projections
 import com.querydsl.jpa.impl.JPAQueryFactory
 import org.springframework.stereotype.Repository
 
 @Repository
-class GroupMembershipRepositoryImpl(private val jpaQueryFactory: JPAQueryFactory) : GroupMembershipRepositoryCustom
+class GroupMembershipRepositoryImpl(private val jpaQueryFactory: JPAQueryFactory) : GroupMembershipRepositoryCustom {
+
+    /**
+     * 모임 ID 목록의 승인된 회원 조회(IN 쿼리 1회)
+     *
+     * @param groupIds - 모임 ID 목록
+     * @return 승인된 회원 프로젝션 목록
+     */
+    override fun findApprovedMembersByGroupIds(groupIds: Collection<Long>): List<GroupMemberProjection> {
+        if (groupIds.isEmpty()) return emptyList()
+
+        val groupMembership = QGroupMembership.groupMembership
+        val member = QMember.member
+
+        return jpaQueryFactory.select(
+            Projections.constructor(
+                GroupMemberProjection::class.java,
+                groupMembership.groupId,
+                groupMembership.groupRole,
+                member.nickname
+            )
+        )
+            .from(groupMembership)
+            .join(groupMembership.member, member)
+            .where(
+                groupMembership.groupId.`in`(groupIds),
+                groupMembership.status.eq(MembershipStatus.APPROVED),
+                groupMembership.disabled.eq(false)
+            )
+            .orderBy(groupMembership.memberId.asc())
+            .fetch()
+    }
+}
@@ -1,79 +1,34 @@
 package com.app.backend.domain.group.repository
 
+import com.app.backend.domain.group.dto.request.GroupSearchCriteria
+import com.app.backend.domain.group.dto.response.GroupListProjection
+import com.app.backend.domain.group.dto.response.GroupLocationProjection
 import com.app.backend.domain.group.entity.Group
+import com.app.backend.global.util.KeysetCursor
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.Pageable
+import java.util.stream.Stream
 
 interface GroupRepositoryCustom {
-    fun findAllByRegion(
-        province: String?,
-        city: String?,
-        town: String?,
-        disabled: Boolean
-    ): List<Group>
+    fun findAllByCriteria(criteria: GroupSearchCriteria, pageable: Pageable): Page<Group>
 
-    fun findAllByRegion(
-        province: String?,
-        city: String?,
-        town: String?,
-        disabled: Boolean,
-        pageable: Pageable
-    ): Page<Group>
+    fun findListByCriteria(criteria: GroupSearchCriteria, cursor: KeysetCursor?, limit: Int): List<GroupListProjection>
 
-    fun findAllByNameContainingAndRegion(
-        name: String?,
-        province: String?,
-        city: String?,
-        town: String?,
-        disabled: Boolean
-    ): List<Group>
+    fun streamListByCriteria(criteria: GroupSearchCriteria, fetchSize: Int): Stream<GroupListProjection>
 
-    fun findAllByNameContainingAndRegion(
-        name: String?,
-        province: String?,
-        city: String?,
-        town: String?,
-        disabled: Boolean,
-        pageable: Pageable
-    ): Page<Group>
+    fun countByCriteria(criteria: GroupSearchCriteria): Long
 
-    fun findAllByCategoryAndNameContainingAndRegion(
-        categoryName: String?,
-        name: String?,
-        province: String?,
-        city: String?,
-        town: String?,
-        disabled: Boolean
-    ): List<Group>
+    fun findListByIds(ids: Collection<Long>): List<GroupListProjection>
 
-    fun findAllByCategoryAndNameContainingAndRegion(
-        categoryName: String?,
-        name: String?,
-        province: String?,
-        city: String?,
-        town: String?,
-        disabled: Boolean,
-        pageable: Pageable
-    ): Page<Group>
-
-    fun findAllByCategoryAndRecruitStatusAndNameContainingAndRegion(
-        categoryName: String?,
-        recruitStatus: String?,
-        name: String?,
-        province: String?,
-        city: String?,
-        town: String?,
+    fun findLocationsInCells(
+        geohashes: Collection<String>,
+        latitude: Double,
+        longitude: Double,
+        minLatitude: Double,
+        maxLatitude: Double,
+        minLongitude: Double?,
+        maxLongitude: Double?,
+        limit: Int,
         disabled: Boolean
-    ): List<Group>
-
-    fun findAllByCategoryAndRecruitStatusAndNameContainingAndRegion(
-        categoryName: String?,
-        recruitStatus: String?,
-        name: String?,
-        province: String?,
-        city: String?,
-        town: String?,
-        disabled: Boolean,
-        pageable: Pageable
-    ): Page<Group>
+    ): List<GroupLocationProjection>
 }
\ No newline at end of file
@@ -1,281 +1,231 @@
 package com.app.backend.domain.group.repository
 
+import com.app.backend.domain.category.entity.QCategory
+import com.app.backend.domain.group.dto.request.GroupSearchCriteria
+import com.app.backend.domain.group.dto.response.GroupListProjection
+import com.app.backend.domain.group.dto.response.GroupLocationProjection
 import com.app.backend.domain.group.entity.Group
 import com.app.backend.domain.group.entity.QGroup
-import com.app.backend.domain.group.entity.RecruitStatus
+import com.app.backend.global.util.KeysetCursor
+import com.querydsl.core.types.ExpressionUtils
 import com.querydsl.core.types.Order
 import com.querydsl.core.types.OrderSpecifier
+import com.querydsl.core.types.Projections
 import com.querydsl.core.types.dsl.BooleanExpression
 import com.querydsl.core.types.dsl.Expressions
 import com.querydsl.jpa.impl.JPAQueryFactory
+import org.hibernate.jpa.HibernateHints
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.Pageable
 import org.springframework.data.support.PageableExecutionUtils
 import org.springframework.stereotype.Repository
+import java.util.stream.Stream
+import kotlin.math.cos
 
 @Repository
 class GroupRepositoryImpl(private val jpaQueryFactory: JPAQueryFactory) : GroupRepositoryCustom {
     /**
-     * 검색할 지역(시/도, 시/군/구, 읍/면/동)으로 모임 목록 조회
+     * 검색 조건으로 모임 페이징 목록 조회(카테고리 함께 조회)
      *
-     * @param province - 시/도
-     * @param city     - 시/군/구
-     * @param town     - 읍/면/동
-     * @param disabled - 활성화 여부(Soft Delete 상태)
-     * @return 모임 목록
-     */
-    override fun findAllByRegion(province: String?, city: String?, town: String?, disabled: Boolean): List<Group> =
-        jpaQueryFactory.selectFrom(QGroup.group)
-            .where(getRegionCondition(province, city, town, QGroup.group), QGroup.group.disabled.eq(disabled))
-            .fetch()
-
-    /**
-     * 검색할 지역(시/도, 시/군/구, 읍/면/동)으로 모임 페이징 목록 조회
-     *
-     * @param province - 시/도
-     * @param city     - 시/군/구
-     * @param town     - 읍/면/동
-     * @param disabled - 활성화 여부(Soft Delete 상태)
+     * @param criteria - 모임 검색 조건
      * @param pageable - 페이징 객체
      * @return 모임 페이징 목록
      */
-    override fun findAllByRegion(
-        province: String?,
-        city: String?,
-        town: String?,
-        disabled: Boolean,
-        pageable: Pageable
-    ): Page<Group> =
+    override fun findAllByCriteria(criteria: GroupSearchCriteria, pageable: Pageable): Page<Group> =
         PageableExecutionUtils.getPage(
             jpaQueryFactory.selectFrom(QGroup.group)
-                .where(getRegionCondition(province, city, town, QGroup.group), QGroup.group.disabled.eq(disabled))
+                .join(QGroup.group.category, QCategory.category).fetchJoin()
+                .where(getSearchCondition(criteria, QGroup.group, QCategory.category))
                 .orderBy(*getSortCondition(pageable, QGroup.group))
                 .offset(pageable.offset)
                 .limit(pageable.pageSize.toLong())
                 .fetch(), pageable
-        ) {
-            jpaQueryFactory.select(QGroup.group.count())
-                .from(QGroup.group)
-                .where(getRegionCondition(province, city, town, QGroup.group), QGroup.group.disabled.eq(disabled))
-                .fetchOne() ?: 0
-        }
+        ) { countByCriteria(criteria) }
 
     /**
-     * 모임 이름, 검색할 지역(시/도, 시/군/구, 읍/면/동)으로 모임 목록 조회
+     * 검색 조건으로 커서 다음 모임 목록을 최신순 프로젝션으로 조회
      *
-     * @param name     - 모임 이름
-     * @param province - 시/도
-     * @param city     - 시/군/구
-     * @param town     - 읍/면/동
-     * @param disabled - 활성화 여부(Soft Delete 상태)
-     * @return 모임 목록
+     * @param criteria - 모임 검색 조건
+     * @param cursor   - 이전 페이지 마지막 모임의 (createdAt, id), 첫 페이지면 null
+     * @param limit    - 조회 개수
+     * @return 모임 목록 프로젝션
      */
-    override fun findAllByNameContainingAndRegion(
-        name: String?,
-        province: String?,
-        city: String?,
-        town: String?,
-        disabled: Boolean
-    ): List<Group> = jpaQueryFactory.selectFrom(QGroup.group)
-        .where(
-            QGroup.group.name.contains(name),
-            getRegionCondition(province, city, town, QGroup.group),
-            QGroup.group.disabled.eq(disabled)
-        )
-        .fetch()
+    override fun findListByCriteria(
+        criteria: GroupSearchCriteria,
+        cursor: KeysetCursor?,
+        limit: Int
+    ): List<GroupListProjection> {
+        val group = QGroup.group
+        val category = QCategory.category
+
+        return jpaQueryFactory.select(getListProjection(group, category))
+            .from(group)
+            .join(group.category, category)
+            .where(getSearchCondition(criteria, group, category), before(group, cursor))
+            .orderBy(group.createdAt.desc(), group.id.desc())
+            .limit(limit.toLong())
+            .fetch()
+    }
 
     /**
-     * 모임 이름, 검색할 지역(시/도, 시/군/구, 읍/면/동)으로 모임 페이징 목록 조회
+     * 검색 조건에 해당하는 모임 전체를 ID 순 프로젝션 스트림으로 조회
      *
-     * @param name     - 모임 이름
-     * @param province - 시/도
-     * @param city     - 시/군/구
-     * @param town     - 읍/면/동
-     * @param disabled - 활성화 여부(Soft Delete 상태)
-     * @param pageable - 페이징 객체
-     * @return 모임 페이징 목록
+     * 드라이버가 fetchSize 단위로 행을 가져오며 엔티티를 영속성 컨텍스트에 올리지 않으므로 결과 크기와 무관하게 메모리 사용량이 일정,
+     * 스트림은 트랜잭션 안에서 사용 후 닫아야 한다.
+     *
+     * @param criteria  - 모임 검색 조건
+     * @param fetchSize - 한 번에 가져올 행 수
+     * @return 모임 목록 프로젝션 스트림
      */
-    override fun findAllByNameContainingAndRegion(
-        name: String?,
-        province: String?,
-        city: String?,
-        town: String?,
-        disabled: Boolean,
-        pageable: Pageable
-    ): Page<Group> =
-        PageableExecutionUtils.getPage(
-            jpaQueryFactory.selectFrom(QGroup.group)
-                .where(
-                    QGroup.group.name.contains(name),
-                    getRegionCondition(province, city, town, QGroup.group),
-                    QGroup.group.disabled.eq(disabled)
-                )
-                .orderBy(*getSortCondition(pageable, QGroup.group))
-                .offset(pageable.offset)
-                .limit(pageable.pageSize.toLong())
-                .fetch(), pageable
-        ) {
-            jpaQueryFactory.select(QGroup.group.count())
-                .from(QGroup.group)
-                .where(
-                    QGroup.group.name.contains(name),
-                    getRegionCondition(province, city, town, QGroup.group),
-                    QGroup.group.disabled.eq(disabled)
-                )
-                .fetchOne() ?: 0
-        }
+    override fun streamListByCriteria(criteria: GroupSearchCriteria, fetchSize: Int): Stream<GroupListProjection> {
+        val group = QGroup.group
+        val category = QCategory.category
+
+        return jpaQueryFactory.select(getListProjection(group, category))
+            .from(group)
+            .join(group.category, category)
+            .where(getSearchCondition(criteria, group, category))
+            .orderBy(group.id.asc())
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .stream()
+    }
 
     /**
-     * 카테고리명, 모임 이름, 검색할 지역(시/도, 시/군/구, 읍/면/동)으로 모임 목록 조회
+     * 검색 조건에 해당하는 모임 수 조회
      *
-     * @param categoryName - 카테고리명
-     * @param name         - 모임 이름
-     * @param province     - 시/도
-     * @param city         - 시/군/구
-     * @param town         - 읍/면/동
-     * @param disabled     - 활성화 여부(Soft Delete 상태)
-     * @return 모임 목록
+     * @param criteria - 모임 검색 조건
+     * @return 모임 수
      */
-    override fun findAllByCategoryAndNameContainingAndRegion(
-        categoryName: String?,
-        name: String?,
-        province: String?,
-        city: String?,
-        town: String?,
-        disabled: Boolean
-    ): List<Group> = jpaQueryFactory.selectFrom(QGroup.group)
-        .where(
-            if (!categoryName.isNullOrBlank()) QGroup.group.category.name.eq(categoryName) else Expressions.TRUE,
-            if (!name.isNullOrBlank()) QGroup.group.name.contains(name) else Expressions.TRUE,
-            getRegionCondition(province, city, town, QGroup.group),
-            QGroup.group.disabled.eq(disabled)
-        )
-        .fetch()
+    override fun countByCriteria(criteria: GroupSearchCriteria): Long =
+        jpaQueryFactory.select(QGroup.group.count())
+            .from(QGroup.group)
+            .where(getSearchCondition(criteria, QGroup.group, QGroup.group.category))
+            .fetchOne() ?: 0
 
     /**
-     * 카테고리명, 모임 이름, 검색할 지역(시/도, 시/군/구, 읍/면/동)으로 모임 페이징 목록 조회
+     * 모임 ID 목록으로 모임 목록 프로젝션 조회(순서 보장 없음)
      *
-     * @param categoryName - 카테고리명
-     * @param name         - 모임 이름
-     * @param province     - 시/도
-     * @param city         - 시/군/구
-     * @param town         - 읍/면/동
-     * @param disabled     - 활성화 여부(Soft Delete 상태)
-     * @param pageable     - 페이징 객체
-     * @return 모임 페이징 목록
+     * @param ids - 모임 ID 목록
+     * @return 모임 목록 프로젝션
      */
-    override fun findAllByCategoryAndNameContainingAndRegion(
-        categoryName: String?,
-        name: String?,
-        province: String?,
-        city: String?,
-        town: String?,
-        disabled: Boolean,
-        pageable: Pageable
-    ): Page<Group> =
-        PageableExecutionUtils.getPage(
-            jpaQueryFactory.selectFrom(QGroup.group)
-                .where(
-                    if (!categoryName.isNullOrBlank()) QGroup.group.category.name.eq(categoryName) else Expressions.TRUE,
-                    if (!name.isNullOrBlank()) QGroup.group.name.contains(name) else Expressions.TRUE,
-                    getRegionCondition(province, city, town, QGroup.group),
-                    QGroup.group.disabled.eq(disabled)
-                )
-                .orderBy(*getSortCondition(pageable, QGroup.group))
-                .offset(pageable.offset)
-                .limit(pageable.pageSize.toLong())
-                .fetch(), pageable
-        ) {
-            jpaQueryFactory.select(QGroup.group.count())
-                .from(QGroup.group)
-                .where(
-                    if (!categoryName.isNullOrBlank()) QGroup.group.category.name.eq(categoryName) else Expressions.TRUE,
-                    if (!name.isNullOrBlank()) QGroup.group.name.contains(name) else Expressions.TRUE,
-                    getRegionCondition(province, city, town, QGroup.group),
-                    QGroup.group.disabled.eq(disabled)
-                )
-                .fetchOne() ?: 0
-        }
+    override fun findListByIds(ids: Collection<Long>): List<GroupListProjection> {
+        if (ids.isEmpty()) return emptyList()
+
+        val group = QGroup.group
+        val category = QCategory.category
+
+        return jpaQueryFactory.select(getListProjection(group, category))
+            .from(group)
+            .join(group.category, category)
+            .where(group.id.`in`(ids))
+            .fetch()
+    }
 
     /**
-     * 카테고리명, 모집 상태, 모임 이름, 검색할 지역(시/도, 시/군/구, 읍/면/동)으로 모임 목록 조회
+     * 지오해시 셀 안에 있고 좌표 범위(bounding box)에 드는 모임 좌표를 중심에서 가까운 순으로 limit개 조회
      *
-     * @param categoryName  - 카테고리명
-     * @param recruitStatus - 모집 상태
-     * @param name          - 모임 이름
-     * @param province      - 시/도
-     * @param city          - 시/군/구
-     * @param town          - 읍/면/동
-     * @param disabled      - 활성화 여부(Soft Delete 상태)
-     * @return
+     * (disabled, geohash, latitude, longitude) 인덱스의 접두사 범위 조회로 처리하며, 정렬은 위도/경도 차이의 제곱합(등장방형 근사)으로
+     * DB에서 수행하여 후보 전체를 애플리케이션으로 가져오지 않는다. 정확한 거리 계산과 반경 필터링은 호출 측에서 수행
+     *
+     * @param geohashes    - 지오해시 셀(접두사) 목록
+     * @param latitude     - 중심 위도
+     * @param longitude    - 중심 경도
+     * @param minLatitude  - 최소 위도
+     * @param maxLatitude  - 최대 위도
+     * @param minLongitude - 최소 경도, null이면 경도 범위 미적용
+     * @param maxLongitude - 최대 경도, null이면 경도 범위 미적용
+     * @param limit        - 최대 조회 개수
+     * @param disabled     - 활성화 여부(Soft Delete 상태)
+     * @return 모임 좌표 프로젝션 목록
      */
-    override fun findAllByCategoryAndRecruitStatusAndNameContainingAndRegion(
-        categoryName: String?,
-        recruitStatus: String?,
-        name: String?,
-        province: String?,
-        city: String?,
-        town: String?,
+    override fun findLocationsInCells(
+        geohashes: Collection<String>,
+        latitude: Double,
+        longitude: Double,
+        minLatitude: Double,
+        maxLatitude: Double,
+        minLongitude: Double?,
+        maxLongitude: Double?,
+        limit: Int,
         disabled: Boolean
-    ): List<Group> = jpaQueryFactory.selectFrom(QGroup.group)
-        .where(
-            if (!categoryName.isNullOrBlank()) QGroup.group.category.name.eq(categoryName) else Expressions.TRUE,
-            if (!recruitStatus.isNullOrBlank()) QGroup.group.recruitStatus.eq(RecruitStatus.valueOf(recruitStatus)) else Expressions.TRUE,
-            if (!name.isNullOrBlank()) QGroup.group.name.contains(name) else Expressions.TRUE,
-            getRegionCondition(province, city, town, QGroup.group),
-            QGroup.group.disabled.eq(disabled)
+    ): List<GroupLocationProjection> {
+        if (geohashes.isEmpty()) return emptyList()
+
+        val group = QGroup.group
+        val latitudeDiff = group.latitude.subtract(latitude)
+        val longitudeDiff = group.longitude.subtract(longitude).multiply(cos(Math.toRadians(latitude)))
+        val approxDistance = latitudeDiff.multiply(latitudeDiff).add(longitudeDiff.multiply(longitudeDiff))
+
+        return jpaQueryFactory.select(
+            Projections.constructor(GroupLocationProjection::class.java, group.id, group.latitude, group.longitude)
         )
-        .fetch()
+            .from(group)
+            .where(
+                group.disabled.eq(disabled),
+                ExpressionUtils.anyOf(geohashes.map { group.geohash.startsWith(it) }),
+                group.latitude.between(minLatitude, maxLatitude),
+                if (minLongitude != null && maxLongitude != null) group.longitude.between(minLongitude, maxLongitude)
+                else null
+            )
+            .orderBy(approxDistance.asc(), group.id.asc())
+            .limit(limit.toLong())
+            .fetch()
+    }
+
+    //==================== 내부 함수 ====================//
 
     /**
-     * 카테고리명, 모집 상태, 모임 이름, 검색할 지역(시/도, 시/군/구, 읍/면/동)으로 모임 페이징 목록 조회
+     * 검색 조건에 따라 BooleanExpression 생성, 비어 있는 조건은 제외
      *
-     * @param categoryName  - 카테고리명
-     * @param recruitStatus - 모집 상태
-     * @param name          - 모임 이름
-     * @param province      - 시/도
-     * @param city          - 시/군/구
-     * @param town          - 읍/면/동
-     * @param disabled      - 활성화 여부(Soft Delete 상태)
-     * @param pageable      - 페이징 객체
-     * @return
+     * @param criteria - 모임 검색 조건
+     * @param group    - QGroup
+     * @param category - 모임과 조인한 QCategory(카운트 쿼리는 group.category 경로)
+     * @return BooleanExpression
      */
-    override fun findAllByCategoryAndRecruitStatusAndNameContainingAndRegion(
-        categoryName: String?,
-        recruitStatus: String?,
-        name: String?,
-        province: String?,
-        city: String?,
-        town: String?,
-        disabled: Boolean,
-        pageable: Pageable
-    ): Page<Group> = PageableExecutionUtils.getPage(
-        jpaQueryFactory.selectFrom(QGroup.group)
-            .where(
-                if (!categoryName.isNullOrBlank()) QGroup.group.category.name.eq(categoryName) else Expressions.TRUE,
-                if (!recruitStatus.isNullOrBlank()) QGroup.group.recruitStatus.eq(RecruitStatus.valueOf(recruitStatus))
-                else Expressions.TRUE,
-                if (!name.isNullOrBlank()) QGroup.group.name.contains(name) else Expressions.TRUE,
-                getRegionCondition(province, city, town, QGroup.group),
-                QGroup.group.disabled.eq(disabled)
-            ).orderBy(*getSortCondition(pageable, QGroup.group))
-            .offset(pageable.offset)
-            .limit(pageable.pageSize.toLong())
-            .fetch(), pageable
-    ) {
-        jpaQueryFactory.select(QGroup.group.count())
-            .from(QGroup.group)
-            .where(
-                if (!categoryName.isNullOrBlank()) QGroup.group.category.name.eq(categoryName) else Expressions.TRUE,
-                if (!recruitStatus.isNullOrBlank()) QGroup.group.recruitStatus.eq(RecruitStatus.valueOf(recruitStatus))
-                else Expressions.TRUE,
-                if (!name.isNullOrBlank()) QGroup.group.name.contains(name) else Expressions.TRUE,
-                getRegionCondition(province, city, town, QGroup.group),
-                QGroup.group.disabled.eq(disabled)
-            ).fetchOne() ?: 0
+    private fun getSearchCondition(criteria: GroupSearchCriteria, group: QGroup, category: QCategory): BooleanExpression {
+        var expression = group.disabled.eq(criteria.disabled)
+
+        if (!criteria.categoryName.isNullOrBlank()) expression = expression.and(category.name.eq(criteria.categoryName))
+        if (criteria.recruitStatus != null) expression = expression.and(group.recruitStatus.eq(criteria.recruitStatus))
+        if (!criteria.name.isNullOrBlank()) expression = expression.and(group.name.contains(criteria.name))
+
+        return expression.and(getRegionCondition(criteria.province, criteria.city, criteria.town, group))
     }
 
-    //==================== 내부 함수 ====================//
+    /**
+     * 모임 목록 프로젝션 생성
+     *
+     * @param group    - QGroup
+     * @param category - 모임과 조인한 QCategory
+     * @return ConstructorExpression<GroupListProjection>
+     */
+    private fun getListProjection(group: QGroup, category: QCategory) = Projections.constructor(
+        GroupListProjection::class.java,
+        group.id,
+        category.name,
+        group.name,
+        group.province,
+        group.city,
+        group.town,
+        group.recruitStatus,
+        group.maxRecruitCount,
+        group.likeCount,
+        group.createdAt
+    )
+
+    /**
+     * 최신순 정렬에서 커서 다음 위치 조건
+     *
+     * @param group  - QGroup
+     * @param cursor - 키셋 커서
+     * @return BooleanExpression, 커서가 없으면 null
+     */
+    private fun before(group: QGroup, cursor: KeysetCursor?): BooleanExpression? {
+        if (cursor == null) return null
+        return group.createdAt.lt(cursor.createdAt)
+            .or(group.createdAt.eq(cursor.createdAt).and(group.id.lt(cursor.id)))
+    }
 
     /**
      * 검색할 지역(시/도, 시/군/구, 읍/면/동)에 따라 BooleanExpression 생성
@@ -25,6 +25,10 @@ class GroupLikeService(
             memberRepository.findById(memberId).orElseThrow { GroupLikeException(GroupLikeErrorCode.MEMBER_NOT_FOUND) }
         ).isPresent
 
+    /** 모임 목록 중 회원이 좋아요한 모임 ID 일괄 조회 */
+    fun getLikedGroupIds(memberId: Long, groupIds: Collection<Long>): Set<Long> =
+        groupLikeRepository.findLikedGroupIds(memberId, groupIds)
+
     /** 그룹 좋아요 추가 */
     @Transactional
     fun likeGroup(groupId: Long, memberId: Long) {
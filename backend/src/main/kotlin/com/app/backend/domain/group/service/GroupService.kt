@@ -6,6 +6,9 @@ import com.app.backend.domain.category.repository.CategoryRepository
 import com.app.backend.domain.chat.room.entity.ChatRoom
 import com.app.backend.domain.chat.room.repository.ChatRoomRepository
 import com.app.backend.domain.group.dto.request.GroupRequest
+import com.app.backend.domain.group.dto.request.GroupSearchCriteria
+import com.app.backend.domain.group.dto.response.GroupListProjection
+import com.app.backend.domain.group.dto.response.GroupMemberProjection
 import com.app.backend.domain.group.dto.response.GroupResponse
 import com.app.backend.domain.group.entity.*
 import com.app.backend.domain.group.exception.GroupErrorCode
@@ -18,13 +21,22 @@ import com.app.backend.domain.group.repository.GroupRepository
 import com.app.backend.domain.member.exception.MemberErrorCode
 import com.app.backend.domain.member.exception.MemberException
 import com.app.backend.domain.member.repository.MemberRepository
+import com.app.backend.global.annotation.CustomCacheDelete
 import com.app.backend.global.annotation.CustomLock
+import com.app.backend.global.dto.response.CursorPage
+import com.app.backend.global.error.exception.GlobalErrorCode
+import com.app.backend.global.util.GeoHash
+import com.app.backend.global.util.KeysetCursor
+import com.fasterxml.jackson.databind.ObjectMapper
 import jakarta.persistence.EntityManager
 import jakarta.persistence.PersistenceContext
 import jakarta.validation.constraints.Min
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.domain.Page
 import org.springframework.data.domain.Pageable
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
+import java.io.OutputStream
 
 @Service
 @Transactional(readOnly = true)
@@ -36,8 +48,16 @@ class GroupService(
     private val chatRoomRepository: ChatRoomRepository,
     private val categoryRepository: CategoryRepository,
     private val groupLikeService: GroupLikeService,
-    private val groupLikeRepository: GroupLikeRepository
+    private val groupLikeRepository: GroupLikeRepository,
+    private val objectMapper: ObjectMapper,
+    @Value("\${group.export.fetch-size:500}") private val exportFetchSize: Int
 ) {
+    companion object {
+        private const val MAX_CURSOR_PAGE_SIZE = 100
+        private const val MIN_NEARBY_RADIUS_KM = 0.1
+        private const val MAX_NEARBY_RADIUS_KM = 50.0
+    }
+
     /**
      * 모임(Group) 저장
      *
@@ -66,6 +86,7 @@ class GroupService(
             dto.maxRecruitCount,
             category
         )
+        if (dto.latitude != null && dto.longitude != null) group.modifyLocation(dto.latitude, dto.longitude)
 
         //모임 채팅방 엔티티 생성
         val chatRoom = ChatRoom(group)
@@ -133,292 +154,121 @@ class GroupService(
     }
 
     /**
-     * 모임(Group) 다 건 조회
-     *
-     * @return 모임 응답 DTO 목록(List)
-     */
-    fun getGroups() = groupRepository.findAllByDisabled(false).map { GroupResponse.toListInfo(it) }
-
-    /**
-     * 모임(Group) 다 건 조회 with Like
-     *
-     * @return 모임 응답 DTO 목록(List)
-     */
-    fun getGroups(memberId: Long) = groupRepository.findAllByDisabled(false)
-        .map { group ->
-            val isLiked = groupLikeService.isLiked(group.id!!, memberId) // isLiked 값 계산
-            GroupResponse.toListInfoWithLike(group, isLiked) // isLiked 값을 전달
-        }
-
-    /**
-     * 모임(Group) 다 건 조회
-     *
-     * @return 모임 응답 DTO 목록(Page)
-     */
-    fun getGroups(pageable: Pageable) = groupRepository.findAllByDisabled(false, pageable)
-        .map { GroupResponse.toListInfo(it) }
-
-    /**
-     * 모임(Group) 다 건 조회 with Like
-     *
-     * @return 모임 응답 DTO 목록(Page)
-     */
-    fun getGroups(pageable: Pageable, memberId: Long) = groupRepository.findAllByDisabled(false, pageable)
-        .map { group ->
-            val isLiked = groupLikeService.isLiked(group.id!!, memberId) // isLiked 값 계산
-            GroupResponse.toListInfoWithLike(group, isLiked) // isLiked 값을 전달
-        }
-
-    /**
-     * 모임 이름으로 모임(Group) 다 건 조회
-     *
-     * @param name - 모임 이름
-     * @return 모임 응답 DTO 목록(List)
-     */
-    fun getGroupsByNameContaining(name: String) = groupRepository.findAllByNameContainingAndDisabled(name, false)
-        .map { GroupResponse.toListInfo(it) }
-
-    /**
-     * 모임 이름으로 모임(Group) 다 건 조회 with Like
-     *
-     * @param name - 모임 이름
-     * @return 모임 응답 DTO 목록(List)
-     */
-    fun getGroupsByNameContaining(name: String, memberId: Long) = groupRepository.findAllByNameContainingAndDisabled(name, false)
-        .map { group ->
-            val isLiked = groupLikeService.isLiked(group.id!!, memberId) // isLiked 값 계산
-            GroupResponse.toListInfoWithLike(group, isLiked) // isLiked 값을 전달
-        }
-
-    /**
-     * 모임 이름으로 모임(Group) 다 건 조회
-     *
-     * @param name     - 모임 이름
-     * @param pageable - 페이징 객체
-     * @return 모임 응답 DTO 목록(Page)
-     */
-    fun getGroupsByNameContaining(name: String, pageable: Pageable) =
-        groupRepository.findAllByNameContainingAndDisabled(name, false, pageable)
-            .map { GroupResponse.toListInfo(it) }
-
-    /**
-     * 모임 이름으로 모임(Group) 다 건 조회 with Like
-     *
-     * @param name     - 모임 이름
-     * @param pageable - 페이징 객체
-     * @return 모임 응답 DTO 목록(Page)
-     */
-    fun getGroupsByNameContaining(name: String, pageable: Pageable, memberId: Long) =
-        groupRepository.findAllByNameContainingAndDisabled(name, false, pageable)
-            .map { group ->
-                val isLiked = groupLikeService.isLiked(group.id!!, memberId) // isLiked 값 계산
-                GroupResponse.toListInfoWithLike(group, isLiked) // isLiked 값을 전달
-            }
-
-    /**
-     * 상세 주소로 모임(Group) 다 건 조회
-     *
-     * @param province - 시/도
-     * @param city     - 시/군/구
-     * @param town     - 읍/면/동
-     * @return 모임 응답 DTO 목록(List)
-     */
-    fun getGroupsByRegion(province: String, city: String, town: String) =
-        groupRepository.findAllByRegion(province, city, town, false)
-            .map { GroupResponse.toListInfo(it) }
-
-    /**
-     * 상세 주소로 모임(Group) 다 건 조회 with Like
-     *
-     * @param province - 시/도
-     * @param city     - 시/군/구
-     * @param town     - 읍/면/동
-     * @return 모임 응답 DTO 목록(List)
-     */
-    fun getGroupsByRegion(province: String, city: String, town: String, memberId: Long) =
-        groupRepository.findAllByRegion(province, city, town, false)
-            .map { group ->
-                val isLiked = groupLikeService.isLiked(group.id!!, memberId) // isLiked 값 계산
-                GroupResponse.toListInfoWithLike(group, isLiked) // isLiked 값을 전달
-            }
-
-    /**
-     * 상세 주소로 모임(Group) 다 건 조회
-     *
-     * @param province - 시/도
-     * @param city     - 시/군/구
-     * @param town     - 읍/면/동
-     * @param pageable - 페이징 객체
-     * @return 모임 응답 DTO 목록(Page)
-     */
-    fun getGroupsByRegion(province: String, city: String, town: String, pageable: Pageable) =
-        groupRepository.findAllByRegion(province, city, town, false, pageable).map { GroupResponse.toListInfo(it) }
-
-    /**
-     * 상세 주소로 모임(Group) 다 건 조회 with Like
+     * 카테고리와 모임 이름, 상세 주소로 모임(Group) 다 건 조회 with Like
      *
-     * @param province - 시/도
-     * @param city     - 시/군/구
-     * @param town     - 읍/면/동
+     * @param dto      - 모임 검색 요청 DTO
      * @param pageable - 페이징 객체
      * @return 모임 응답 DTO 목록(Page)
      */
-    fun getGroupsByRegion(province: String, city: String, town: String, pageable: Pageable, memberId: Long) =
-        groupRepository.findAllByRegion(province, city, town, false, pageable)
-            .map { group ->
-                val isLiked = groupLikeService.isLiked(group.id!!, memberId) // isLiked 값 계산
-                GroupResponse.toListInfoWithLike(group, isLiked) // isLiked 값을 전달
-            }
+    fun getGroupsBySearch(dto: GroupRequest.Search, pageable: Pageable, memberId: Long) =
+        groupRepository.findAllByCriteria(GroupSearchCriteria.from(dto), pageable).withLikes(memberId)
 
     /**
-     * 모임 이름과 상세 주소로 모임(Group) 다 건 조회
+     * 검색 조건으로 모임(Group) 커서 페이지 조회
      *
-     * @param name     - 모임 이름
-     * @param province - 시/도
-     * @param city     - 시/군/구
-     * @param town     - 읍/면/동
-     * @return 모임 응답 DTO 목록(List)
+     * @param criteria  - 모임 검색 조건
+     * @param cursor    - 이전 페이지의 nextCursor, 첫 페이지면 null
+     * @param size      - 페이지 크기
+     * @param withTotal - 전체 개수 포함 여부
+     * @return 모임 응답 DTO 커서 페이지
      */
-    fun getGroupsByNameContainingAndRegion(name: String, province: String, city: String, town: String) =
-        groupRepository.findAllByNameContainingAndRegion(name, province, city, town, false)
-            .map { GroupResponse.toListInfo(it) }
+    fun searchGroups(criteria: GroupSearchCriteria, cursor: String?, size: Int, withTotal: Boolean) =
+        searchGroupPage(criteria, cursor, size, withTotal) { groups, members ->
+            groups.map { GroupResponse.toListInfo(it, members[it.id] ?: emptyList()) }
+        }
 
     /**
-     * 모임 이름과 상세 주소로 모임(Group) 다 건 조회 with Like
+     * 검색 조건으로 모임(Group) 커서 페이지 조회 with Like
      *
-     * @param name     - 모임 이름
-     * @param province - 시/도
-     * @param city     - 시/군/구
-     * @param town     - 읍/면/동
-     * @return 모임 응답 DTO 목록(List)
+     * @param criteria  - 모임 검색 조건
+     * @param cursor    - 이전 페이지의 nextCursor, 첫 페이지면 null
+     * @param size      - 페이지 크기
+     * @param withTotal - 전체 개수 포함 여부
+     * @param memberId  - 회원 ID
+     * @return 모임 응답 DTO 커서 페이지
      */
-    fun getGroupsByNameContainingAndRegion(name: String, province: String, city: String, town: String, memberId: Long) =
-        groupRepository.findAllByNameContainingAndRegion(name, province, city, town, false)
-            .map { group ->
-                val isLiked = groupLikeService.isLiked(group.id!!, memberId) // isLiked 값 계산
-                GroupResponse.toListInfoWithLike(group, isLiked) // isLiked 값을 전달
+    fun searchGroups(criteria: GroupSearchCriteria, cursor: String?, size: Int, withTotal: Boolean, memberId: Long) =
+        searchGroupPage(criteria, cursor, size, withTotal) { groups, members ->
+            val likedGroupIds = groupLikeService.getLikedGroupIds(memberId, groups.map { it.id })
+            groups.map {
+                GroupResponse.toListInfoWithLike(it, members[it.id] ?: emptyList(), it.id in likedGroupIds)
             }
+        }
 
     /**
-     * 모임 이름과 상세 주소로 모임(Group) 다 건 조회
+     * 좌표 기준 반경 안의 모임(Group)을 가까운 순으로 조회 with Like
      *
-     * @param name     - 모임 이름
-     * @param province - 시/도
-     * @param city     - 시/군/구
-     * @param town     - 읍/면/동
-     * @param pageable - 페이징 객체
-     * @return 모임 응답 DTO 목록(Page)
-     */
-    fun getGroupsByNameContainingAndRegion(
-        name: String,
-        province: String,
-        city: String,
-        town: String,
-        pageable: Pageable
-    ) = groupRepository.findAllByNameContainingAndRegion(name, province, city, town, false, pageable)
-        .map { GroupResponse.toListInfo(it) }
-
-    /**
-     * 모임 이름과 상세 주소로 모임(Group) 다 건 조회 with Like
+     * 좁은 반경(작은 지오해시 셀)부터 조회하여 반경 안에서 size개를 채우면 멈추고, 모자라면 셀을 한 단계씩 넓혀 최대 반경까지 조회한다.
+     * 단계마다 DB에서 근사 거리순 상위 size개만 가져오므로 넓은 반경에서도 후보 수가 size를 넘지 않는다.
+     * 위치(좌표)가 없는 모임은 지오해시도 없으므로(위치 기능 이전에 생성된 모임 포함) 위치를 등록하기 전까지 조회되지 않는다.
      *
-     * @param name     - 모임 이름
-     * @param province - 시/도
-     * @param city     - 시/군/구
-     * @param town     - 읍/면/동
-     * @param pageable - 페이징 객체
-     * @return 모임 응답 DTO 목록(Page)
+     * @param latitude  - 중심 위도
+     * @param longitude - 중심 경도
+     * @param radiusKm  - 반경(km)
+     * @param size      - 조회 개수
+     * @param memberId  - 회원 ID
+     * @return 거리 포함 모임 응답 DTO 목록
      */
-    fun getGroupsByNameContainingAndRegion(
-        name: String,
-        province: String,
-        city: String,
-        town: String,
-        pageable: Pageable,
+    fun getNearbyGroups(
+        latitude: Double,
+        longitude: Double,
+        radiusKm: Double,
+        size: Int,
         memberId: Long
-    ) = groupRepository.findAllByNameContainingAndRegion(name, province, city, town, false, pageable)
-        .map { group ->
-            val isLiked = groupLikeService.isLiked(group.id!!, memberId) // isLiked 값 계산
-            GroupResponse.toListInfoWithLike(group, isLiked) // isLiked 값을 전달
-        }
+    ): List<GroupResponse.NearbyListInfo> {
+        if (latitude !in -90.0..90.0 || longitude !in -180.0..180.0)
+            throw GroupException(GlobalErrorCode.INVALID_INPUT_VALUE)
 
-    /**
-     * 카테고리와 모임 이름, 상세 주소로 모임(Group) 다 건 조회
-     *
-     * @param dto - 모임 검색 요청 DTO
-     * @return 모임 응답 DTO 목록(List)
-     */
-    fun getGroupsBySearch(dto: GroupRequest.Search) =
-        groupRepository.findAllByCategoryAndRecruitStatusAndNameContainingAndRegion(
-            dto.categoryName,
-            dto.recruitStatus,
-            dto.name,
-            dto.province,
-            dto.city,
-            dto.town,
-            false
-        ).map { GroupResponse.toListInfo(it) }
+        val radius = radiusKm.coerceIn(MIN_NEARBY_RADIUS_KM, MAX_NEARBY_RADIUS_KM)
+        val limit = size.coerceIn(1, MAX_CURSOR_PAGE_SIZE)
 
-    /**
-     * 카테고리와 모임 이름, 상세 주소로 모임(Group) 다 건 조회 with Like
-     *
-     * @param dto - 모임 검색 요청 DTO
-     * @return 모임 응답 DTO 목록(List)
-     */
-    fun getGroupsBySearch(dto: GroupRequest.Search, memberId: Long) =
-        groupRepository.findAllByCategoryAndRecruitStatusAndNameContainingAndRegion(
-            dto.categoryName,
-            dto.recruitStatus,
-            dto.name,
-            dto.province,
-            dto.city,
-            dto.town,
-            false
-        ).map { group ->
-            val isLiked = groupLikeService.isLiked(group.id!!, memberId) // isLiked 값 계산
-            GroupResponse.toListInfoWithLike(group, isLiked) // isLiked 값을 전달
+        var nearest: List<Pair<Long, Double>> = emptyList()
+        for (ringRadius in GeoHash.expandingRadii(latitude, radius)) {
+            nearest = findNearestLocations(latitude, longitude, ringRadius, limit)
+            if (nearest.size >= limit) break
+        }
+        if (nearest.isEmpty()) return emptyList()
+
+        val groupIds = nearest.map { it.first }
+        val groups = groupRepository.findListByIds(groupIds).associateBy { it.id }
+        val members = groupMembershipRepository.findApprovedMembersByGroupIds(groupIds).groupBy { it.groupId }
+        val likedGroupIds = groupLikeService.getLikedGroupIds(memberId, groupIds)
+
+        return nearest.mapNotNull { (groupId, distance) ->
+            groups[groupId]?.let {
+                GroupResponse.NearbyListInfo(
+                    distance,
+                    GroupResponse.toListInfoWithLike(it, members[groupId] ?: emptyList(), groupId in likedGroupIds)
+                )
+            }
         }
+    }
 
     /**
-     * 카테고리와 모임 이름, 상세 주소로 모임(Group) 다 건 조회
+     * 검색 조건에 해당하는 모임(Group) 전체를 NDJSON(한 줄에 모임 응답 DTO 1개)으로 출력
      *
-     * @param dto      - 모임 검색 요청 DTO
-     * @param pageable - 페이징 객체
-     * @return 모임 응답 DTO 목록(Page)
-     */
-    fun getGroupsBySearch(dto: GroupRequest.Search, pageable: Pageable) =
-        groupRepository.findAllByCategoryAndRecruitStatusAndNameContainingAndRegion(
-            dto.categoryName,
-            dto.recruitStatus,
-            dto.name,
-            dto.province,
-            dto.city,
-            dto.town,
-            false,
-            pageable
-        ).map { GroupResponse.toListInfo(it) }
-
-    /**
-     * 카테고리와 모임 이름, 상세 주소로 모임(Group) 다 건 조회 with Like
+     * 모임은 스트림으로 읽고 승인된 회원은 fetchSize 단위 묶음마다 IN 쿼리로 조회하여, 결과 크기와 무관하게 한 묶음만 메모리에 유지
      *
-     * @param dto      - 모임 검색 요청 DTO
-     * @param pageable - 페이징 객체
-     * @return 모임 응답 DTO 목록(Page)
+     * @param criteria     - 모임 검색 조건
+     * @param outputStream - 출력 스트림
      */
-    fun getGroupsBySearch(dto: GroupRequest.Search, pageable: Pageable, memberId: Long) =
-        groupRepository.findAllByCategoryAndRecruitStatusAndNameContainingAndRegion(
-            dto.categoryName,
-            dto.recruitStatus,
-            dto.name,
-            dto.province,
-            dto.city,
-            dto.town,
-            false,
-            pageable
-        ).map { group ->
-            val isLiked = groupLikeService.isLiked(group.id!!, memberId) // isLiked 값 계산
-            val groupResponse = GroupResponse.toListInfoWithLike(group, isLiked)
-            groupResponse // 반환
+    fun exportGroups(criteria: GroupSearchCriteria, outputStream: OutputStream) {
+        val writer = objectMapper.writerFor(GroupResponse.ListInfo::class.java)
+
+        groupRepository.streamListByCriteria(criteria, exportFetchSize).use { groups ->
+            groups.iterator().asSequence().chunked(exportFetchSize).forEach { chunk ->
+                val members = groupMembershipRepository.findApprovedMembersByGroupIds(chunk.map { it.id })
+                    .groupBy { it.groupId }
+
+                chunk.forEach {
+                    val response = GroupResponse.toListInfo(it, members[it.id] ?: emptyList())
+                    outputStream.write(writer.writeValueAsBytes(response))
+                    outputStream.write('\n'.code)
+                }
+                outputStream.flush()
+            }
         }
+    }
 
     /**
      * 모임(Group) 수정
@@ -465,6 +315,7 @@ class GroupService(
             .modifyRecruitStatus(newRecruitStatus)
             .modifyMaxRecruitCount(dto.maxRecruitCount)
             .modifyCategory(newCategory)
+        if (dto.latitude != null && dto.longitude != null) group.modifyLocation(dto.latitude, dto.longitude)
 
         return GroupResponse.toDetail(group)
     }
@@ -477,6 +328,7 @@ class GroupService(
      * @return 모임 비활성화(disabled) 여부
      */
     @CustomLock(key = "'group:' + #groupId")
+    @CustomCacheDelete(tags = ["'group:' + #groupId"])
     @Transactional
     fun deleteGroup(@Min(1) groupId: Long, @Min(1) memberId: Long): Boolean {
         val groupMembership = groupMembershipRepository.findByGroupIdAndMemberIdAndDisabled(
@@ -505,4 +357,66 @@ class GroupService(
 
         return group.disabled
     }
+
+    /**
+     * 모임 페이지의 좋아요 여부를 IN 쿼리 1회로 조회하여 응답 DTO로 변환
+     */
+    private fun Page<Group>.withLikes(memberId: Long): Page<GroupResponse.ListInfoWithLike> {
+        val likedGroupIds = groupLikeService.getLikedGroupIds(memberId, content.map { it.id!! })
+        return map { GroupResponse.toListInfoWithLike(it, it.id in likedGroupIds) }
+    }
+
+    /**
+     * 검색 조건으로 모임 프로젝션을 커서 다음부터 조회하고 승인된 회원을 IN 쿼리 1회로 모아 응답 DTO로 변환
+     */
+    private fun <T> searchGroupPage(
+        criteria: GroupSearchCriteria,
+        cursor: String?,
+        size: Int,
+        withTotal: Boolean,
+        toResponses: (List<GroupListProjection>, Map<Long, List<GroupMemberProjection>>) -> List<T>
+    ): CursorPage<T> {
+        val limit = size.coerceIn(1, MAX_CURSOR_PAGE_SIZE)
+        val groups = groupRepository.findListByCriteria(criteria, KeysetCursor.decode(cursor), limit + 1)
+
+        val hasNext = groups.size > limit
+        val content = groups.take(limit)
+        val members = groupMembershipRepository.findApprovedMembersByGroupIds(content.map { it.id })
+            .groupBy { it.groupId }
+
+        return CursorPage(
+            toResponses(content, members),
+            if (hasNext) content.last().let { KeysetCursor(it.createdAt, it.id).encode() } else null,
+            hasNext,
+            if (withTotal) groupRepository.countByCriteria(criteria) else null
+        )
+    }
+
+    /**
+     * 반경을 덮는 지오해시 셀에서 근사 거리순 limit개를 조회하고 정확한 거리로 반경 필터링 및 정렬
+     */
+    private fun findNearestLocations(
+        latitude: Double,
+        longitude: Double,
+        radius: Double,
+        limit: Int
+    ): List<Pair<Long, Double>> {
+        val latitudeDelta = GeoHash.latitudeDelta(radius)
+        val longitudeDelta = GeoHash.longitudeDelta(latitude, radius)
+            ?.takeIf { longitude - it >= -180.0 && longitude + it <= 180.0 } //날짜 변경선을 넘으면 경도 범위 미적용
+
+        return groupRepository.findLocationsInCells(
+            GeoHash.coveringCells(latitude, longitude, radius),
+            latitude,
+            longitude,
+            latitude - latitudeDelta,
+            latitude + latitudeDelta,
+            longitudeDelta?.let { longitude - it },
+            longitudeDelta?.let { longitude + it },
+            limit,
+            false
+        ).map { it.id to GeoHash.distanceKm(latitude, longitude, it.latitude, it.longitude) }
+            .filter { it.second <= radius }
+            .sortedWith(compareBy({ it.second }, { it.first }))
+    }
 }
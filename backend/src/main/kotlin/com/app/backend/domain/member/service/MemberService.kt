@@ -12,6 +12,8 @@ import com.app.backend.domain.member.exception.MemberErrorCode
 import com.app.backend.domain.member.exception.MemberException
 import com.app.backend.domain.member.jwt.JwtProvider
 import com.app.backend.domain.member.repository.MemberRepository
+import com.app.backend.global.annotation.CustomCacheDelete
+import com.app.backend.global.annotation.CustomSchedulerLock
 import org.slf4j.LoggerFactory
 import org.springframework.scheduling.annotation.Scheduled
 import org.springframework.security.crypto.password.PasswordEncoder
@@ -93,6 +95,7 @@ class MemberService(
     }
 
     @Transactional
+    @CustomCacheDelete(tags = ["'member:' + #member.id"])
     fun modifyMember(member: Member, request: MemberModifyRequestDto): MemberModifyResponseDto {
         val existingMember = memberRepository.findByIdAndDisabled(member.id, false)
             .orElseThrow { MemberException(MemberErrorCode.MEMBER_NOT_FOUND) }
@@ -132,6 +135,7 @@ class MemberService(
 
     @Transactional
     @Scheduled(fixedRate = 60000 * 30) // 30분마다 실행
+    @CustomSchedulerLock(name = "member:cleanup", lockAtLeastFor = 5L)
     fun cleanupDisabledMembers() {
         log.info("비활성화된 회원 정보 삭제 작업 시작")
         val cutoffDate = LocalDateTime.now().minusSeconds(30)
@@ -7,6 +7,7 @@ import com.app.backend.domain.post.dto.resp.PostRespDto.GetPostIdDto
 import com.app.backend.domain.post.entity.PostStatus
 import com.app.backend.domain.post.service.post.PostService
 import com.app.backend.global.annotation.CustomPageJsonSerializer
+import com.app.backend.global.dto.response.CursorPage
 import com.app.backend.global.dto.response.ApiResponse
 import jakarta.validation.Valid
 import org.springframework.data.domain.Page
@@ -43,6 +44,29 @@ class PostController(private val postService: PostService) {
         return ApiResponse.of(true, HttpStatus.OK, "게시물 목록을 성공적으로 불러왔습니다", posts)
     }
 
+    @GetMapping("/cursor")
+    fun getPostsByCursor(
+        @RequestParam groupId: Long,
+        @RequestParam(defaultValue = "") search: String,
+        @RequestParam(defaultValue = "ALL") postStatus: PostStatus,
+        @RequestParam(required = false) cursor: String?,
+        @RequestParam(defaultValue = "20") size: Int,
+        @RequestParam(defaultValue = "false") withTotal: Boolean
+    ): ApiResponse<CursorPage<PostRespDto.GetPostListDto>> {
+        val posts = postService.getPostsByCursor(groupId, null, search, postStatus, cursor, size, withTotal)
+        return ApiResponse.of(true, HttpStatus.OK, "게시물 목록을 성공적으로 불러왔습니다", posts)
+    }
+
+    @GetMapping("/search")
+    fun searchPosts(
+        @RequestParam groupId: Long,
+        @RequestParam query: String,
+        @RequestParam(defaultValue = "20") limit: Int
+    ): ApiResponse<List<PostRespDto.GetPostListDto>> {
+        val posts = postService.searchPosts(groupId, query, limit)
+        return ApiResponse.of(true, HttpStatus.OK, "게시물 검색 결과를 성공적으로 불러왔습니다", posts)
+    }
+
     @GetMapping("/hot")
     fun getHotPosts(@RequestParam groupId: Long): ApiResponse<List<PostRespDto.GetPostListDto>> {
         val posts = postService.getTopFivePosts(groupId)
@@ -90,6 +114,20 @@ class PostController(private val postService: PostService) {
         return ApiResponse.of(true, HttpStatus.OK, "게시물 목록을 성공적으로 불러왔습니다", posts)
     }
 
+    @GetMapping("/members/cursor")
+    fun getMembersByCursor(
+        @Valid @ModelAttribute searchPost: SearchPostDto,
+        @RequestParam(required = false) cursor: String?,
+        @RequestParam(defaultValue = "20") size: Int,
+        @RequestParam(defaultValue = "false") withTotal: Boolean,
+        @AuthenticationPrincipal memberDetails: MemberDetails
+    ): ApiResponse<CursorPage<PostRespDto.GetPostListDto>> {
+        val posts = postService.getPostsByCursor(
+            searchPost.groupId, memberDetails.id!!, searchPost.search, searchPost.postStatus, cursor, size, withTotal
+        )
+        return ApiResponse.of(true, HttpStatus.OK, "게시물 목록을 성공적으로 불러왔습니다", posts)
+    }
+
     @PostMapping("/{postId}/like")
     fun createPostLike(
         @PathVariable postId: Long,
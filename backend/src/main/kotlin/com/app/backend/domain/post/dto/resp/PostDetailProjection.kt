@@ -0,0 +1,20 @@
+package com.app.backend.domain.post.dto.resp
+
+import com.app.backend.domain.post.entity.PostStatus
+import java.time.LocalDateTime
+
+/**
+ * 게시글 본문 조회 프로젝션(게시글 컬럼 + 작성자 닉네임), 엔티티를 영속성 컨텍스트에 올리지 않는다.
+ */
+data class PostDetailProjection(
+    val postId: Long,
+    val title: String,
+    val content: String,
+    val postStatus: PostStatus,
+    val memberId: Long,
+    val groupId: Long,
+    val createdAt: LocalDateTime,
+    val modifiedAt: LocalDateTime,
+    val likeCount: Int,
+    val memberNickname: String?
+)
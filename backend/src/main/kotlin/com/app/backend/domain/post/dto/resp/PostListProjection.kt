@@ -0,0 +1,17 @@
+package com.app.backend.domain.post.dto.resp
+
+import com.app.backend.domain.post.entity.PostStatus
+import java.time.LocalDateTime
+
+/**
+ * 게시글 목록 조회 프로젝션(목록에 필요한 컬럼만), 본문(content)을 읽지 않고 엔티티를 영속성 컨텍스트에 올리지 않는다.
+ */
+data class PostListProjection(
+    val postId: Long,
+    val title: String,
+    val postStatus: PostStatus,
+    val memberId: Long,
+    val nickName: String,
+    val createdAt: LocalDateTime,
+    val todayViewCount: Long
+)
@@ -27,27 +27,25 @@ sealed class PostRespDto {
     ) {
         companion object {
             fun from(
-                post: Post,
-                memberId: Long,
+                detail: PostDetailProjection,
                 memberNickName: String,
-                images: List<PostAttachmentRespDto.GetPostImageDto>? = emptyList(),
-                documents: List<PostAttachmentRespDto.GetPostDocumentDto>? = emptyList(),
-                isLiked: Boolean
+                images: List<PostAttachmentRespDto.GetPostImageDto>,
+                documents: List<PostAttachmentRespDto.GetPostDocumentDto>
             ): GetPostDto {
                 return GetPostDto(
-                    post.id!!,
-                    post.title,
-                    post.content,
-                    post.postStatus,
+                    detail.postId,
+                    detail.title,
+                    detail.content,
+                    detail.postStatus,
                     memberNickName,
-                    memberId,
-                    post.groupId,
-                    AppUtil.localDateTimeToString(post.createdAt),
-                    AppUtil.localDateTimeToString(post.modifiedAt),
-                    post.likeCount,
-                    isLiked,
-                    images?: emptyList(),
-                    documents?: emptyList()
+                    detail.memberId,
+                    detail.groupId,
+                    AppUtil.localDateTimeToString(detail.createdAt),
+                    AppUtil.localDateTimeToString(detail.modifiedAt),
+                    detail.likeCount,
+                    false,
+                    images,
+                    documents
                 )
             }
         }
@@ -74,6 +72,18 @@ sealed class PostRespDto {
                     post.todayViewCount
                 )
             }
+
+            fun from(post: PostListProjection): GetPostListDto {
+                return GetPostListDto(
+                    post.postId,
+                    post.title,
+                    post.postStatus,
+                    post.memberId,
+                    post.nickName,
+                    AppUtil.localDateTimeToString(post.createdAt),
+                    post.todayViewCount
+                )
+            }
         }
     }
 }
\ No newline at end of file
@@ -4,7 +4,13 @@ import com.app.backend.global.entity.BaseEntity
 import jakarta.persistence.*
 
 @Entity
-@Table(name = "tbl_posts")
+@Table(
+    name = "tbl_posts",
+    indexes = [
+        Index(name = "idx_posts_group_created", columnList = "group_id, disabled, created_at, post_id"),
+        Index(name = "idx_posts_group_status_created", columnList = "group_id, disabled, post_status, created_at")
+    ]
+)
 class Post @JvmOverloads constructor(
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
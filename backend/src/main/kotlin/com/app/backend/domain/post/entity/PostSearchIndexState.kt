@@ -0,0 +1,25 @@
+package com.app.backend.domain.post.entity
+
+import jakarta.persistence.Column
+import jakarta.persistence.Entity
+import jakarta.persistence.Id
+import jakarta.persistence.Table
+import java.time.LocalDateTime
+
+/**
+ * 게시글 검색 색인 백필 진행 상태, 행이 없으면 백필 시작 전이고 completed_at이 없으면 last_post_id까지 색인한 상태
+ */
+@Entity
+@Table(name = "tbl_post_search_index_state")
+class PostSearchIndexState(
+    @Id
+    @Column(name = "name", length = 50)
+    val name: String,
+
+    //기존 완료 행이 있는 테이블에도 컬럼을 추가할 수 있도록 기본값 지정
+    @Column(name = "last_post_id", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    val lastPostId: Long,
+
+    @Column(name = "completed_at")
+    val completedAt: LocalDateTime?
+)
@@ -0,0 +1,38 @@
+package com.app.backend.domain.post.entity
+
+import jakarta.persistence.*
+
+/**
+ * 게시글 검색 역색인(제목/본문 n-gram 토큰별 가중치)
+ *
+ * (post_id, token) 유니크 키로 동시 색인 시 중복 행을 막고, post_id 단독 조회(삭제)도 이 키를 사용한다.
+ * 토큰은 바이너리 콜레이션으로 비교하여 토크나이저가 구분하는 토큰(예: "fé"/"fe", 전각/반각 숫자)을 DB도 다른 값으로 취급한다.
+ */
+@Entity
+@Table(
+    name = "tbl_post_search_tokens",
+    uniqueConstraints = [
+        UniqueConstraint(name = "uk_post_search_tokens_post_token", columnNames = ["post_id", "token"])
+    ],
+    indexes = [
+        Index(name = "idx_post_search_tokens_group_token", columnList = "group_id, token, post_id, weight")
+    ]
+)
+class PostSearchToken(
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "post_search_token_id")
+    val id: Long? = null,
+
+    @Column(name = "post_id", nullable = false)
+    val postId: Long,
+
+    @Column(name = "group_id", nullable = false)
+    val groupId: Long,
+
+    @Column(nullable = false, columnDefinition = "varchar(8) collate utf8mb4_bin")
+    val token: String,
+
+    @Column(nullable = false)
+    val weight: Int
+)
@@ -9,5 +9,6 @@ enum class PostErrorCode(
     override val message: String
 ) : DomainErrorCode {
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "P001", "게시물 정보가 존재하지 않음"),
-    POST_UNAUTHORIZATION(HttpStatus.FORBIDDEN, "P002", "게시물 접근 권한이 없음");
+    POST_UNAUTHORIZATION(HttpStatus.FORBIDDEN, "P002", "게시물 접근 권한이 없음"),
+    POST_LIKE_CONFLICT(HttpStatus.CONFLICT, "P003", "좋아요 처리 중 충돌이 발생함");
 }
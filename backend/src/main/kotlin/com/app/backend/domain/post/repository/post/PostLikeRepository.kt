@@ -1,14 +1,13 @@
 package com.app.backend.domain.post.repository.post
 
-import com.app.backend.domain.member.entity.Member
-import com.app.backend.domain.post.entity.Post
 import com.app.backend.domain.post.entity.PostLike
-import jakarta.persistence.LockModeType
 import org.springframework.data.jpa.repository.JpaRepository
-import org.springframework.data.jpa.repository.Lock
+import org.springframework.data.jpa.repository.Query
 
-interface PostLikeRepository : JpaRepository<PostLike, Long> {
+interface PostLikeRepository : JpaRepository<PostLike, Long>, PostLikeRepositoryCustom {
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    fun findByPostAndMemberAndDisabled(post: Post, member: Member, disabled: Boolean): PostLike?
+    fun existsByPostIdAndMemberIdAndDisabled(postId: Long, memberId: Long, disabled: Boolean): Boolean
+
+    @Query("SELECT pl.member.id FROM PostLike pl WHERE pl.post.id = :postId AND pl.disabled = false")
+    fun findMemberIdsByPostId(postId: Long): List<Long>
 }
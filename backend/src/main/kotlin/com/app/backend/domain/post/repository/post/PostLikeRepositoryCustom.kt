@@ -0,0 +1,14 @@
+package com.app.backend.domain.post.repository.post
+
+interface PostLikeRepositoryCustom {
+
+    /**
+     * 좋아요 추가(JDBC 배치 INSERT), 이미 활성화된 좋아요가 있으면 추가하지 않음
+     */
+    fun insertLikes(postId: Long, memberIds: Collection<Long>)
+
+    /**
+     * 좋아요 취소(JDBC 배치 UPDATE)
+     */
+    fun disableLikes(postId: Long, memberIds: Collection<Long>)
+}
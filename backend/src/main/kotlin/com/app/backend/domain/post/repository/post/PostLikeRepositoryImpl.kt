@@ -0,0 +1,58 @@
+package com.app.backend.domain.post.repository.post
+
+import jakarta.persistence.EntityManager
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter
+import org.springframework.stereotype.Repository
+import java.sql.Timestamp
+import java.time.LocalDateTime
+
+@Repository
+class PostLikeRepositoryImpl(
+    private val jdbcTemplate: JdbcTemplate,
+    private val entityManager: EntityManager
+) : PostLikeRepositoryCustom {
+
+    companion object {
+        private const val INSERT_LIKE_SQL =
+            "INSERT INTO tbl_post_likes (post_id, member_id, created_at, modified_at, disabled) " +
+                    "SELECT ?, ?, ?, ?, false FROM DUAL WHERE NOT EXISTS " +
+                    "(SELECT 1 FROM tbl_post_likes WHERE post_id = ? AND member_id = ? AND disabled = false)"
+        private const val DISABLE_LIKE_SQL =
+            "UPDATE tbl_post_likes SET disabled = true, modified_at = ? WHERE post_id = ? AND member_id = ? AND disabled = false"
+    }
+
+    override fun insertLikes(postId: Long, memberIds: Collection<Long>) {
+        if (memberIds.isEmpty()) return
+
+        val now = Timestamp.valueOf(LocalDateTime.now())
+        batchUpdate(INSERT_LIKE_SQL, memberIds) { ps, memberId ->
+            ps.setLong(1, postId)
+            ps.setLong(2, memberId)
+            ps.setTimestamp(3, now)
+            ps.setTimestamp(4, now)
+            ps.setLong(5, postId)
+            ps.setLong(6, memberId)
+        }
+    }
+
+    override fun disableLikes(postId: Long, memberIds: Collection<Long>) {
+        if (memberIds.isEmpty()) return
+
+        val now = Timestamp.valueOf(LocalDateTime.now())
+        batchUpdate(DISABLE_LIKE_SQL, memberIds) { ps, memberId ->
+            ps.setTimestamp(1, now)
+            ps.setLong(2, postId)
+            ps.setLong(3, memberId)
+        }
+    }
+
+    /**
+     * 영속성 컨텍스트를 반영한 뒤 JDBC 배치를 실행하고, 이미 로딩된 엔티티가 이전 상태를 갖지 않도록 초기화
+     */
+    private fun <T> batchUpdate(sql: String, args: Collection<T>, setter: ParameterizedPreparedStatementSetter<T>) {
+        entityManager.flush()
+        jdbcTemplate.batchUpdate(sql, args, args.size, setter)
+        entityManager.clear()
+    }
+}
@@ -1,6 +1,7 @@
 package com.app.backend.domain.post.repository.post
 
 import com.app.backend.domain.post.entity.Post
+import org.springframework.data.domain.Pageable
 import org.springframework.data.jpa.repository.JpaRepository
 import org.springframework.data.jpa.repository.Lock
 import org.springframework.data.jpa.repository.Query
@@ -10,6 +11,10 @@ interface PostRepository : JpaRepository<Post, Long>, PostRepositoryCustom {
 
     fun findByIdAndDisabled(id: Long, disabled: Boolean): Post?
 
+    fun existsByIdAndDisabled(id: Long, disabled: Boolean): Boolean
+
+    fun findAllByDisabledAndIdGreaterThanOrderByIdAsc(disabled: Boolean, id: Long, pageable: Pageable): List<Post>
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM Post p WHERE p.id = :postId AND p.disabled = false")
     fun findByIdWithLock(postId: Long): Post?
@@ -1,29 +1,55 @@
 package com.app.backend.domain.post.repository.post
 
+import com.app.backend.domain.post.dto.resp.PostDetailProjection
+import com.app.backend.domain.post.dto.resp.PostListProjection
 import com.app.backend.domain.post.entity.Post
 import com.app.backend.domain.post.entity.PostStatus
+import com.app.backend.global.util.KeysetCursor
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.Pageable
 import java.time.LocalDateTime
 
 interface PostRepositoryCustom {
 
-    fun findAllBySearchStatus(
+    /**
+     * 게시글 본문과 작성자 닉네임을 한 번에 조회(필요한 컬럼만 프로젝션)
+     */
+    fun findDetailById(postId: Long, disabled: Boolean): PostDetailProjection?
+
+    /**
+     * 게시글 목록 조회(목록 컬럼만 프로젝션), memberId가 있으면 해당 회원이 작성한 게시글만 조회
+     *
+     * 마지막 페이지처럼 조회 결과로 전체 개수를 알 수 있으면 COUNT 쿼리를 생략한다.
+     */
+    fun findListBySearchStatus(
         groupId: Long,
+        memberId: Long?,
         search: String?,
-        postStatus: PostStatus = PostStatus.ALL,
+        postStatus: PostStatus,
         disabled: Boolean,
-        pageable: Pageable = Pageable.unpaged()
-    ): Page<Post>
+        pageable: Pageable
+    ): Page<PostListProjection>
 
-    fun findAllByUserAndSearchStatus(
+    /**
+     * (createdAt, id) 내림차순 키셋 페이지 조회, cursor 다음 게시글부터 limit개(OFFSET, COUNT 미사용)
+     */
+    fun findAllBySearchStatusAfter(
         groupId: Long,
-        memberId: Long,
+        memberId: Long?,
         search: String?,
-        postStatus: PostStatus = PostStatus.ALL,
+        postStatus: PostStatus,
         disabled: Boolean,
-        pageable: Pageable = Pageable.unpaged()
-    ): Page<Post>
+        cursor: KeysetCursor?,
+        limit: Int
+    ): List<PostListProjection>
+
+    fun countBySearchStatus(
+        groupId: Long,
+        memberId: Long?,
+        search: String?,
+        postStatus: PostStatus,
+        disabled: Boolean
+    ): Long
 
     fun findPostsByGroupIdOrderByTodayViewsCountDesc(
         groupId: Long,
@@ -31,5 +57,25 @@ interface PostRepositoryCustom {
         disabled: Boolean
     ): List<Post>
 
-    fun deleteAllByModifiedAtAndDisabled(lastModified: LocalDateTime, disabled: Boolean)
+    /**
+     * 수정일이 기준 시각 이전인 게시글 ID를 afterId 다음부터 limit개 조회(id 키셋 페이지)
+     */
+    fun findIdsByModifiedAtAndDisabled(lastModified: LocalDateTime, disabled: Boolean, afterId: Long, limit: Long): List<Long>
+
+    fun deleteAllByIdList(idList: List<Long>)
+
+    /**
+     * 게시글별 오늘 조회수 증가(JDBC 배치 UPDATE)
+     */
+    fun addTodayViewCounts(viewCounts: Map<Long, Long>)
+
+    /**
+     * 오늘 조회수를 누적 조회수에 합산하고 초기화(JDBC 배치 UPDATE)
+     */
+    fun refreshViewCounts(postIds: Collection<Long>)
+
+    /**
+     * 게시글별 좋아요 수 증감(JDBC 배치 UPDATE), 0 미만으로 내려가지 않음
+     */
+    fun addLikeCounts(likeCounts: Map<Long, Long>)
 }
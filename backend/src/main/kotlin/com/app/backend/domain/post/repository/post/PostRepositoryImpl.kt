@@ -1,99 +1,140 @@
 package com.app.backend.domain.post.repository.post
 
+import com.app.backend.domain.member.entity.QMember
+import com.app.backend.domain.post.dto.resp.PostDetailProjection
+import com.app.backend.domain.post.dto.resp.PostListProjection
 import com.app.backend.domain.post.entity.Post
 import com.app.backend.domain.post.entity.PostStatus
 import com.app.backend.domain.post.entity.QPost
+import com.app.backend.domain.post.entity.QPostSearchToken
+import com.app.backend.domain.post.repository.postSearch.PostSearchTokenRepository
+import com.app.backend.domain.post.util.PostSearchTokenizer
 import com.app.backend.global.error.exception.DomainException
 import com.app.backend.global.error.exception.GlobalErrorCode
+import com.app.backend.global.util.KeysetCursor
 import com.querydsl.core.types.Expression
 import com.querydsl.core.types.Order
 import com.querydsl.core.types.OrderSpecifier
+import com.querydsl.core.types.Projections
 import com.querydsl.core.types.dsl.BooleanExpression
 import com.querydsl.core.types.dsl.Expressions
+import com.querydsl.jpa.JPAExpressions
 import com.querydsl.jpa.impl.JPAQueryFactory
+import jakarta.persistence.EntityManager
 import org.springframework.data.domain.Page
-import org.springframework.data.domain.PageImpl
 import org.springframework.data.domain.Pageable
 import org.springframework.data.domain.Sort
+import org.springframework.data.support.PageableExecutionUtils
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter
 import org.springframework.stereotype.Repository
 import java.time.LocalDateTime
 
 @Repository
 class PostRepositoryImpl(
-    private val jpaQueryFactory: JPAQueryFactory
+    private val jpaQueryFactory: JPAQueryFactory,
+    private val jdbcTemplate: JdbcTemplate,
+    private val entityManager: EntityManager,
+    private val postSearchTokenRepository: PostSearchTokenRepository
 ) : PostRepositoryCustom {
 
-    override fun findAllBySearchStatus(
+    companion object {
+        private const val ADD_TODAY_VIEW_COUNT_SQL =
+            "UPDATE tbl_posts SET today_view_count = today_view_count + ? WHERE post_id = ?"
+        private const val REFRESH_VIEW_COUNT_SQL =
+            "UPDATE tbl_posts SET total_view_count = total_view_count + today_view_count, today_view_count = 0 WHERE post_id = ?"
+        private const val ADD_LIKE_COUNT_SQL =
+            "UPDATE tbl_posts SET like_count = GREATEST(like_count + ?, 0) WHERE post_id = ?"
+    }
+
+    override fun findDetailById(postId: Long, disabled: Boolean): PostDetailProjection? {
+        val post = QPost.post
+        val member = QMember.member
+
+        return jpaQueryFactory
+            .select(
+                Projections.constructor(
+                    PostDetailProjection::class.java,
+                    post.id,
+                    post.title,
+                    post.content,
+                    post.postStatus,
+                    post.memberId,
+                    post.groupId,
+                    post.createdAt,
+                    post.modifiedAt,
+                    post.likeCount,
+                    member.nickname
+                )
+            )
+            .from(post)
+            .leftJoin(member).on(member.id.eq(post.memberId))
+            .where(
+                post.id.eq(postId),
+                post.disabled.eq(disabled)
+            )
+            .fetchOne()
+    }
+
+    override fun findListBySearchStatus(
         groupId: Long,
+        memberId: Long?,
         search: String?,
         postStatus: PostStatus,
         disabled: Boolean,
         pageable: Pageable
-    ): Page<Post> {
+    ): Page<PostListProjection> {
         val post = QPost.post
 
-        val posts = jpaQueryFactory.selectFrom(post)
-            .where(
-                searchKeywordContains(post, search),
-                checkPostStatus(post, postStatus),
-                post.groupId.eq(groupId),
-                post.disabled.eq(disabled)
-            )
+        val posts = jpaQueryFactory.select(listProjection(post))
+            .from(post)
+            .where(*searchConditions(post, groupId, memberId, search, postStatus, disabled))
             .orderBy(*getSortCondition(pageable, post))
             .offset(pageable.offset)
             .limit(pageable.pageSize.toLong())
             .fetch()
 
-        val total = jpaQueryFactory
-            .select(post.count())
-            .from(post)
-            .where(
-                searchKeywordContains(post, search),
-                checkPostStatus(post, postStatus),
-                post.groupId.eq(groupId),
-                post.disabled.eq(disabled)
-            )
-            .fetchOne() ?: 0L
-
-        return PageImpl(posts, pageable, total)
+        return PageableExecutionUtils.getPage(posts, pageable) {
+            countBySearchStatus(groupId, memberId, search, postStatus, disabled)
+        }
     }
 
-    override fun findAllByUserAndSearchStatus(
+    override fun findAllBySearchStatusAfter(
         groupId: Long,
-        memberId: Long,
+        memberId: Long?,
         search: String?,
         postStatus: PostStatus,
         disabled: Boolean,
-        pageable: Pageable
-    ): Page<Post> {
+        cursor: KeysetCursor?,
+        limit: Int
+    ): List<PostListProjection> {
         val post = QPost.post
 
-        val posts = jpaQueryFactory.selectFrom(post)
+        return jpaQueryFactory.select(listProjection(post))
+            .from(post)
             .where(
-                searchKeywordContains(post, search),
-                checkPostStatus(post, postStatus),
-                post.groupId.eq(groupId),
-                post.memberId.eq(memberId),
-                post.disabled.eq(disabled)
+                *searchConditions(post, groupId, memberId, search, postStatus, disabled),
+                before(post, cursor)
             )
-            .orderBy(*getSortCondition(pageable, post))
-            .offset(pageable.offset)
-            .limit(pageable.pageSize.toLong())
+            .orderBy(post.createdAt.desc(), post.id.desc())
+            .limit(limit.toLong())
             .fetch()
+    }
+
+    override fun countBySearchStatus(
+        groupId: Long,
+        memberId: Long?,
+        search: String?,
+        postStatus: PostStatus,
+        disabled: Boolean
+    ): Long {
+        val post = QPost.post
 
-        val total = jpaQueryFactory
+        return jpaQueryFactory
             .select(post.count())
             .from(post)
-            .where(
-                searchKeywordContains(post, search),
-                checkPostStatus(post, postStatus),
-                post.groupId.eq(groupId),
-                post.memberId.eq(memberId),
-                post.disabled.eq(disabled)
-            )
+            .where(*searchConditions(post, groupId, memberId, search, postStatus, disabled))
             .fetchOne() ?: 0L
-
-        return PageImpl(posts, pageable, total)
     }
 
     override fun findPostsByGroupIdOrderByTodayViewsCountDesc(
@@ -114,19 +155,131 @@ class PostRepositoryImpl(
             .fetch()
     }
 
-    override fun deleteAllByModifiedAtAndDisabled(lastModified: LocalDateTime, disabled: Boolean) {
+    override fun findIdsByModifiedAtAndDisabled(
+        lastModified: LocalDateTime,
+        disabled: Boolean,
+        afterId: Long,
+        limit: Long
+    ): List<Long> {
         val post = QPost.post
-        jpaQueryFactory
-            .delete(post)
+        return jpaQueryFactory
+            .select(post.id)
+            .from(post)
             .where(
+                post.id.gt(afterId),
                 post.disabled.eq(disabled),
                 post.modifiedAt.loe(lastModified)
             )
+            .orderBy(post.id.asc())
+            .limit(limit)
+            .fetch()
+            .filterNotNull()
+    }
+
+    override fun deleteAllByIdList(idList: List<Long>) {
+        val post = QPost.post
+        jpaQueryFactory
+            .delete(post)
+            .where(post.id.`in`(idList))
             .execute()
     }
 
-    private fun searchKeywordContains(post: QPost, search: String?): BooleanExpression? {
-        return if (search.isNullOrEmpty()) null else post.title.containsIgnoreCase(search)
+    override fun addTodayViewCounts(viewCounts: Map<Long, Long>) {
+        if (viewCounts.isEmpty()) return
+
+        batchUpdate(ADD_TODAY_VIEW_COUNT_SQL, viewCounts.entries) { ps, entry ->
+            ps.setLong(1, entry.value)
+            ps.setLong(2, entry.key)
+        }
+    }
+
+    override fun refreshViewCounts(postIds: Collection<Long>) {
+        if (postIds.isEmpty()) return
+
+        batchUpdate(REFRESH_VIEW_COUNT_SQL, postIds) { ps, postId -> ps.setLong(1, postId) }
+    }
+
+    override fun addLikeCounts(likeCounts: Map<Long, Long>) {
+        if (likeCounts.isEmpty()) return
+
+        batchUpdate(ADD_LIKE_COUNT_SQL, likeCounts.entries) { ps, entry ->
+            ps.setLong(1, entry.value)
+            ps.setLong(2, entry.key)
+        }
+    }
+
+    /**
+     * 영속성 컨텍스트를 반영한 뒤 JDBC 배치를 실행하고, 이미 로딩된 엔티티가 이전 조회수를 갖지 않도록 초기화
+     */
+    private fun <T> batchUpdate(sql: String, args: Collection<T>, setter: ParameterizedPreparedStatementSetter<T>) {
+        entityManager.flush()
+        jdbcTemplate.batchUpdate(sql, args, args.size, setter)
+        entityManager.clear()
+    }
+
+    private fun listProjection(post: QPost) = Projections.constructor(
+        PostListProjection::class.java,
+        post.id,
+        post.title,
+        post.postStatus,
+        post.memberId,
+        post.nickName,
+        post.createdAt,
+        post.todayViewCount
+    )
+
+    private fun searchConditions(
+        post: QPost,
+        groupId: Long,
+        memberId: Long?,
+        search: String?,
+        postStatus: PostStatus,
+        disabled: Boolean
+    ): Array<BooleanExpression?> = arrayOf(
+        searchKeywordContains(post, groupId, search),
+        checkPostStatus(post, postStatus),
+        post.groupId.eq(groupId),
+        memberId?.let { post.memberId.eq(it) },
+        post.disabled.eq(disabled)
+    )
+
+    /**
+     * (createdAt, id) < (cursor.createdAt, cursor.id)
+     */
+    private fun before(post: QPost, cursor: KeysetCursor?): BooleanExpression? {
+        if (cursor == null) return null
+        return post.createdAt.lt(cursor.createdAt)
+            .or(post.createdAt.eq(cursor.createdAt).and(post.id.lt(cursor.id)))
+    }
+
+    /**
+     * 검색 역색인에서 검색어 토큰을 모두 포함한 게시글로 제한(제목/본문), 토큰을 만들 수 없는 1글자 검색어는 제목 부분 일치
+     * 백필 완료 전에는 색인되지 않은 게시글도 찾을 수 있도록 제목 부분 일치를 함께 사용
+     */
+    private fun searchKeywordContains(post: QPost, groupId: Long, search: String?): BooleanExpression? {
+        if (search.isNullOrEmpty()) return null
+
+        val tokens = PostSearchTokenizer.queryTokens(search)
+        if (tokens.isEmpty()) return post.title.containsIgnoreCase(search)
+
+        val indexed = tokensContain(post, groupId, tokens)
+        return if (postSearchTokenRepository.isBackfillCompleted()) indexed
+        else indexed.or(post.title.containsIgnoreCase(search))
+    }
+
+    private fun tokensContain(post: QPost, groupId: Long, tokens: Set<String>): BooleanExpression {
+        val postSearchToken = QPostSearchToken.postSearchToken
+        return post.id.`in`(
+            JPAExpressions
+                .select(postSearchToken.postId)
+                .from(postSearchToken)
+                .where(
+                    postSearchToken.groupId.eq(groupId),
+                    postSearchToken.token.`in`(tokens)
+                )
+                .groupBy(postSearchToken.postId)
+                .having(postSearchToken.token.countDistinct().eq(tokens.size.toLong()))
+        )
     }
 
     private fun checkPostStatus(post: QPost, postStatus: PostStatus): BooleanExpression? {
@@ -8,6 +8,8 @@ interface PostAttachmentRepository : JpaRepository<PostAttachment, Long>, PostAt
 
     fun findByPostIdAndDisabled(postId: Long, disabled: Boolean): List<PostAttachment>
 
+    fun findByPostIdAndDisabledOrderByCreatedAtDesc(postId: Long, disabled: Boolean): List<PostAttachment>
+
     fun findByPostIdAndFileTypeAndDisabledOrderByCreatedAtDesc(postId: Long, fileType: FileType, disabled: Boolean): List<PostAttachment>
 
     fun findByPostIdAndFileTypeOrderByCreatedAtDesc(postId: Long, fileType: FileType): List<PostAttachment>
@@ -5,7 +5,15 @@ import java.time.LocalDateTime
 
 interface PostAttachmentRepositoryCustom {
 
-    fun findAllByModifiedAtAndDisabled(lastModified: LocalDateTime, disabled: Boolean): List<PostAttachment>
+    /**
+     * 수정일이 기준 시각 이전인 첨부파일을 afterId 다음부터 limit개 조회(id 키셋 페이지)
+     */
+    fun findAllByModifiedAtAndDisabled(
+        lastModified: LocalDateTime,
+        disabled: Boolean,
+        afterId: Long,
+        limit: Long
+    ): List<PostAttachment>
 
     fun deleteByIdList(idList: List<Long>)
 
@@ -11,14 +11,22 @@ class PostAttachmentRepositoryImpl(
     private val jpaQueryFactory: JPAQueryFactory
 ) : PostAttachmentRepositoryCustom {
 
-    override fun findAllByModifiedAtAndDisabled(lastModified: LocalDateTime, disabled: Boolean): List<PostAttachment> {
+    override fun findAllByModifiedAtAndDisabled(
+        lastModified: LocalDateTime,
+        disabled: Boolean,
+        afterId: Long,
+        limit: Long
+    ): List<PostAttachment> {
         val postAttachment = QPostAttachment.postAttachment
         return jpaQueryFactory
             .selectFrom(postAttachment)
             .where(
+                postAttachment.id.gt(afterId),
                 postAttachment.disabled.eq(disabled),
                 postAttachment.modifiedAt.loe(lastModified)
             )
+            .orderBy(postAttachment.id.asc())
+            .limit(limit)
             .fetch()
     }
 
@@ -50,7 +58,7 @@ class PostAttachmentRepositoryImpl(
         val postAttachment = QPostAttachment.postAttachment
         jpaQueryFactory
             .delete(postAttachment)
-            .where(postAttachment.postId.`in`(fileIdList))
+            .where(postAttachment.id.`in`(fileIdList))
             .execute()
     }
 }
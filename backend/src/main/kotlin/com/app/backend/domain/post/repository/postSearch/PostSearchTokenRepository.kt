@@ -0,0 +1,6 @@
+package com.app.backend.domain.post.repository.postSearch
+
+import com.app.backend.domain.post.entity.PostSearchToken
+import org.springframework.data.jpa.repository.JpaRepository
+
+interface PostSearchTokenRepository : JpaRepository<PostSearchToken, Long>, PostSearchTokenRepositoryCustom
@@ -0,0 +1,40 @@
+package com.app.backend.domain.post.repository.postSearch
+
+interface PostSearchTokenRepositoryCustom {
+
+    /**
+     * 게시글의 토큰을 모두 삭제하고 새 토큰 저장(JDBC 배치 INSERT)
+     */
+    fun replaceTokens(postId: Long, groupId: Long, tokens: Map<String, Int>)
+
+    fun deleteByPostId(postId: Long)
+
+    /**
+     * 모든 토큰을 포함한 게시글 ID를 가중치 합 내림차순으로 조회
+     */
+    fun searchPostIds(groupId: Long, tokens: Collection<String>, limit: Long): List<Long>
+
+    /**
+     * 제목 부분 일치 게시글 ID를 최신순으로 조회(백필 완료 전 색인되지 않은 게시글 검색용)
+     */
+    fun searchPostIdsByTitle(groupId: Long, query: String, excludeIds: Collection<Long>, limit: Long): List<Long>
+
+    /**
+     * 토큰이 저장된 게시글 ID 조회
+     */
+    fun findIndexedPostIds(postIds: Collection<Long>): Set<Long>
+
+    /**
+     * 색인 도입 전 게시글 백필 완료 여부, 한 번 완료되면 되돌아가지 않으므로 완료 후에는 DB를 조회하지 않음
+     */
+    fun isBackfillCompleted(): Boolean
+
+    /**
+     * 백필로 색인을 마친 마지막 게시글 ID, 시작 전이면 0
+     */
+    fun findBackfillProgress(): Long
+
+    fun saveBackfillProgress(lastPostId: Long)
+
+    fun markBackfillCompleted(lastPostId: Long)
+}
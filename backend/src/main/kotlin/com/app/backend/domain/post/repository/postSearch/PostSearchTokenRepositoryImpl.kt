@@ -0,0 +1,130 @@
+package com.app.backend.domain.post.repository.postSearch
+
+import com.app.backend.domain.post.entity.QPost
+import com.app.backend.domain.post.entity.QPostSearchToken
+import com.querydsl.jpa.impl.JPAQueryFactory
+import org.springframework.dao.DuplicateKeyException
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.stereotype.Repository
+import java.sql.Timestamp
+import java.time.LocalDateTime
+
+@Repository
+class PostSearchTokenRepositoryImpl(
+    private val jpaQueryFactory: JPAQueryFactory,
+    private val jdbcTemplate: JdbcTemplate
+) : PostSearchTokenRepositoryCustom {
+
+    companion object {
+        private const val DELETE_TOKENS_SQL = "DELETE FROM tbl_post_search_tokens WHERE post_id = ?"
+        private const val INSERT_TOKEN_SQL =
+            "INSERT INTO tbl_post_search_tokens (post_id, group_id, token, weight) VALUES (?, ?, ?, ?)"
+        private const val BACKFILL_STATE = "backfill"
+        private const val COUNT_COMPLETED_SQL =
+            "SELECT COUNT(*) FROM tbl_post_search_index_state WHERE name = ? AND completed_at IS NOT NULL"
+        private const val SELECT_PROGRESS_SQL = "SELECT last_post_id FROM tbl_post_search_index_state WHERE name = ?"
+        private const val UPDATE_STATE_SQL =
+            "UPDATE tbl_post_search_index_state SET last_post_id = ?, completed_at = ? WHERE name = ?"
+        private const val INSERT_STATE_SQL =
+            "INSERT INTO tbl_post_search_index_state (name, last_post_id, completed_at) VALUES (?, ?, ?)"
+    }
+
+    @Volatile
+    private var backfillCompleted = false
+
+    // 토큰은 JPA 엔티티로 수정하지 않으므로 영속성 컨텍스트를 반영/초기화하지 않고 JDBC로 직접 실행
+    override fun replaceTokens(postId: Long, groupId: Long, tokens: Map<String, Int>) {
+        deleteByPostId(postId)
+        if (tokens.isEmpty()) return
+
+        jdbcTemplate.batchUpdate(INSERT_TOKEN_SQL, tokens.entries, tokens.size) { ps, entry ->
+            ps.setLong(1, postId)
+            ps.setLong(2, groupId)
+            ps.setString(3, entry.key)
+            ps.setInt(4, entry.value)
+        }
+    }
+
+    override fun deleteByPostId(postId: Long) {
+        jdbcTemplate.update(DELETE_TOKENS_SQL, postId)
+    }
+
+    override fun searchPostIds(groupId: Long, tokens: Collection<String>, limit: Long): List<Long> {
+        if (tokens.isEmpty()) return emptyList()
+
+        val postSearchToken = QPostSearchToken.postSearchToken
+        return jpaQueryFactory
+            .select(postSearchToken.postId)
+            .from(postSearchToken)
+            .where(
+                postSearchToken.groupId.eq(groupId),
+                postSearchToken.token.`in`(tokens)
+            )
+            .groupBy(postSearchToken.postId)
+            .having(postSearchToken.token.countDistinct().eq(tokens.size.toLong()))
+            .orderBy(postSearchToken.weight.sum().desc(), postSearchToken.postId.desc())
+            .limit(limit)
+            .fetch()
+    }
+
+    override fun searchPostIdsByTitle(
+        groupId: Long,
+        query: String,
+        excludeIds: Collection<Long>,
+        limit: Long
+    ): List<Long> {
+        val post = QPost.post
+        return jpaQueryFactory
+            .select(post.id)
+            .from(post)
+            .where(
+                post.groupId.eq(groupId),
+                post.disabled.eq(false),
+                post.title.containsIgnoreCase(query),
+                if (excludeIds.isEmpty()) null else post.id.notIn(excludeIds)
+            )
+            .orderBy(post.id.desc())
+            .limit(limit)
+            .fetch()
+    }
+
+    override fun findIndexedPostIds(postIds: Collection<Long>): Set<Long> {
+        if (postIds.isEmpty()) return emptySet()
+
+        val postSearchToken = QPostSearchToken.postSearchToken
+        return jpaQueryFactory
+            .selectDistinct(postSearchToken.postId)
+            .from(postSearchToken)
+            .where(postSearchToken.postId.`in`(postIds))
+            .fetch()
+            .toSet()
+    }
+
+    override fun isBackfillCompleted(): Boolean {
+        if (backfillCompleted) return true
+        backfillCompleted = jdbcTemplate.queryForObject(COUNT_COMPLETED_SQL, Long::class.java, BACKFILL_STATE)!! > 0
+        return backfillCompleted
+    }
+
+    override fun findBackfillProgress(): Long =
+        jdbcTemplate.queryForList(SELECT_PROGRESS_SQL, Long::class.java, BACKFILL_STATE).firstOrNull() ?: 0L
+
+    override fun saveBackfillProgress(lastPostId: Long) {
+        saveState(lastPostId, null)
+    }
+
+    override fun markBackfillCompleted(lastPostId: Long) {
+        saveState(lastPostId, Timestamp.valueOf(LocalDateTime.now()))
+        backfillCompleted = true
+    }
+
+    private fun saveState(lastPostId: Long, completedAt: Timestamp?) {
+        if (jdbcTemplate.update(UPDATE_STATE_SQL, lastPostId, completedAt, BACKFILL_STATE) > 0) return
+        try {
+            jdbcTemplate.update(INSERT_STATE_SQL, BACKFILL_STATE, lastPostId, completedAt)
+        } catch (e: DuplicateKeyException) {
+            // 다른 노드가 먼저 상태 행을 생성
+            jdbcTemplate.update(UPDATE_STATE_SQL, lastPostId, completedAt, BACKFILL_STATE)
+        }
+    }
+}
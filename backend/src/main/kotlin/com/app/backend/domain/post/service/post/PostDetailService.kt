@@ -0,0 +1,51 @@
+package com.app.backend.domain.post.service.post
+
+import com.app.backend.domain.attachment.entity.FileType
+import com.app.backend.domain.post.dto.resp.PostAttachmentRespDto
+import com.app.backend.domain.post.dto.resp.PostRespDto
+import com.app.backend.domain.post.exception.PostErrorCode
+import com.app.backend.domain.post.exception.PostException
+import com.app.backend.domain.post.repository.post.PostRepository
+import com.app.backend.domain.post.repository.postAttachment.PostAttachmentRepository
+import com.app.backend.global.annotation.CustomCache
+import com.app.backend.global.config.FileConfig
+import com.app.backend.global.error.exception.GlobalErrorCode
+import org.springframework.stereotype.Service
+import org.springframework.transaction.annotation.Transactional
+
+/**
+ * 모든 회원이 공유하는 게시글 본문 조회(캐시 대상)
+ *
+ * 회원별 좋아요 여부는 포함하지 않으며(liked = false), PostService.getPost에서 합친다.
+ */
+@Service
+@Transactional(readOnly = true)
+class PostDetailService(
+    private val fileConfig: FileConfig,
+    private val postRepository: PostRepository,
+    private val postAttachmentRepository: PostAttachmentRepository
+) {
+    @CustomCache(
+        prefix = "post", key = "postid", id = "postId", viewCount = true, viewCountTtl = 10, history = true,
+        tags = ["'post:' + #postId", "'group:' + #result.groupId", "'member:' + #result.memberId"]
+    )
+    fun getPostDetail(postId: Long): PostRespDto.GetPostDto {
+        val detail = postRepository.findDetailById(postId, false)
+            ?: throw PostException(PostErrorCode.POST_NOT_FOUND)
+
+        val memberNickname = detail.memberNickname
+            ?: throw PostException(GlobalErrorCode.ENTITY_NOT_FOUND)
+
+        // 첨부파일은 한 번에 조회한 뒤 메모리에서 이미지/문서로 분리
+        val attachments = postAttachmentRepository.findByPostIdAndDisabledOrderByCreatedAtDesc(postId, false)
+            .groupBy { it.fileType }
+
+        val documents = attachments[FileType.DOCUMENT].orEmpty()
+            .map { PostAttachmentRespDto.GetPostDocumentDto.from(it) }
+
+        val images = attachments[FileType.IMAGE].orEmpty()
+            .map { PostAttachmentRespDto.GetPostImageDto.from(it, fileConfig.getImageDir()) }
+
+        return PostRespDto.GetPostDto.from(detail, memberNickname, images, documents)
+    }
+}
@@ -1,6 +1,5 @@
 package com.app.backend.domain.post.service.post;
 
-import com.app.backend.domain.attachment.entity.FileType
 import com.app.backend.domain.attachment.exception.FileErrorCode
 import com.app.backend.domain.attachment.exception.FileException
 import com.app.backend.domain.attachment.service.FileService
@@ -14,26 +13,29 @@ import com.app.backend.domain.group.repository.GroupMembershipRepository
 import com.app.backend.domain.member.entity.Member
 import com.app.backend.domain.member.repository.MemberRepository
 import com.app.backend.domain.post.dto.req.PostReqDto
-import com.app.backend.domain.post.dto.resp.PostAttachmentRespDto
 import com.app.backend.domain.post.dto.resp.PostRespDto
 import com.app.backend.domain.post.entity.Post
 import com.app.backend.domain.post.entity.PostAttachment
-import com.app.backend.domain.post.entity.PostLike
 import com.app.backend.domain.post.entity.PostStatus
 import com.app.backend.domain.post.exception.PostErrorCode
 import com.app.backend.domain.post.exception.PostException
-import com.app.backend.domain.post.repository.post.PostLikeRepository
 import com.app.backend.domain.post.repository.post.PostRepository
 import com.app.backend.domain.post.repository.postAttachment.PostAttachmentRepository
+import com.app.backend.domain.post.service.postLike.PostLikerService
+import com.app.backend.domain.post.service.postSearch.PostSearchService
+import com.app.backend.domain.post.service.postTrending.PostTrendingService
 import com.app.backend.global.annotation.CustomCache
 import com.app.backend.global.annotation.CustomCacheDelete
 import com.app.backend.global.config.FileConfig
+import com.app.backend.global.dto.response.CursorPage
 import com.app.backend.global.error.exception.GlobalErrorCode
+import com.app.backend.global.util.KeysetCursor
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.Pageable
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
 import org.springframework.web.multipart.MultipartFile
+import java.util.concurrent.TimeUnit
 
 @Service
 @Transactional(readOnly = true)
@@ -42,12 +44,20 @@ class PostService(
     private val fileService: FileService,
     private val postRepository: PostRepository,
     private val memberRepository: MemberRepository,
-    private val postLikeRepository: PostLikeRepository,
     private val postAttachmentRepository: PostAttachmentRepository,
-    private val groupMembershipRepository: GroupMembershipRepository
+    private val groupMembershipRepository: GroupMembershipRepository,
+    private val postDetailService: PostDetailService,
+    private val postLikerService: PostLikerService,
+    private val postTrendingService: PostTrendingService,
+    private val postSearchService: PostSearchService
 ) {
     private val MAX_FILE_SIZE = 10 * 1024 * 1024;
 
+    companion object {
+        private const val TOP_POSTS_LIMIT = 5
+        private const val MAX_CURSOR_PAGE_SIZE = 100
+    }
+
     fun checkMembership(postId: Long, memberId: Long) {
         val post = getPostEntity(postId)
 
@@ -56,27 +66,35 @@ class PostService(
         }
     }
 
-    @CustomCache(prefix = "post", key = "postid", id = "postId", viewCount = true, viewCountTtl = 10, history = true)
+    /**
+     * 캐시된 게시글 본문에 회원별 좋아요 여부와 DB 반영 전 좋아요 수를 합쳐 반환
+     */
     fun getPost(postId: Long, memberId: Long): PostRespDto.GetPostDto {
-        val post = getPostEntity(postId)
-
-        val member = getMemberEntity(post.memberId)
-
-        val documents = postAttachmentRepository
-            .findByPostIdAndFileTypeAndDisabledOrderByCreatedAtDesc(postId, FileType.DOCUMENT, false)
-            .map { PostAttachmentRespDto.GetPostDocumentDto.from(it) }
-
-        val images = postAttachmentRepository
-            .findByPostIdAndFileTypeAndDisabledOrderByCreatedAtDesc(postId, FileType.IMAGE, false)
-            .map { PostAttachmentRespDto.GetPostImageDto.from(it, fileConfig.getImageDir()) }
-
-        return PostRespDto.GetPostDto.from(post, member.id!!, member.nickname!!, images, documents, isLiked(postId, memberId)
-        )
+        val post = postDetailService.getPostDetail(postId)
+        postTrendingService.recordView(post.groupId, postId, memberId)
+        val likeState = postLikerService.getLikeState(postId, memberId)
+        return post.copy(liked = likeState.liked, likeCount = likeState.likeCount ?: post.likeCount)
     }
 
-    @CustomCache(prefix = "post", key = "groupid", id = "groupId", ttl = 1)
-    fun getTopFivePosts(groupId: Long) = postRepository.findPostsByGroupIdOrderByTodayViewsCountDesc(groupId, 5, false)
-        .map { PostRespDto.GetPostListDto.from(it) }
+    /**
+     * 인기 게시글 순위(Redis)를 우선 사용하고, 순위가 부족하면 오늘 조회수 순으로 채움
+     */
+    @CustomCache(
+        prefix = "post", key = "groupid", id = "groupId", ttl = 5, ttlUnit = TimeUnit.SECONDS,
+        tags = ["'group:' + #groupId"]
+    )
+    fun getTopFivePosts(groupId: Long): List<PostRespDto.GetPostListDto> {
+        val trendingIds = postTrendingService.getTopPostIds(groupId, TOP_POSTS_LIMIT)
+        val trending = if (trendingIds.isEmpty()) emptyList()
+        else postRepository.findAllById(trendingIds).filter { !it.disabled }.sortedBy { trendingIds.indexOf(it.id) }
+
+        val posts = if (trending.size >= TOP_POSTS_LIMIT) trending
+        else (trending + postRepository.findPostsByGroupIdOrderByTodayViewsCountDesc(groupId, TOP_POSTS_LIMIT, false))
+            .distinctBy { it.id }
+            .take(TOP_POSTS_LIMIT)
+
+        return posts.map { PostRespDto.GetPostListDto.from(it) }
+    }
 
     fun getPostsBySearch(
         groupId: Long,
@@ -84,7 +102,7 @@ class PostService(
         postStatus: PostStatus,
         pageable: Pageable
     ): Page<PostRespDto.GetPostListDto> = postRepository
-        .findAllBySearchStatus(groupId, search, postStatus, false, pageable)
+        .findListBySearchStatus(groupId, null, search, postStatus, false, pageable)
         .map { PostRespDto.GetPostListDto.from(it) }
 
     fun getPostsByUser(
@@ -92,7 +110,7 @@ class PostService(
         pageable: Pageable,
         memberId: Long
     ): Page<PostRespDto.GetPostListDto> = postRepository
-        .findAllByUserAndSearchStatus(
+        .findListBySearchStatus(
             searchPost.groupId,
             memberId,
             searchPost.search,
@@ -102,6 +120,46 @@ class PostService(
         )
         .map { PostRespDto.GetPostListDto.from(it) }
 
+    /**
+     * 커서 기반 게시글 목록 조회, memberId가 있으면 해당 회원이 작성한 게시글만 조회
+     *
+     * 다음 페이지 여부는 size + 1개를 조회해 판단하고, 전체 개수는 withTotal인 경우에만 조회한다.
+     */
+    fun getPostsByCursor(
+        groupId: Long,
+        memberId: Long?,
+        search: String,
+        postStatus: PostStatus,
+        cursor: String?,
+        size: Int,
+        withTotal: Boolean
+    ): CursorPage<PostRespDto.GetPostListDto> {
+        val limit = size.coerceIn(1, MAX_CURSOR_PAGE_SIZE)
+        val posts = postRepository.findAllBySearchStatusAfter(
+            groupId, memberId, search, postStatus, false, KeysetCursor.decode(cursor), limit + 1
+        )
+
+        val hasNext = posts.size > limit
+        val content = posts.take(limit)
+        return CursorPage(
+            content.map { PostRespDto.GetPostListDto.from(it) },
+            if (hasNext) content.last().let { KeysetCursor(it.createdAt, it.postId).encode() } else null,
+            hasNext,
+            if (withTotal) postRepository.countBySearchStatus(groupId, memberId, search, postStatus, false) else null
+        )
+    }
+
+    /**
+     * 제목/본문 검색, 검색어를 모두 포함한 게시글을 관련도순으로 조회
+     */
+    fun searchPosts(groupId: Long, query: String, limit: Int): List<PostRespDto.GetPostListDto> {
+        val postIds = postSearchService.searchPostIds(groupId, query, limit.coerceIn(1, MAX_CURSOR_PAGE_SIZE))
+        if (postIds.isEmpty()) return emptyList()
+
+        val posts = postRepository.findAllById(postIds).filter { !it.disabled }.associateBy { it.id!! }
+        return postIds.mapNotNull { posts[it] }.map { PostRespDto.GetPostListDto.from(it) }
+    }
+
     @Transactional
     fun savePost(memberId: Long, savePost: PostReqDto.SavePostDto, files: Array<MultipartFile?>?): Post {
         val membership = getMemberShipEntity(savePost.groupId, memberId)
@@ -121,6 +179,7 @@ class PostService(
         val post = postRepository.save(savePost.toEntity(memberId, member.nickname!!))
 
         saveFiles(files, post)
+        postSearchService.index(post)
 
         return post
     }
@@ -155,6 +214,7 @@ class PostService(
         modifyPost.removeIdList?.takeIf { it.isNotEmpty() }?.let {
             postAttachmentRepository.deleteByIdList(it)
         }
+        postSearchService.index(post)
 
         return post
     }
@@ -175,6 +235,8 @@ class PostService(
 
         postAttachmentRepository.deleteByPostId(postId)
         post.delete()
+        postSearchService.remove(postId)
+        postTrendingService.remove(post.groupId, postId)
     }
 
     fun getMemberEntity(memberId: Long): Member =
@@ -234,34 +296,21 @@ class PostService(
         }
     }
 
-    @Transactional
-    @CustomCacheDelete(prefix = "post", key = "postid", id = "postId")
+    /**
+     * 좋아요 토글, DB 행 락 없이 Redis에 기록하고 PostScheduler.reconcileLikes가 주기적으로 DB에 반영
+     */
     fun PostLike(postId: Long, memberId: Long): Boolean {
-        val post = postRepository.findByIdWithLock(postId) ?: throw PostException(PostErrorCode.POST_NOT_FOUND)
-
-        val member = memberRepository.findById(memberId)
-            .orElseThrow { PostException(GlobalErrorCode.ENTITY_NOT_FOUND) }
-
-        val postLike = postLikeRepository.findByPostAndMemberAndDisabled(post, member, false)
+        val post = getPostEntity(postId)
 
-        if (postLike != null) {
-            postLike.delete()
-            post.removeLikeCount()
-            return false
-        } else {
-            postLikeRepository.save(PostLike(null, member, post))
-            post.addLikeCount()
-            return true
-        }
+        val liked = postLikerService.toggle(postId, memberId)
+        postTrendingService.onLikeToggled(post.groupId, postId, memberId, liked)
+        return liked
     }
 
     fun isLiked(postId: Long, memberId: Long): Boolean {
-        val post = postRepository.findById(postId)
-            .orElseThrow { PostException(PostErrorCode.POST_NOT_FOUND) }
-
-        val member = memberRepository.findById(memberId)
-            .orElseThrow { PostException(GlobalErrorCode.ENTITY_NOT_FOUND) }
+        if (!postRepository.existsByIdAndDisabled(postId, false))
+            throw PostException(PostErrorCode.POST_NOT_FOUND)
 
-        return postLikeRepository.findByPostAndMemberAndDisabled(post, member, false) != null
+        return postLikerService.isLiked(postId, memberId)
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,221 @@
+package com.app.backend.domain.post.service.postLike
+
+import com.app.backend.domain.post.exception.PostErrorCode
+import com.app.backend.domain.post.exception.PostException
+import com.app.backend.domain.post.repository.post.PostLikeRepository
+import io.github.oshai.kotlinlogging.KotlinLogging
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.script.DefaultRedisScript
+import org.springframework.stereotype.Service
+import java.time.Duration
+
+/**
+ * 게시글별 좋아요 회원 목록(Redis Set)과 DB 반영 대기 목록(write-behind)
+ *
+ * 캐시된 게시글 본문은 모든 회원이 공유하고, 회원별 좋아요 여부와 좋아요 수는 이 Set에서 조회하여 응답 시 합친다.
+ * Set이 없으면 DB에서 한 번 적재하며, 좋아요가 없는 게시글도 적재 여부를 알 수 있도록 빈 값 표시(SENTINEL)를 함께 저장한다.
+ *
+ * 좋아요 토글은 DB 행 락 없이 Set에만 반영하고, 회원별 최종 상태(pending)와 좋아요 수 증감(delta)을 쌓아 두면
+ * PostScheduler.reconcileLikes가 주기적으로 tbl_post_likes, tbl_posts.like_count에 배치 반영한다.
+ * 반영 대기 중인 Set은 만료되지 않도록 TTL을 해제하고, 반영 후 다시 TTL을 설정한다.
+ */
+@Service
+class PostLikerService(
+    private val stringRedisTemplate: StringRedisTemplate,
+    private val postLikeRepository: PostLikeRepository,
+    @Value("\${cache.post-likers.ttl:1h}") ttl: Duration
+) {
+    companion object {
+        private const val KEY_PREFIX = "post:likers"
+        private const val PENDING_PREFIX = "post:likes:pending"
+        private const val DELTA_KEY = "post:likes:delta"
+        private const val DIRTY_KEY = "post:likes:dirty"
+        private const val SENTINEL = "_"
+        private const val MAX_TOGGLE_ATTEMPTS = 3
+
+        // KEYS: 1 좋아요 회원 Set, ARGV: 1 회원 ID / Set이 없으면 { -1 }, 있으면 { 좋아요 여부, 좋아요 수 }
+        private val CONTAINS_SCRIPT = DefaultRedisScript(
+            """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return { -1 }
+            end
+            return { redis.call('SISMEMBER', KEYS[1], ARGV[1]), redis.call('SCARD', KEYS[1]) - 1 }
+            """.trimIndent(),
+            List::class.java
+        )
+
+        // KEYS: 1 좋아요 회원 Set, ARGV: 1 TTL(ms), 2.. 회원 ID / 다른 요청이 먼저 적재한 경우 덮어쓰지 않음
+        private val LOAD_SCRIPT = DefaultRedisScript(
+            """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            for i = 2, #ARGV do
+                redis.call('SADD', KEYS[1], ARGV[i])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """.trimIndent(),
+            Long::class.java
+        )
+
+        // KEYS: 1 좋아요 회원 Set, 2 반영 대기 Hash, 3 좋아요 수 증감 Hash, 4 반영 대기 게시글 Set
+        // ARGV: 1 회원 ID, 2 게시글 ID / Set이 없으면 -1, 토글 후 좋아요 상태(1, 0)
+        private val TOGGLE_SCRIPT = DefaultRedisScript(
+            """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local liked = 1
+            if redis.call('SREM', KEYS[1], ARGV[1]) == 1 then
+                liked = 0
+            else
+                redis.call('SADD', KEYS[1], ARGV[1])
+            end
+            redis.call('PERSIST', KEYS[1])
+            redis.call('HSET', KEYS[2], ARGV[1], liked)
+            redis.call('HINCRBY', KEYS[3], ARGV[2], liked == 1 and 1 or -1)
+            redis.call('SADD', KEYS[4], ARGV[2])
+            return liked
+            """.trimIndent(),
+            Long::class.java
+        )
+
+        // KEYS: 1 반영 대기 Hash, 2 좋아요 수 증감 Hash, 3 좋아요 회원 Set, ARGV: 1 게시글 ID, 2 TTL(ms)
+        // 반영 대기 목록을 꺼내고 { 좋아요 수 증감, 회원 ID, 상태, 회원 ID, 상태, ... } 반환
+        private val DRAIN_SCRIPT = DefaultRedisScript(
+            """
+            local changes = redis.call('HGETALL', KEYS[1])
+            local result = { redis.call('HGET', KEYS[2], ARGV[1]) or '0' }
+            for i = 1, #changes do
+                result[i + 1] = changes[i]
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('HDEL', KEYS[2], ARGV[1])
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+                redis.call('PEXPIRE', KEYS[3], ARGV[2])
+            end
+            return result
+            """.trimIndent(),
+            List::class.java
+        )
+
+        // KEYS: 1 반영 대기 Hash, 2 좋아요 수 증감 Hash, 3 반영 대기 게시글 Set, 4 좋아요 회원 Set
+        // ARGV: 1 게시글 ID, 2 좋아요 수 증감, 3.. 회원 ID, 상태 / 꺼낸 뒤 새로 토글된 상태는 덮어쓰지 않음
+        private val RESTORE_SCRIPT = DefaultRedisScript(
+            """
+            for i = 3, #ARGV, 2 do
+                redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('HINCRBY', KEYS[2], ARGV[1], ARGV[2])
+            redis.call('SADD', KEYS[3], ARGV[1])
+            redis.call('PERSIST', KEYS[4])
+            return 1
+            """.trimIndent(),
+            Long::class.java
+        )
+    }
+
+    private val log = KotlinLogging.logger {}
+    private val ttlMillis = ttl.toMillis().toString()
+
+    fun isLiked(postId: Long, memberId: Long): Boolean = getLikeState(postId, memberId).liked
+
+    /**
+     * 회원별 좋아요 여부와 좋아요 수(DB 반영 전 토글 포함), Redis 조회 실패 시 DB 조회로 대체(좋아요 수 null)
+     */
+    fun getLikeState(postId: Long, memberId: Long): LikeState =
+        try {
+            val result = stringRedisTemplate.execute(CONTAINS_SCRIPT, listOf(key(postId)), memberId.toString())
+            if (result.size == 2) LikeState(result[0] == 1L, (result[1] as Long).toInt())
+            else load(postId).let { LikeState(it.contains(memberId), it.size) }
+        } catch (e: Exception) {
+            log.warn(e) { "좋아요 회원 목록 조회 실패, DB 조회로 대체: postId=$postId" }
+            LikeState(postLikeRepository.existsByPostIdAndMemberIdAndDisabled(postId, memberId, false), null)
+        }
+
+    /**
+     * 좋아요 토글(DB 행 락 없이 Redis에만 반영), 토글 후 좋아요 여부 반환
+     *
+     * Set이 없으면 DB에서 적재한 뒤 다시 시도하고, 적재 직후 만료/삭제되어 계속 실패하면 토글하지 않고 예외 발생
+     */
+    fun toggle(postId: Long, memberId: Long): Boolean {
+        val keys = listOf(key(postId), pendingKey(postId), DELTA_KEY, DIRTY_KEY)
+        val args = arrayOf(memberId.toString(), postId.toString())
+
+        repeat(MAX_TOGGLE_ATTEMPTS) {
+            when (stringRedisTemplate.execute(TOGGLE_SCRIPT, keys, *args)) {
+                1L -> return true
+                0L -> return false
+                else -> load(postId)
+            }
+        }
+        log.warn { "좋아요 회원 목록 적재 후에도 토글 실패: postId=$postId, memberId=$memberId" }
+        throw PostException(PostErrorCode.POST_LIKE_CONFLICT)
+    }
+
+    /**
+     * DB 반영 대기 게시글을 최대 count개 꺼내 게시글별 변경 내역 반환
+     */
+    fun drainChanges(count: Long): List<LikeChanges> {
+        val postIds = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, count) ?: return emptyList()
+
+        return postIds.map { it.toLong() }.map { postId ->
+            val result = stringRedisTemplate.execute(
+                DRAIN_SCRIPT,
+                listOf(pendingKey(postId), DELTA_KEY, key(postId)),
+                postId.toString(),
+                ttlMillis
+            )
+
+            val states = result.drop(1).map { it.toString() }.chunked(2)
+            LikeChanges(
+                postId,
+                result.firstOrNull()?.toString()?.toLong() ?: 0L,
+                states.filter { it[1] == "1" }.map { it[0].toLong() },
+                states.filter { it[1] == "0" }.map { it[0].toLong() }
+            )
+        }
+    }
+
+    /**
+     * DB 반영에 실패한 변경 내역을 반영 대기 목록에 되돌림
+     */
+    fun restoreChanges(changes: List<LikeChanges>) {
+        changes.forEach { change ->
+            val states = change.liked.flatMap { listOf(it.toString(), "1") } +
+                    change.unliked.flatMap { listOf(it.toString(), "0") }
+            stringRedisTemplate.execute(
+                RESTORE_SCRIPT,
+                listOf(pendingKey(change.postId), DELTA_KEY, DIRTY_KEY, key(change.postId)),
+                change.postId.toString(),
+                change.delta.toString(),
+                *states.toTypedArray()
+            )
+        }
+    }
+
+    private fun load(postId: Long): Set<Long> {
+        val memberIds = postLikeRepository.findMemberIdsByPostId(postId).toSet()
+        val args = listOf(ttlMillis, SENTINEL) + memberIds.map { it.toString() }
+        stringRedisTemplate.execute(LOAD_SCRIPT, listOf(key(postId)), *args.toTypedArray())
+        return memberIds
+    }
+
+    private fun key(postId: Long) = "$KEY_PREFIX:$postId"
+
+    private fun pendingKey(postId: Long) = "$PENDING_PREFIX:$postId"
+
+    class LikeState(
+        val liked: Boolean,
+        val likeCount: Int?
+    )
+
+    class LikeChanges(
+        val postId: Long,
+        val delta: Long,
+        val liked: List<Long>,
+        val unliked: List<Long>
+    )
+}
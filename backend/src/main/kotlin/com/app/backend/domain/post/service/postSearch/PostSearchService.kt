@@ -0,0 +1,143 @@
+package com.app.backend.domain.post.service.postSearch
+
+import com.app.backend.domain.post.entity.Post
+import com.app.backend.domain.post.repository.post.PostRepository
+import com.app.backend.domain.post.repository.postSearch.PostSearchTokenRepository
+import com.app.backend.domain.post.util.PostSearchTokenizer
+import com.app.backend.global.annotation.CustomSchedulerLock
+import com.app.backend.global.util.TransactionHelper
+import io.github.oshai.kotlinlogging.KotlinLogging
+import org.springframework.dao.DataIntegrityViolationException
+import org.springframework.data.domain.PageRequest
+import org.springframework.stereotype.Service
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+
+/**
+ * 게시글 검색 역색인 관리와 검색
+ *
+ * 게시글 저장/수정/삭제 트랜잭션 안에서 색인을 함께 갱신하므로 커밋된 게시글과 색인이 어긋나지 않는다.
+ * 검색은 (group_id, token) 인덱스만 읽어 모든 토큰을 포함한 게시글을 가중치 합(제목 3, 본문 1)으로 정렬한다.
+ * 색인 도입 전 게시글의 백필(backfill)이 완료되기 전까지는 제목 부분 일치 결과를 함께 반환한다.
+ */
+@Service
+@Transactional(readOnly = true)
+class PostSearchService(
+    private val postRepository: PostRepository,
+    private val postSearchTokenRepository: PostSearchTokenRepository
+) {
+    companion object {
+        private const val TITLE_WEIGHT = 3
+        private const val MAX_CHUNK_ATTEMPTS = 3
+    }
+
+    private val log = KotlinLogging.logger {}
+
+    @Transactional
+    fun index(post: Post) {
+        postSearchTokenRepository.replaceTokens(post.id!!, post.groupId, weights(post))
+    }
+
+    @Transactional
+    fun remove(postId: Long) {
+        postSearchTokenRepository.deleteByPostId(postId)
+    }
+
+    /**
+     * 검색어를 모두 포함한 게시글 ID를 관련도순으로 조회
+     */
+    fun searchPostIds(groupId: Long, query: String, limit: Int): List<Long> {
+        val postIds = postSearchTokenRepository.searchPostIds(
+            groupId, PostSearchTokenizer.queryTokens(query), limit.toLong()
+        )
+        if (postIds.size >= limit || postSearchTokenRepository.isBackfillCompleted()) return postIds
+
+        return postIds + postSearchTokenRepository.searchPostIdsByTitle(
+            groupId, query, postIds, (limit - postIds.size).toLong()
+        )
+    }
+
+    fun isBackfillCompleted(): Boolean = postSearchTokenRepository.isBackfillCompleted()
+
+    /**
+     * 색인 도입 전 게시글 백필, 저장된 진행 위치(게시글 ID)부터 최대 maxChunks개 청크를 색인하고 위치를 기록
+     * 남은 게시글이 없으면 완료를 기록하며, 다음 실행은 중단된 위치부터 이어서 진행
+     * 다른 노드가 실행 중이면 락을 획득하지 못해 null 반환
+     */
+    @CustomSchedulerLock(name = "post:search-backfill", lockAtMostFor = 10L)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    fun backfill(chunkSize: Int, maxChunks: Int): Int? {
+        if (postSearchTokenRepository.isBackfillCompleted()) return 0
+
+        var afterId = postSearchTokenRepository.findBackfillProgress()
+        var indexed = 0
+        repeat(maxChunks) {
+            val posts = postRepository.findAllByDisabledAndIdGreaterThanOrderByIdAsc(
+                false, afterId, PageRequest.of(0, chunkSize)
+            )
+            if (posts.isNotEmpty()) {
+                indexed += indexChunk(posts, skipIndexed = true)
+                afterId = posts.last().id!!
+            }
+
+            if (posts.size < chunkSize) {
+                postSearchTokenRepository.markBackfillCompleted(afterId)
+                return indexed
+            }
+            postSearchTokenRepository.saveBackfillProgress(afterId)
+        }
+        return indexed
+    }
+
+    /**
+     * 전체 게시글 색인 재구축, 청크마다 트랜잭션을 커밋하고 색인한 게시글 수 반환
+     * skipIndexed: 이미 토큰이 있는 게시글(색인 도입 후 저장/수정된 게시글)은 건너뜀
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    fun rebuild(chunkSize: Int, skipIndexed: Boolean = false): Int {
+        var afterId = 0L
+        var indexed = 0
+        while (true) {
+            val posts = postRepository.findAllByDisabledAndIdGreaterThanOrderByIdAsc(
+                false, afterId, PageRequest.of(0, chunkSize)
+            )
+            if (posts.isEmpty()) break
+
+            indexed += indexChunk(posts, skipIndexed)
+            afterId = posts.last().id!!
+
+            if (posts.size < chunkSize) break
+        }
+        return indexed
+    }
+
+    /**
+     * 청크 색인, 같은 게시글을 동시에 색인하여 유니크 키 충돌 시 이미 색인된 게시글을 제외하고 재시도
+     */
+    private fun indexChunk(posts: List<Post>, skipIndexed: Boolean): Int {
+        var skip = skipIndexed
+        repeat(MAX_CHUNK_ATTEMPTS) {
+            try {
+                var indexed = 0
+                TransactionHelper.execute {
+                    val indexedIds = if (skip) postSearchTokenRepository.findIndexedPostIds(posts.map { it.id!! })
+                    else emptySet()
+                    indexed = posts.filter { it.id !in indexedIds }.onEach(::index).size
+                }
+                return indexed
+            } catch (e: DataIntegrityViolationException) {
+                log.warn(e) { "게시글 검색 색인 충돌, 청크 재시도: ${posts.first().id}~${posts.last().id}" }
+                skip = true
+            }
+        }
+        throw IllegalStateException("게시글 검색 색인 실패: ${posts.first().id}~${posts.last().id}")
+    }
+
+    private fun weights(post: Post): Map<String, Int> {
+        val weights = PostSearchTokenizer.tokenize(post.content).toMutableMap()
+        PostSearchTokenizer.tokenize(post.title).forEach { (token, count) ->
+            weights.merge(token, count * TITLE_WEIGHT, Int::plus)
+        }
+        return weights
+    }
+}
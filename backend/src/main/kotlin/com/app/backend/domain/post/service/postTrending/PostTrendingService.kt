@@ -0,0 +1,173 @@
+package com.app.backend.domain.post.service.postTrending
+
+import io.github.oshai.kotlinlogging.KotlinLogging
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.script.DefaultRedisScript
+import org.springframework.stereotype.Service
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import java.time.Duration
+
+/**
+ * 모임별 인기 게시글 순위(Redis Sorted Set, 지수 시간 감쇠)
+ *
+ * 조회/좋아요마다 weight * 2^((now - epoch) / halfLife)를 더하는 forward decay 방식으로,
+ * 기존 점수를 갱신하지 않고도 최근 반응일수록 큰 점수를 갖는다(반감기마다 과거 반응의 비중이 절반).
+ * 점수가 커지지 않도록 반감기 32회마다 기준 시각(epoch)을 옮기며 기존 점수를 한 번에 재조정한다.
+ * 같은 회원의 반복 조회는 게시글·회원별 조회 키(SET NX PX 반감기)로 반감기 안에서 한 번만 반영한다.
+ * 좋아요는 더한 점수와 당시 기준 시각을 회원별로 기록해 두고, 취소 시 그 점수를 현재 기준 시각으로 환산하여 정확히 뺀다.
+ */
+@Service
+class PostTrendingService(
+    private val stringRedisTemplate: StringRedisTemplate,
+    @Value("\${post.trending.half-life:1h}") halfLife: Duration,
+    @Value("\${post.trending.view-weight:1}") private val viewWeight: Double,
+    @Value("\${post.trending.like-weight:3}") private val likeWeight: Double,
+    @Value("\${post.trending.max-size:100}") private val maxSize: Long,
+    @Value("\${post.trending.ttl:7d}") ttl: Duration
+) {
+    companion object {
+        private const val KEY_PREFIX = "post:trending"
+        private const val EPOCH_HALF_LIVES = 32
+
+        private const val MODE_VIEW = "view"
+        private const val MODE_LIKE = "like"
+        private const val MODE_UNLIKE = "unlike"
+
+        // KEYS: 1 순위 Sorted Set, 2 기준 시각 키, 3 게시글·회원별 조회 키, 4 게시글 좋아요 점수 Hash(field: 회원 ID, value: 점수:기준 시각)
+        // ARGV: 1 게시글 ID, 2 가중치, 3 현재 시각(ms), 4 반감기(ms), 5 기준 시각 이동 주기(ms), 6 최대 게시글 수, 7 TTL(ms),
+        //       8 조회 회원 ID(비어 있으면 중복 확인 생략), 9 반영 방식(view, like, unlike), 10 좋아요 회원 ID
+        private val INCREMENT_SCRIPT = DefaultRedisScript(
+            """
+            if ARGV[8] ~= '' and not redis.call('SET', KEYS[3], '1', 'NX', 'PX', ARGV[4]) then
+                return 0
+            end
+            local now = tonumber(ARGV[3])
+            local halfLife = tonumber(ARGV[4])
+            local epoch = now - (now % tonumber(ARGV[5]))
+            local stored = redis.call('GET', KEYS[2])
+            if not stored then
+                redis.call('DEL', KEYS[1])
+            elseif tonumber(stored) > epoch then
+                epoch = tonumber(stored)
+            elseif tonumber(stored) < epoch then
+                redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', 2 ^ (-(epoch - tonumber(stored)) / halfLife))
+            end
+            redis.call('SET', KEYS[2], epoch, 'PX', ARGV[7])
+            if ARGV[9] == 'unlike' then
+                local added = redis.call('HGET', KEYS[4], ARGV[10])
+                if not added then
+                    return 0
+                end
+                redis.call('HDEL', KEYS[4], ARGV[10])
+                local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+                if not score then
+                    return 0
+                end
+                local sep = string.find(added, ':', 1, true)
+                local addedEpoch = tonumber(string.sub(added, sep + 1))
+                local amount = tonumber(string.sub(added, 1, sep - 1)) * 2 ^ (-(epoch - addedEpoch) / halfLife)
+                redis.call('ZADD', KEYS[1], math.max(tonumber(score) - amount, 0), ARGV[1])
+                return 1
+            end
+            local amount = tonumber(ARGV[2]) * 2 ^ ((now - epoch) / halfLife)
+            redis.call('ZINCRBY', KEYS[1], amount, ARGV[1])
+            if ARGV[9] == 'like' then
+                redis.call('HSET', KEYS[4], ARGV[10], amount .. ':' .. epoch)
+                redis.call('PEXPIRE', KEYS[4], ARGV[7])
+            end
+            redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[6]) + 1))
+            redis.call('PEXPIRE', KEYS[1], ARGV[7])
+            return 1
+            """.trimIndent(),
+            Long::class.java
+        )
+    }
+
+    private val log = KotlinLogging.logger {}
+    private val halfLifeMillis = halfLife.toMillis()
+    private val ttlMillis = ttl.toMillis().toString()
+
+    /**
+     * 게시글 조회 반영, 같은 회원의 반감기 내 재조회는 제외
+     */
+    fun recordView(groupId: Long, postId: Long, memberId: Long) =
+        increment(groupId, postId, viewWeight, MODE_VIEW, viewerId = memberId)
+
+    /**
+     * 좋아요 토글 반영(취소 시 해당 좋아요가 더한 점수만큼 감점), 트랜잭션 커밋 이후에 반영
+     */
+    fun onLikeToggled(groupId: Long, postId: Long, memberId: Long, liked: Boolean) {
+        val mode = if (liked) MODE_LIKE else MODE_UNLIKE
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment(groupId, postId, likeWeight, mode, likerId = memberId)
+            return
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+            override fun afterCommit() {
+                increment(groupId, postId, likeWeight, mode, likerId = memberId)
+            }
+        })
+    }
+
+    /**
+     * 점수가 높은 게시글 ID 목록(ZREVRANGEBYSCORE), 조회 실패 시 빈 목록
+     */
+    fun getTopPostIds(groupId: Long, limit: Int): List<Long> =
+        try {
+            stringRedisTemplate.opsForZSet().reverseRangeByScore(key(groupId), 0.0, Double.MAX_VALUE, 0, limit.toLong())
+                ?.map { it.toLong() } ?: emptyList()
+        } catch (e: Exception) {
+            log.warn(e) { "인기 게시글 순위 조회 실패: groupId=$groupId" }
+            emptyList()
+        }
+
+    fun remove(groupId: Long, postId: Long) {
+        runCatching {
+            stringRedisTemplate.opsForZSet().remove(key(groupId), postId.toString())
+            stringRedisTemplate.delete(likesKey(postId))
+        }
+            .onFailure { log.warn(it) { "인기 게시글 순위 삭제 실패: groupId=$groupId, postId=$postId" } }
+    }
+
+    private fun increment(
+        groupId: Long,
+        postId: Long,
+        weight: Double,
+        mode: String,
+        viewerId: Long? = null,
+        likerId: Long? = null
+    ) {
+        val now = System.currentTimeMillis()
+        try {
+            stringRedisTemplate.execute(
+                INCREMENT_SCRIPT,
+                listOf(
+                    key(groupId),
+                    "${key(groupId)}:epoch",
+                    "$KEY_PREFIX:viewed:$postId:${viewerId ?: ""}",
+                    likesKey(postId)
+                ),
+                postId.toString(),
+                weight.toString(),
+                now.toString(),
+                halfLifeMillis.toString(),
+                (halfLifeMillis * EPOCH_HALF_LIVES).toString(),
+                maxSize.toString(),
+                ttlMillis,
+                viewerId?.toString() ?: "",
+                mode,
+                likerId?.toString() ?: ""
+            )
+        } catch (e: Exception) {
+            // 순위 반영 실패는 조회/좋아요 결과에 영향을 주지 않음
+            log.warn(e) { "인기 게시글 점수 반영 실패: groupId=$groupId, postId=$postId" }
+        }
+    }
+
+    private fun key(groupId: Long) = "$KEY_PREFIX:$groupId"
+
+    private fun likesKey(postId: Long) = "$KEY_PREFIX:likes:$postId"
+}
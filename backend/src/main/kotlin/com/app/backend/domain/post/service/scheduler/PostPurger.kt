@@ -0,0 +1,150 @@
+package com.app.backend.domain.post.service.scheduler
+
+import com.app.backend.domain.attachment.service.FileService
+import com.app.backend.domain.post.repository.post.PostRepository
+import com.app.backend.domain.post.repository.postAttachment.PostAttachmentRepository
+import com.app.backend.global.config.FileConfig
+import com.app.backend.global.util.SchedulerLockManager
+import com.app.backend.global.util.TransactionHelper
+import jakarta.annotation.PreDestroy
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.time.LocalDateTime
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+
+/**
+ * 삭제 후 보관 기간이 지난 게시글과 첨부파일을 영구 삭제
+ *
+ * - id 키셋 페이지로 청크 단위 조회/삭제, 청크마다 트랜잭션을 커밋하여 락 보유 시간과 메모리 사용량을 제한
+ * - 청크 사이 대기(pause)와 실행당 시간 예산(time-budget)으로 DB 부하를 제한
+ * - 첨부파일은 제한된 스레드 풀에서 병렬로 삭제한 뒤 행을 삭제(파일 삭제는 다시 실행해도 안전)
+ * - 청크 트랜잭션마다 펜싱 토큰을 기록(fence)하여 실행을 넘겨받은 노드가 있으면 삭제를 롤백
+ * - 마지막으로 처리한 id를 Redis에 기록하여 중단된 실행은 다음 실행에서 이어서 처리, 끝까지 처리하면 기록 삭제
+ */
+@Component
+class PostPurger(
+    private val redisTemplate: RedisTemplate<String, Any>,
+    private val fileConfig: FileConfig,
+    private val fileService: FileService,
+    private val postRepository: PostRepository,
+    private val postAttachmentRepository: PostAttachmentRepository,
+    private val schedulerLockManager: SchedulerLockManager,
+    @Value("\${post.purge.chunk-size:500}") private val chunkSize: Long,
+    @Value("\${post.purge.pause:100ms}") pause: Duration,
+    @Value("\${post.purge.time-budget:20m}") timeBudget: Duration,
+    @Value("\${post.purge.file-delete-parallelism:4}") parallelism: Int
+) {
+    companion object {
+        const val CHECKPOINT_KEY = "post:purge:checkpoint"
+        const val POST = "post"
+        const val ATTACHMENT = "attachment"
+        private val CHECKPOINT_TTL = Duration.ofDays(7)
+    }
+
+    private val log: Logger = LoggerFactory.getLogger(PostPurger::class.java)
+
+    private val pauseMillis = pause.toMillis()
+    private val timeBudgetMillis = timeBudget.toMillis()
+
+    // 큐가 가득 차면 호출 스레드에서 삭제하여 조회 속도를 파일 삭제 속도에 맞춤
+    private val fileDeleteExecutor = ThreadPoolExecutor(
+        parallelism, parallelism, 30L, TimeUnit.SECONDS,
+        ArrayBlockingQueue(parallelism * 4),
+        CustomizableThreadFactory("post-purge-"),
+        ThreadPoolExecutor.CallerRunsPolicy()
+    ).apply { allowCoreThreadTimeOut(true) }
+
+    /**
+     * 기준 시각 이전에 삭제된 게시글과 첨부파일을 영구 삭제, 시간 예산을 넘기면 중단
+     */
+    fun purge(deleteDay: LocalDateTime) {
+        val deadline = System.currentTimeMillis() + timeBudgetMillis
+
+        val posts = purgeChunks(POST, deadline) { afterId -> purgePosts(deleteDay, afterId) }
+        val files = purgeChunks(ATTACHMENT, deadline) { afterId -> purgeAttachments(deleteDay, afterId) }
+
+        log.info("삭제된 게시글 정리를 완료했습니다: 게시글 {}건, 첨부파일 {}건", posts, files)
+    }
+
+    @PreDestroy
+    fun shutdown() {
+        fileDeleteExecutor.shutdown()
+    }
+
+    /**
+     * 체크포인트 다음 id부터 청크 단위로 삭제하고 삭제한 건수 반환
+     */
+    private fun purgeChunks(target: String, deadline: Long, purgeChunk: (afterId: Long) -> List<Long>): Int {
+        var afterId = loadCheckpoint(target)
+        var purged = 0
+
+        while (true) {
+            if (System.currentTimeMillis() >= deadline) {
+                log.info("시간 예산을 초과하여 정리를 중단합니다: {} (마지막 id {})", target, afterId)
+                return purged
+            }
+
+            schedulerLockManager.checkFencingToken()
+            val ids = purgeChunk(afterId)
+            if (ids.isEmpty()) break
+
+            purged += ids.size
+            afterId = ids.last()
+            saveCheckpoint(target, afterId)
+
+            if (ids.size < chunkSize) break
+            Thread.sleep(pauseMillis)
+        }
+
+        redisTemplate.opsForHash<String, Any>().delete(CHECKPOINT_KEY, target)
+        return purged
+    }
+
+    private fun purgePosts(deleteDay: LocalDateTime, afterId: Long): List<Long> {
+        val postIds = postRepository.findIdsByModifiedAtAndDisabled(deleteDay, true, afterId, chunkSize)
+        if (postIds.isNotEmpty()) {
+            TransactionHelper.execute {
+                schedulerLockManager.fence()
+                postRepository.deleteAllByIdList(postIds)
+            }
+        }
+        return postIds
+    }
+
+    private fun purgeAttachments(deleteDay: LocalDateTime, afterId: Long): List<Long> {
+        val files = postAttachmentRepository.findAllByModifiedAtAndDisabled(deleteDay, true, afterId, chunkSize)
+        if (files.isEmpty()) return emptyList()
+
+        deleteFiles(files.mapNotNull { it.storeFilePath }.map { "${fileConfig.getBaseDir()}/$it" })
+
+        val fileIds = files.mapNotNull { it.id }
+        TransactionHelper.execute {
+            schedulerLockManager.fence()
+            postAttachmentRepository.deleteByFileIdList(fileIds)
+        }
+        return fileIds
+    }
+
+    private fun deleteFiles(filePaths: List<String>) {
+        CompletableFuture.allOf(
+            *filePaths.map { CompletableFuture.runAsync({ fileService.deleteFile(it) }, fileDeleteExecutor) }
+                .toTypedArray()
+        ).join()
+    }
+
+    private fun loadCheckpoint(target: String): Long =
+        (redisTemplate.opsForHash<String, Any>().get(CHECKPOINT_KEY, target) as? Number)?.toLong() ?: 0L
+
+    private fun saveCheckpoint(target: String, afterId: Long) {
+        redisTemplate.opsForHash<String, Any>().put(CHECKPOINT_KEY, target, afterId)
+        redisTemplate.expire(CHECKPOINT_KEY, CHECKPOINT_TTL)
+    }
+}
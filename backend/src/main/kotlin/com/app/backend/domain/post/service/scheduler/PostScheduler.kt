@@ -1,26 +1,37 @@
 package com.app.backend.domain.post.service.scheduler
 
-import com.app.backend.domain.attachment.service.FileService
+import com.app.backend.domain.post.repository.post.PostLikeRepository
 import com.app.backend.domain.post.repository.post.PostRepository
-import com.app.backend.domain.post.repository.postAttachment.PostAttachmentRepository
-import com.app.backend.global.config.FileConfig
+import com.app.backend.domain.post.service.postLike.PostLikerService
+import com.app.backend.domain.post.service.postSearch.PostSearchService
+import com.app.backend.global.annotation.CustomSchedulerLock
+import com.app.backend.global.util.SchedulerLockManager
+import com.app.backend.global.util.TransactionHelper
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
 import org.springframework.data.redis.core.RedisTemplate
 import org.springframework.scheduling.annotation.Scheduled
 import org.springframework.stereotype.Service
+import org.springframework.transaction.annotation.Propagation
 import org.springframework.transaction.annotation.Transactional
 import java.time.LocalDate
-import java.time.LocalDateTime
+import java.util.concurrent.TimeUnit
 
 @Service
 @Transactional(readOnly = true)
 class PostScheduler(
     private val redisTemplate: RedisTemplate<String, Any>,
-    private val fileConfig: FileConfig,
-    private val fileService: FileService,
     private val postRepository: PostRepository,
-    private val postAttachmentRepository: PostAttachmentRepository
+    private val postLikeRepository: PostLikeRepository,
+    private val postLikerService: PostLikerService,
+    private val schedulerLockManager: SchedulerLockManager,
+    private val postPurger: PostPurger,
+    private val postSearchService: PostSearchService,
+    @Value("\${cache.view-count.flush-chunk-size:1000}") private val chunkSize: Long,
+    @Value("\${post.search.backfill.enabled:true}") private val searchBackfillEnabled: Boolean,
+    @Value("\${post.search.rebuild-chunk-size:500}") private val searchChunkSize: Int,
+    @Value("\${post.search.backfill.chunks-per-run:20}") private val searchChunksPerRun: Int
 ) {
 
     private val log: Logger = LoggerFactory.getLogger(PostScheduler::class.java)
@@ -28,81 +39,178 @@ class PostScheduler(
     companion object {
         private const val POST_UPDATE = "post:update"
         private const val POST_HISTORY = "post:history"
-        private const val VIEW_COUNT_PREFIX = "viewCount:post:postid:"
         private const val DELETE_DAYS = 7
     }
 
-    @Transactional
+    /**
+     * Redis 조회수를 RDB에 반영, 청크마다 트랜잭션을 커밋하도록 메서드 단위 트랜잭션은 시작하지 않음
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     @Scheduled(fixedRate = 600_000) // 10분
+    @CustomSchedulerLock(name = "post:view-count-flush", lockAtMostFor = 9L)
     fun viewCountsRedisToRDB() {
-        processViewCountSave(POST_UPDATE, false)
+        flushViewCounts()
     }
 
-    @Transactional
+    /**
+     * 남은 조회수를 반영한 뒤 오늘 조회된 게시글의 오늘 조회수를 누적 조회수에 합산
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     @Scheduled(cron = "0 0 0 * * ?")
+    @CustomSchedulerLock(name = "post:view-count-refresh", lockAtMostFor = 30L, lockAtLeastFor = 5L)
     fun refreshViewCount() {
-        processViewCountSave(POST_HISTORY, true)
+        flushViewCounts()
+        refreshViewedPosts()
     }
 
-    @Transactional
+    /**
+     * Redis에 기록된 좋아요 토글을 DB에 반영(write-behind)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Scheduled(fixedDelayString = "\${post.like.reconcile-interval:5000}")
+    @CustomSchedulerLock(
+        name = "post:like-reconcile", lockAtMostFor = 60L, lockAtLeastFor = 1L, timeUnit = TimeUnit.SECONDS
+    )
+    fun reconcileLikes() {
+        var reconciled = 0
+        try {
+            while (true) {
+                val changes = postLikerService.drainChanges(chunkSize)
+                if (changes.isEmpty()) break
+
+                try {
+                    TransactionHelper.execute {
+                        schedulerLockManager.fence()
+                        changes.forEach {
+                            postLikeRepository.disableLikes(it.postId, it.unliked)
+                            postLikeRepository.insertLikes(it.postId, it.liked)
+                        }
+                        postRepository.addLikeCounts(changes.filter { it.delta != 0L }.associate { it.postId to it.delta })
+                    }
+                } catch (e: Exception) {
+                    postLikerService.restoreChanges(changes)
+                    throw e
+                }
+                reconciled += changes.size
+
+                if (changes.size < chunkSize) break
+            }
+            if (reconciled > 0) log.info("좋아요 동기화를 완료했습니다: {}건", reconciled)
+        } catch (e: Exception) {
+            log.error("좋아요 동기화에 실패했습니다", e)
+        }
+    }
+
+    /**
+     * 색인 도입 전 게시글의 검색 색인 백필, 실행마다 기록된 위치부터 일정 청크만 진행하여 애플리케이션 시작을 막지 않음
+     * 실패하면 다음 실행에서 기록된 위치부터 재시도하고, 완료 전까지 검색은 제목 부분 일치 결과를 함께 사용
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Scheduled(
+        initialDelayString = "\${post.search.backfill.interval:10000}",
+        fixedDelayString = "\${post.search.backfill.interval:10000}"
+    )
+    fun backfillSearchIndex() {
+        if (!searchBackfillEnabled || postSearchService.isBackfillCompleted()) return
+
+        try {
+            val indexed = postSearchService.backfill(searchChunkSize, searchChunksPerRun)
+            if (indexed != null && indexed > 0) log.info("게시글 검색 색인 백필을 진행했습니다: {}건", indexed)
+            if (postSearchService.isBackfillCompleted()) log.info("게시글 검색 색인 백필을 완료했습니다")
+        } catch (e: Exception) {
+            log.error("게시글 검색 색인 백필에 실패했습니다", e)
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 게시글과 첨부파일을 청크 단위로 영구 삭제, 청크마다 트랜잭션을 커밋
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     @Scheduled(cron = "0 0 4 * * ?")
+    @CustomSchedulerLock(name = "post:delete", lockAtMostFor = 30L, lockAtLeastFor = 5L)
     fun deletePosts() {
         val deleteDay = LocalDate.now().minusDays(DELETE_DAYS.toLong()).atStartOfDay()
-        processDeletePosts(deleteDay)
-        processDeleteFiles(deleteDay)
+        try {
+            postPurger.purge(deleteDay)
+        } catch (e: Exception) {
+            log.error("삭제된 게시글 정리에 실패했습니다", e)
+        }
     }
 
-    private fun processViewCountSave(typeKey: String, isReset: Boolean) {
+    /**
+     * 조회수 갱신 목록을 SPOP으로 청크 단위로 꺼내고 조회수 키를 GETDEL(파이프라인)하여 JDBC 배치로 반영
+     *
+     * 꺼낸 뒤 증가한 조회수는 키와 갱신 목록에 다시 기록되므로 다음 실행에서 반영되고,
+     * RDB 반영에 실패했거나 다른 노드가 실행을 넘겨받은 경우(펜싱 토큰 변경) 꺼낸 청크를 Redis에 되돌린다.
+     */
+    private fun flushViewCounts() {
+        var flushed = 0
         try {
-            val updatedPostIds: Set<String>? = redisTemplate.opsForSet().members(typeKey) as? Set<String>
-
-            if (updatedPostIds.isNullOrEmpty()) {
-                log.info("동기화 데이터가 존재하지 않습니다")
-                return
-            }
-
-            val postIds = updatedPostIds.map { it.substringAfterLast(":").toLong() }
-            val posts = postRepository.findAllById(postIds)
+            while (true) {
+                val viewCountKeys = pop(POST_UPDATE)
+                if (viewCountKeys.isEmpty()) break
 
-            posts.forEach { post ->
-                val viewCountKey = "$VIEW_COUNT_PREFIX${post.id}"
-                val viewCountValue = redisTemplate.opsForValue().get(viewCountKey) as? Number
-                viewCountValue?.toLong()?.let {
-                    post.addTodayViewCount(it)
-                    redisTemplate.delete(viewCountKey)
+                val values = redisTemplate.executePipelined { connection ->
+                    viewCountKeys.forEach { connection.stringCommands().getDel(it.toByteArray()) }
+                    null
                 }
-                if (isReset) {
-                    post.refreshViewCount()
+                val viewCounts = viewCountKeys.zip(values)
+                    .mapNotNull { (key, value) -> (value as? Number)?.toLong()?.takeIf { it > 0 }?.let { key to it } }
+                    .toMap()
+
+                try {
+                    TransactionHelper.execute {
+                        schedulerLockManager.fence()
+                        postRepository.addTodayViewCounts(viewCounts.mapKeys { toPostId(it.key) })
+                    }
+                } catch (e: Exception) {
+                    restoreViewCounts(viewCounts)
+                    throw e
                 }
-            }
-
-            postRepository.saveAll(posts)
-            redisTemplate.delete(POST_UPDATE)
+                flushed += viewCounts.size
 
-            if (isReset) {
-                redisTemplate.delete(POST_HISTORY)
+                if (viewCountKeys.size < chunkSize) break
             }
-
-            log.info("데이터 동기화를 완료했습니다")
+            log.info("조회수 동기화를 완료했습니다: {}건", flushed)
         } catch (e: Exception) {
-            log.error("데이터 동기화에 실패했습니다", e)
+            log.error("조회수 동기화에 실패했습니다", e)
         }
     }
 
-    private fun processDeletePosts(deleteDay: LocalDateTime) {
-        postRepository.deleteAllByModifiedAtAndDisabled(deleteDay, true)
-    }
+    private fun refreshViewedPosts() {
+        try {
+            while (true) {
+                val cacheKeys = pop(POST_HISTORY)
+                if (cacheKeys.isEmpty()) break
+
+                try {
+                    TransactionHelper.execute {
+                        schedulerLockManager.fence()
+                        postRepository.refreshViewCounts(cacheKeys.map(::toPostId))
+                    }
+                } catch (e: Exception) {
+                    redisTemplate.opsForSet().add(POST_HISTORY, *cacheKeys.toTypedArray())
+                    throw e
+                }
 
-    private fun processDeleteFiles(deleteDay: LocalDateTime) {
-        val files = postAttachmentRepository.findAllByModifiedAtAndDisabled(deleteDay, true)
+                if (cacheKeys.size < chunkSize) break
+            }
+            log.info("누적 조회수 갱신을 완료했습니다")
+        } catch (e: Exception) {
+            log.error("누적 조회수 갱신에 실패했습니다", e)
+        }
+    }
 
-        if (files.isNotEmpty()) {
-            val deleteFilePaths = files.map { "${fileConfig.getBaseDir()}/${it.storeFilePath}" }
-            val deleteFileIds = files.mapNotNull { it.id }
+    private fun pop(key: String): List<String> =
+        redisTemplate.opsForSet().pop(key, chunkSize)?.filterIsInstance<String>() ?: emptyList()
 
-            postAttachmentRepository.deleteByFileIdList(deleteFileIds)
-            fileService.deleteFiles(deleteFilePaths)
+    private fun restoreViewCounts(viewCounts: Map<String, Long>) {
+        redisTemplate.executePipelined { connection ->
+            viewCounts.forEach { (key, count) -> connection.stringCommands().incrBy(key.toByteArray(), count) }
+            null
         }
+        redisTemplate.opsForSet().add(POST_UPDATE, *viewCounts.keys.toTypedArray())
     }
-}
 
+    private fun toPostId(key: String) = key.substringAfterLast(":").toLong()
+}
@@ -0,0 +1,45 @@
+package com.app.backend.domain.post.util
+
+/**
+ * 게시글 검색용 n-gram 토크나이저
+ *
+ * 문자/숫자가 아닌 문자로 단어를 나누고 단어마다 2글자씩 잘라(bigram) 토큰을 만든다.
+ * 형태소 분석 없이 한글 부분 일치(예: "모임공지" → 모임, 임공, 공지)를 처리하며, 1글자 단어는 토큰을 만들지 않는다.
+ */
+object PostSearchTokenizer {
+    private const val GRAM = 2
+
+    /**
+     * 토큰별 등장 횟수
+     */
+    fun tokenize(text: String?): Map<String, Int> =
+        tokens(text).groupingBy { it }.eachCount()
+
+    /**
+     * 검색어 토큰(중복 제거), 비어 있으면 색인으로 검색할 수 없는 검색어
+     */
+    fun queryTokens(query: String?): Set<String> = tokens(query).toSet()
+
+    private fun tokens(text: String?): List<String> {
+        if (text.isNullOrBlank()) return emptyList()
+        return words(text.lowercase()).flatMap(::grams)
+    }
+
+    private fun words(text: String): List<IntArray> {
+        val words = mutableListOf<IntArray>()
+        var word = mutableListOf<Int>()
+        text.codePoints().forEach {
+            if (Character.isLetterOrDigit(it)) {
+                word.add(it)
+            } else if (word.isNotEmpty()) {
+                words.add(word.toIntArray())
+                word = mutableListOf()
+            }
+        }
+        if (word.isNotEmpty()) words.add(word.toIntArray())
+        return words
+    }
+
+    private fun grams(word: IntArray): List<String> =
+        (0..word.size - GRAM).map { String(word, it, GRAM) }
+}
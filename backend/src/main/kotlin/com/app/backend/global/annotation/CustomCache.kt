@@ -13,5 +13,6 @@ annotation class CustomCache(
     val viewCount: Boolean = false,
     val viewCountTtl: Long = 5,
     val viewCountTtlUnit: TimeUnit = TimeUnit.MINUTES,
-    val history: Boolean = false
+    val history: Boolean = false,
+    val tags: Array<String> = []
 )
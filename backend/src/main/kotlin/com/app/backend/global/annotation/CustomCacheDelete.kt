@@ -7,5 +7,6 @@ import kotlin.annotation.AnnotationRetention.RUNTIME
 annotation class CustomCacheDelete(
     val prefix: String = "global",
     val key: String = "",
-    val id: String = ""
+    val id: String = "",
+    val tags: Array<String> = []
 )
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.app.backend.global.annotation
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * 여러 인스턴스 중 한 노드에서만 스케줄 작업 실행
+ *
+ * lockAtMostFor: 실행 노드 장애 시에도 락이 해제되는 최대 시간
+ * lockAtLeastFor: 작업이 빨리 끝나도 다른 노드가 같은 주기에 다시 실행하지 않도록 락을 유지하는 최소 시간
+ */
+@Target(AnnotationTarget.FUNCTION)
+@Retention(AnnotationRetention.RUNTIME)
+annotation class CustomSchedulerLock(
+    val name: String,
+    val lockAtMostFor: Long = 10L,
+    val lockAtLeastFor: Long = 1L,
+    val timeUnit: TimeUnit = TimeUnit.MINUTES
+)
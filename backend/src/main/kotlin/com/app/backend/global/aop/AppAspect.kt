@@ -2,10 +2,12 @@ package com.app.backend.global.aop
 
 import com.app.backend.global.annotation.CustomLock
 import com.app.backend.global.annotation.CustomPageJsonSerializer
+import com.app.backend.global.annotation.CustomSchedulerLock
 import com.app.backend.global.dto.response.ApiResponse
 import com.app.backend.global.util.LockKeyGenerator
 import com.app.backend.global.util.LockManager
 import com.app.backend.global.util.PageUtil
+import com.app.backend.global.util.SchedulerLockManager
 import io.github.oshai.kotlinlogging.KLogger
 import io.github.oshai.kotlinlogging.KotlinLogging
 import org.aspectj.lang.ProceedingJoinPoint
@@ -14,6 +16,7 @@ import org.aspectj.lang.annotation.Aspect
 import org.aspectj.lang.reflect.MethodSignature
 import org.springframework.data.domain.Page
 import org.springframework.http.ResponseEntity
+import org.springframework.transaction.support.TransactionSynchronization
 import org.springframework.transaction.support.TransactionSynchronizationManager
 
 class AppAspect {
@@ -68,5 +71,42 @@ class AppAspect {
                 }
             }
         }
+
+        @Aspect
+        class SchedulerLockAspect(private val schedulerLockManager: SchedulerLockManager) {
+            @Around("@annotation(customSchedulerLock)")
+            @Throws(Throwable::class)
+            fun execute(joinPoint: ProceedingJoinPoint, customSchedulerLock: CustomSchedulerLock): Any? {
+                if (!schedulerLockManager.enabled) return joinPoint.proceed()
+
+                val lease = schedulerLockManager.tryAcquire(
+                    customSchedulerLock.name,
+                    customSchedulerLock.lockAtMostFor,
+                    customSchedulerLock.lockAtLeastFor,
+                    customSchedulerLock.timeUnit
+                )
+                if (lease == null) {
+                    log.debug { "Scheduler job is running on another node: ${customSchedulerLock.name}" }
+                    return null
+                }
+
+                try {
+                    val result = schedulerLockManager.record(lease) { joinPoint.proceed() }
+
+                    if (TransactionSynchronizationManager.isActualTransactionActive())
+                        TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+                            override fun afterCompletion(status: Int) {
+                                schedulerLockManager.release(lease)
+                            }
+                        })
+                    else schedulerLockManager.release(lease)
+
+                    return result
+                } catch (e: Throwable) {
+                    schedulerLockManager.release(lease)
+                    throw e
+                }
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -3,18 +3,45 @@ package com.app.backend.global.aop
 import com.app.backend.domain.member.entity.MemberDetails
 import com.app.backend.global.annotation.CustomCache
 import com.app.backend.global.annotation.CustomCacheDelete
+import com.app.backend.global.cache.CacheCircuitBreaker
+import com.app.backend.global.cache.CacheKeyGenerator
+import com.app.backend.global.cache.CacheMetrics
+import com.app.backend.global.cache.CacheTagResolver
+import com.app.backend.global.cache.NearCache
+import com.app.backend.global.cache.NegativeCacheEntry
+import com.app.backend.global.cache.RedisCacheExecutor
+import com.app.backend.global.cache.StampedeGuard
+import com.app.backend.global.cache.ViewCountPolicy
+import com.app.backend.global.cache.codec.CacheCodecRegistry
+import com.app.backend.global.error.exception.DomainException
+import io.github.oshai.kotlinlogging.KotlinLogging
 import org.aspectj.lang.ProceedingJoinPoint
 import org.aspectj.lang.annotation.Around
 import org.aspectj.lang.annotation.Aspect
 import org.aspectj.lang.reflect.MethodSignature
-import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.http.HttpStatus
 import org.springframework.security.core.Authentication
 import org.springframework.security.core.context.SecurityContextHolder
 import org.springframework.stereotype.Component
+import java.time.Duration
+import java.util.concurrent.TimeUnit
 
 @Aspect
 @Component
-class CacheAspect(private val redisTemplate: RedisTemplate<String, Any>) {
+class CacheAspect(
+    private val redisCacheExecutor: RedisCacheExecutor,
+    private val nearCache: NearCache,
+    private val stampedeGuard: StampedeGuard,
+    private val cacheCodecRegistry: CacheCodecRegistry,
+    private val cacheTagResolver: CacheTagResolver,
+    private val cacheMetrics: CacheMetrics,
+    private val cacheCircuitBreaker: CacheCircuitBreaker,
+    private val cacheKeyGenerator: CacheKeyGenerator,
+    private val viewCountPolicy: ViewCountPolicy,
+    @Value("\${cache.negative.ttl:10s}") private val negativeTtl: Duration
+) {
+    private val log = KotlinLogging.logger {}
 
     companion object {
         private const val UPDATE_KEY = "update"
@@ -25,31 +52,116 @@ class CacheAspect(private val redisTemplate: RedisTemplate<String, Any>) {
     @Around("@annotation(customCache)")
     @Throws(Throwable::class)
     fun aroundG(joinPoint: ProceedingJoinPoint, customCache: CustomCache): Any? {
-        val cacheKey = generateKey(customCache.prefix, customCache.key, customCache.id, getParams(joinPoint))
+        val cacheKey = cacheKeyGenerator.generate(joinPoint, customCache)
         val viewCountKey = "$VIEW_COUNT_PREFIX:$cacheKey"
-        val limitUserKey = "$cacheKey:user:${getUserID()}"
+        val userId = getUserID()
+        val limitUserKey = viewCountPolicy.localKey(cacheKey, userId)
         val updateKeyList = "${customCache.prefix}:$UPDATE_KEY"
         val historyKey = "${customCache.prefix}:$HISTORY_KEY"
+        val cacheName = cacheName(customCache.prefix, customCache.key)
 
         return try {
-            // 조회수 증가
-            if (customCache.viewCount && !redisTemplate.hasKey(limitUserKey)) {
-                redisTemplate.opsForValue().increment(viewCountKey)
-                redisTemplate.opsForValue().set(limitUserKey, true, customCache.viewCountTtl, customCache.viewCountTtlUnit)
-                redisTemplate.opsForSet().add(updateKeyList, viewCountKey)
+            // L1 캐시 조회(로컬 캐시에 조회 기록이 있으면 조회수 집계 생략)
+            val localData = nearCache.get(cacheKey)
+            if (localData is NegativeCacheEntry) {
+                cacheMetrics.negativeHit(cacheName)
+                throw LoaderException(localData.exception)
             }
 
-            val cachedData = redisTemplate.opsForValue().get(cacheKey)
+            // 인증 정보가 없는 호출(캐시 워밍 등)은 조회수 집계 제외
+            val countView = customCache.viewCount && userId != null && !nearCache.contains(limitUserKey)
+            if (localData != null && !countView) {
+                cacheMetrics.l1Hit(cacheName)
+                return localData
+            }
+
+            // 서킷 OPEN 시 Redis를 거치지 않고 L1 캐시 또는 원본 메서드로 응답(조회수 집계 생략)
+            if (!cacheCircuitBreaker.allowRequest()) {
+                if (localData != null) {
+                    cacheMetrics.l1Hit(cacheName)
+                    return localData
+                }
+                cacheMetrics.bypass(cacheName, "circuit_open")
+                return proceed(joinPoint)?.also { nearCache.put(cacheKey, it, customCache.ttl, customCache.ttlUnit) }
+            }
+
+            // 조회수 증가, 조회 기록 저장, L2 캐시 조회(1 RTT)
+            val dedupeKey = userId?.takeIf { countView }?.let {
+                viewCountPolicy.dedupeKey(cacheKey, it, customCache.viewCountTtlUnit.toMillis(customCache.viewCountTtl))
+            } ?: limitUserKey
+            val result = redisCall {
+                redisCacheExecutor.read(
+                    RedisCacheExecutor.ReadCommand(
+                        cacheKey,
+                        viewCountKey,
+                        dedupeKey,
+                        updateKeyList,
+                        historyKey,
+                        countView,
+                        customCache.viewCountTtl,
+                        customCache.viewCountTtlUnit,
+                        customCache.history,
+                        localData == null,
+                        viewCountPolicy.mode,
+                        userId
+                    )
+                )
+            }
 
-            // 조회 기록 저장
-            if (customCache.history) {
-                redisTemplate.opsForSet().add(historyKey, cacheKey)
+            if (countView) {
+                nearCache.put(limitUserKey, true, customCache.viewCountTtl, customCache.viewCountTtlUnit)
+            }
+            if (localData != null) {
+                cacheMetrics.l1Hit(cacheName)
+                return localData
             }
 
-            cachedData ?: joinPoint.proceed().also {
-                redisTemplate.opsForValue().set(cacheKey, it, customCache.ttl, customCache.ttlUnit)
+            val codec = cacheCodecRegistry.forPrefix(customCache.prefix)
+            val returnType = (joinPoint.signature as MethodSignature).method.genericReturnType
+            val loader = { cacheMetrics.recordLoad(cacheName) { proceed(joinPoint) } }
+            val writer = { value: Any ->
+                // 저장 실패는 조회 결과에 영향을 주지 않음
+                try {
+                    redisCall {
+                        redisCacheExecutor.write(
+                            cacheKey,
+                            codec.encode(value),
+                            customCache.ttl,
+                            customCache.ttlUnit,
+                            CacheMetrics.keyIndex(cacheName),
+                            cacheTagResolver.resolve(joinPoint, customCache.tags, value)
+                        )
+                    }
+                } catch (e: Exception) {
+                    log.warn(e) { "캐시 저장 실패: $cacheKey" }
+                    cacheMetrics.error(cacheName, "write", e)
+                }
+            }
+            val decoder = { bytes: ByteArray -> codec.decode(bytes, returnType) }
+            val cachedData = result.bytes?.let(decoder)
+            if (cachedData != null) cacheMetrics.l2Hit(cacheName) else cacheMetrics.miss(cacheName)
+
+            // L2 캐시 미스 시 동시 요청을 하나의 원본 조회로 합치고, 만료 임박 시 확률적으로 조기 갱신
+            val data = if (cachedData == null) {
+                stampedeGuard.load(customCache.prefix, cacheKey, loader, writer, decoder)
+            } else if (stampedeGuard.shouldRefreshEarly(customCache.prefix, result.ttlMillis)) {
+                stampedeGuard.refresh(customCache.prefix, cacheKey, loader, writer) ?: cachedData
+            } else {
+                cachedData
             }
+
+            data?.also { nearCache.put(cacheKey, it, customCache.ttl, customCache.ttlUnit) }
+        } catch (e: LoaderException) {
+            val cause = e.cause!!
+            // 존재하지 않는 엔티티는 로컬 캐시에 짧게 저장하여 반복 조회 시 DB 접근 방지
+            if (cause is DomainException && cause.domainErrorCode.status == HttpStatus.NOT_FOUND) {
+                nearCache.put(cacheKey, NegativeCacheEntry(cause), negativeTtl.toMillis(), TimeUnit.MILLISECONDS)
+            }
+            throw cause
         } catch (e: Exception) {
+            log.warn(e) { "캐시 조회 실패, 원본 메서드 직접 실행: $cacheKey" }
+            cacheMetrics.error(cacheName, "read", e)
+            cacheMetrics.bypass(cacheName, "error")
             joinPoint.proceed()
         }
     }
@@ -57,46 +169,65 @@ class CacheAspect(private val redisTemplate: RedisTemplate<String, Any>) {
     @Around("@annotation(customCacheDelete)")
     @Throws(Throwable::class)
     fun aroundD(joinPoint: ProceedingJoinPoint, customCacheDelete: CustomCacheDelete): Any? {
-        val cacheKey = generateKey(customCacheDelete.prefix, customCacheDelete.key, customCacheDelete.id, getParams(joinPoint))
-
-        return try {
-            if (redisTemplate.hasKey(cacheKey)) {
-                redisTemplate.delete(cacheKey)
+        val cacheKey = cacheKeyGenerator.generate(joinPoint, customCacheDelete)
+
+        // 단일 키 삭제(UNLINK 1회), 서킷 OPEN 시 현재 노드의 L1 캐시만 삭제
+        val redisAvailable = cacheCircuitBreaker.allowRequest()
+        if (customCacheDelete.key.isNotEmpty() || customCacheDelete.id.isNotEmpty()) {
+            try {
+                if (redisAvailable) {
+                    redisCall {
+                        redisCacheExecutor.delete(
+                            cacheKey,
+                            CacheMetrics.keyIndex(cacheName(customCacheDelete.prefix, customCacheDelete.key))
+                        )
+                    }
+                    nearCache.evict(cacheKey)
+                } else {
+                    nearCache.evictLocal(cacheKey)
+                }
+            } catch (e: Exception) {
+                log.warn(e) { "캐시 삭제 실패: $cacheKey" }
+                cacheMetrics.error(cacheName(customCacheDelete.prefix, customCacheDelete.key), "delete", e)
             }
-            joinPoint.proceed()
-        } catch (e: Exception) {
-            joinPoint.proceed()
         }
-    }
 
-    private fun getUserID(): Long {
-        val authentication: Authentication = SecurityContextHolder.getContext().authentication
-        val memberDetails = authentication.principal as MemberDetails
-        return memberDetails.id!!
-    }
+        val result = joinPoint.proceed()
 
-    private fun getParams(joinPoint: ProceedingJoinPoint): Map<String, Any> {
-        val methodSignature = joinPoint.signature as MethodSignature
-        val paramsName = methodSignature.parameterNames
-        val args = joinPoint.args
+        // 태그에 속한 캐시 일괄 삭제(반환 값을 #result로 참조 가능)
+        try {
+            val tagKeys = cacheTagResolver.resolve(joinPoint, customCacheDelete.tags, result)
+            if (tagKeys.isNotEmpty() && redisAvailable)
+                nearCache.evictAll(redisCall { redisCacheExecutor.invalidateTags(tagKeys) })
+        } catch (e: Exception) {
+            log.warn(e) { "태그 캐시 삭제 실패: ${customCacheDelete.tags.joinToString()}" }
+            cacheMetrics.error(cacheName(customCacheDelete.prefix, customCacheDelete.key), "invalidate", e)
+        }
 
-        return paramsName.zip(args).toMap()
+        return result
     }
 
-    private fun generateKey(prefix: String, key: String, id: String, params: Map<String, Any>): String {
-        val newKey = StringBuilder(prefix)
+    /**
+     * Redis 호출 결과를 서킷 브레이커에 기록
+     */
+    private fun <T> redisCall(call: () -> T): T = cacheCircuitBreaker.record(call)
 
-        if (key.isNotEmpty()) {
-            newKey.append(":").append(key)
+    /**
+     * 원본 메서드에서 발생한 예외는 캐시 오류와 구분하여 재실행 없이 그대로 전달
+     */
+    private fun proceed(joinPoint: ProceedingJoinPoint): Any? =
+        try {
+            joinPoint.proceed()
+        } catch (e: Throwable) {
+            throw LoaderException(e)
         }
 
-        if (id.isNotEmpty() && params.containsKey(id)) {
-            newKey.append(":").append(params[id])
-            return newKey.toString()
-        }
+    private class LoaderException(cause: Throwable) : RuntimeException(cause)
 
-        params.values.forEach { newKey.append(":").append(it) }
+    private fun cacheName(prefix: String, key: String) = if (key.isEmpty()) prefix else "$prefix:$key"
 
-        return newKey.toString()
+    private fun getUserID(): Long? {
+        val authentication: Authentication? = SecurityContextHolder.getContext().authentication
+        return (authentication?.principal as? MemberDetails)?.id
     }
 }
@@ -0,0 +1,87 @@
+package com.app.backend.global.cache
+
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.dao.DataAccessException
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * 캐시(Redis) 서킷 브레이커
+ *
+ * - CLOSED: Redis 사용, 연속 실패가 임계치에 도달하면 OPEN
+ * - OPEN: Redis를 거치지 않고 L1 캐시 또는 원본 메서드로 응답, 대기 시간이 지나면 HALF_OPEN
+ * - HALF_OPEN: 한 요청만 Redis로 보내 확인(probe), 성공 시 CLOSED, 실패 시 다시 OPEN
+ */
+@Component
+class CacheCircuitBreaker(
+    meterRegistry: MeterRegistry,
+    @Value("\${cache.circuit-breaker.failure-threshold:5}") private val failureThreshold: Int,
+    @Value("\${cache.circuit-breaker.open-duration:30s}") openDuration: Duration
+) {
+    enum class State { CLOSED, OPEN, HALF_OPEN }
+
+    private val log = KotlinLogging.logger {}
+    private val openDurationMillis = openDuration.toMillis()
+
+    private val state = AtomicReference(State.CLOSED)
+    private val consecutiveFailures = AtomicInteger()
+    private val openedAt = AtomicLong()
+
+    init {
+        Gauge.builder("cache.circuit.state", state) { it.get().ordinal.toDouble() }
+            .description("캐시 서킷 브레이커 상태(0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+            .register(meterRegistry)
+    }
+
+    val currentState: State get() = state.get()
+
+    /**
+     * Redis 사용 가능 여부, OPEN 상태에서 대기 시간이 지나면 한 요청만 probe로 허용
+     * (probe 결과가 기록되지 않은 채 대기 시간이 다시 지나면 다음 probe 허용)
+     */
+    fun allowRequest(): Boolean {
+        val now = System.currentTimeMillis()
+        val since = openedAt.get()
+        val current: State = state.get()
+
+        return when (current) {
+            State.CLOSED -> true
+            State.OPEN -> now - since >= openDurationMillis &&
+                    state.compareAndSet(State.OPEN, State.HALF_OPEN) &&
+                    openedAt.compareAndSet(since, now)
+            State.HALF_OPEN -> now - since >= openDurationMillis && openedAt.compareAndSet(since, now)
+        }
+    }
+
+    /**
+     * Redis 호출 결과를 기록(연결 실패, 타임아웃 등 DataAccessException만 실패로 집계)
+     */
+    fun <T> record(call: () -> T): T =
+        try {
+            call().also { onSuccess() }
+        } catch (e: DataAccessException) {
+            onFailure()
+            throw e
+        }
+
+    fun onSuccess() {
+        consecutiveFailures.set(0)
+        if (state.getAndSet(State.CLOSED) != State.CLOSED) log.info { "캐시 서킷 CLOSED" }
+    }
+
+    fun onFailure() {
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) open()
+    }
+
+    private fun open() {
+        openedAt.set(System.currentTimeMillis())
+        if (state.getAndSet(State.OPEN) != State.OPEN)
+            log.warn { "캐시 서킷 OPEN: ${openDurationMillis}ms 동안 Redis 미사용" }
+    }
+}
@@ -0,0 +1,51 @@
+package com.app.backend.global.cache
+
+import com.app.backend.global.annotation.CustomCache
+import com.app.backend.global.annotation.CustomCacheDelete
+import org.aspectj.lang.ProceedingJoinPoint
+import org.aspectj.lang.reflect.MethodSignature
+import org.springframework.stereotype.Component
+import java.lang.reflect.Method
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * @CustomCache/@CustomCacheDelete 캐시 키 생성
+ *
+ * 메서드별로 키 prefix와 id 파라미터 위치를 한 번만 계산(CacheKeyPlan)하여,
+ * 호출 시에는 파라미터 Map 생성 없이 인자 배열에서 바로 키를 만든다.
+ */
+@Component
+class CacheKeyGenerator {
+    private val cachePlans = ConcurrentHashMap<Method, CacheKeyPlan>()
+    private val deletePlans = ConcurrentHashMap<Method, CacheKeyPlan>()
+
+    fun generate(joinPoint: ProceedingJoinPoint, customCache: CustomCache): String {
+        val signature = joinPoint.signature as MethodSignature
+        return cachePlans.computeIfAbsent(signature.method) {
+            CacheKeyPlan(customCache.prefix, customCache.key, customCache.id, signature.parameterNames)
+        }.generate(joinPoint.args)
+    }
+
+    fun generate(joinPoint: ProceedingJoinPoint, customCacheDelete: CustomCacheDelete): String {
+        val signature = joinPoint.signature as MethodSignature
+        return deletePlans.computeIfAbsent(signature.method) {
+            CacheKeyPlan(customCacheDelete.prefix, customCacheDelete.key, customCacheDelete.id, signature.parameterNames)
+        }.generate(joinPoint.args)
+    }
+
+    /**
+     * id 파라미터가 있으면 "prefix:key:{id}", 없으면 "prefix:key:{인자1}:{인자2}..." 형식
+     */
+    class CacheKeyPlan(prefix: String, key: String, id: String, parameterNames: Array<String>) {
+        private val base = if (key.isNotEmpty()) "$prefix:$key" else prefix
+        private val idIndex = if (id.isNotEmpty()) parameterNames.indexOf(id) else -1
+
+        fun generate(args: Array<Any?>): String {
+            if (idIndex >= 0) return "$base:${args[idIndex]}"
+
+            val newKey = StringBuilder(base)
+            args.forEach { newKey.append(':').append(it) }
+            return newKey.toString()
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.app.backend.global.cache
+
+import io.github.oshai.kotlinlogging.KotlinLogging
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * @CustomCache 지표(Micrometer)
+ *
+ * - cache.aspect.requests{cache, result=l1_hit|l2_hit|miss}: 캐시 조회 결과
+ * - cache.aspect.errors{cache, operation, exception}: 캐시 처리 중 발생한 오류
+ * - cache.aspect.bypass{cache, reason=error|circuit_open}: 캐시를 거치지 않고 원본 메서드를 직접 실행한 횟수
+ * - cache.aspect.negative_hits{cache}: 존재하지 않는 엔티티 조회를 로컬 캐시에서 응답한 횟수
+ * - cache.aspect.load{cache}: 캐시 미스 시 원본 조회 시간
+ * - cache.l2.keys{cache}: L2 캐시 키 개수(캐시별 키 인덱스 ZSET의 ZCOUNT, SCAN 미사용)
+ * - cache.l1.size: 로컬 캐시 엔트리 개수
+ *
+ * cache 태그는 "prefix:key"(예: post:postid, post:groupid) 형식이다.
+ * 키 인덱스는 캐시 저장 시 만료 시각을 score로 등록하고 단건 삭제 시 제거한다.
+ * 태그 일괄 삭제로 지워진 키는 원래 만료 시각까지 집계될 수 있으므로 cache.l2.keys는 근사치다.
+ */
+@Component
+class CacheMetrics(
+    private val meterRegistry: MeterRegistry,
+    private val redisTemplate: RedisTemplate<String, Any>,
+    nearCache: NearCache
+) {
+    companion object {
+        private const val KEY_INDEX_PREFIX = "cache:keys"
+
+        /** 캐시별 L2 키 인덱스(ZSET, member: 캐시 키, score: 만료 시각) */
+        fun keyIndex(cache: String) = "$KEY_INDEX_PREFIX:$cache"
+    }
+
+    private val log = KotlinLogging.logger {}
+    private val keyCounts = ConcurrentHashMap<String, AtomicLong>()
+
+    init {
+        Gauge.builder("cache.l1.size", nearCache) { it.size().toDouble() }
+            .description("로컬 캐시 엔트리 개수")
+            .register(meterRegistry)
+    }
+
+    fun l1Hit(cache: String) = request(cache, "l1_hit")
+
+    fun l2Hit(cache: String) = request(cache, "l2_hit")
+
+    fun miss(cache: String) = request(cache, "miss")
+
+    fun error(cache: String, operation: String, e: Throwable) =
+        Counter.builder("cache.aspect.errors")
+            .description("@CustomCache 처리 오류")
+            .tag("cache", cache)
+            .tag("operation", operation)
+            .tag("exception", e.javaClass.simpleName)
+            .register(meterRegistry)
+            .increment()
+
+    fun bypass(cache: String, reason: String) =
+        Counter.builder("cache.aspect.bypass")
+            .description("@CustomCache를 거치지 않고 원본 메서드를 직접 실행한 횟수")
+            .tag("cache", cache)
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment()
+
+    fun negativeHit(cache: String) =
+        Counter.builder("cache.aspect.negative_hits")
+            .description("존재하지 않는 엔티티 조회를 로컬 캐시에서 응답한 횟수")
+            .tag("cache", cache)
+            .register(meterRegistry)
+            .increment()
+
+    fun <T> recordLoad(cache: String, loader: () -> T): T =
+        Timer.builder("cache.aspect.load")
+            .description("@CustomCache 미스 시 원본 조회 시간")
+            .tag("cache", cache)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .recordCallable(loader)!!
+
+    /**
+     * 캐시별 L2 키 개수 집계(캐시당 ZCOUNT 1회, O(log N)), 만료 시각이 지나지 않은 키만 집계
+     */
+    @Scheduled(fixedDelayString = "\${cache.metrics.key-count-interval:60000}")
+    fun countL2Keys() {
+        val now = System.currentTimeMillis().toDouble()
+        keyCounts.forEach { (cache, count) ->
+            try {
+                count.set(redisTemplate.opsForZSet().count(keyIndex(cache), now, Double.POSITIVE_INFINITY) ?: 0L)
+            } catch (e: Exception) {
+                log.warn(e) { "L2 캐시 키 개수 집계 실패: $cache" }
+            }
+        }
+    }
+
+    private fun request(cache: String, result: String) {
+        registerKeyCount(cache)
+        Counter.builder("cache.aspect.requests")
+            .description("@CustomCache 조회 결과")
+            .tag("cache", cache)
+            .tag("result", result)
+            .register(meterRegistry)
+            .increment()
+    }
+
+    private fun registerKeyCount(cache: String) {
+        keyCounts.computeIfAbsent(cache) { name ->
+            AtomicLong().also {
+                Gauge.builder("cache.l2.keys", it) { count -> count.get().toDouble() }
+                    .description("L2 캐시 키 개수")
+                    .tag("cache", name)
+                    .register(meterRegistry)
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.app.backend.global.cache
+
+import com.app.backend.global.util.KeyExpressionEvaluator
+import org.aspectj.lang.ProceedingJoinPoint
+import org.aspectj.lang.reflect.MethodSignature
+import org.springframework.expression.Expression
+import org.springframework.stereotype.Component
+import java.lang.reflect.Method
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * 캐시 태그 SpEL 표현식 평가
+ *
+ * 메서드 파라미터는 #파라미터명, 반환 값은 #result로 참조한다(예: "'group:' + #groupId").
+ * 태그 표현식은 메서드별로 한 번만 파싱한다.
+ */
+@Component
+class CacheTagResolver {
+    companion object {
+        const val TAG_PREFIX = "cache:tag"
+    }
+
+    private val plans = ConcurrentHashMap<Method, ConcurrentHashMap<String, Expression>>()
+
+    /**
+     * 태그 표현식을 평가하여 태그 Set 키 목록 반환, 값이 null인 태그는 제외
+     */
+    fun resolve(joinPoint: ProceedingJoinPoint, tags: Array<String>, result: Any? = null): List<String> {
+        if (tags.isEmpty()) return emptyList()
+
+        val signature = joinPoint.signature as MethodSignature
+        val expressions = plans.computeIfAbsent(signature.method) { ConcurrentHashMap() }
+        val parameterNames = signature.parameterNames
+        val args = joinPoint.args
+
+        return tags.mapNotNull { tag ->
+            val expression = expressions.computeIfAbsent(tag, KeyExpressionEvaluator::parse)
+            KeyExpressionEvaluator.evaluate(expression, parameterNames, args, result)?.let { "$TAG_PREFIX:$it" }
+        }
+    }
+}
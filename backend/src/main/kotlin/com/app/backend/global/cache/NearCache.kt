@@ -0,0 +1,89 @@
+package com.app.backend.global.cache
+
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import com.github.benmanes.caffeine.cache.Expiry
+import io.github.oshai.kotlinlogging.KotlinLogging
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+/**
+ * 로컬(L1) 캐시
+ *
+ * Redis(L2) 앞단에서 크기 제한(maximumSize)과 TTL을 갖는 인-프로세스 캐시로 동작하며,
+ * 삭제 요청은 Redis Pub/Sub 채널을 통해 모든 노드로 전파된다.
+ */
+@Component
+class NearCache(
+    private val redisTemplate: RedisTemplate<String, Any>,
+    @Value("\${cache.local.enabled:true}") val enabled: Boolean,
+    @Value("\${cache.local.maximum-size:10000}") maximumSize: Long,
+    @Value("\${cache.local.ttl:30s}") ttl: Duration
+) {
+    companion object {
+        const val INVALIDATION_CHANNEL = "cache:invalidation"
+    }
+
+    private val log = KotlinLogging.logger {}
+    private val maxTtlNanos = ttl.toNanos()
+
+    private val cache: Cache<String, Entry> = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfter(object : Expiry<String, Entry> {
+            override fun expireAfterCreate(key: String, value: Entry, currentTime: Long) = value.ttlNanos
+            override fun expireAfterUpdate(key: String, value: Entry, currentTime: Long, currentDuration: Long) =
+                value.ttlNanos
+
+            override fun expireAfterRead(key: String, value: Entry, currentTime: Long, currentDuration: Long) =
+                currentDuration
+        })
+        .build()
+
+    fun get(key: String): Any? = if (enabled) cache.getIfPresent(key)?.value else null
+
+    fun contains(key: String) = enabled && cache.getIfPresent(key) != null
+
+    /**
+     * 로컬 캐시 저장, TTL은 L2 TTL과 로컬 최대 TTL 중 작은 값으로 제한
+     */
+    fun put(key: String, value: Any, ttl: Long, unit: TimeUnit) {
+        if (!enabled) return
+        cache.put(key, Entry(value, minOf(unit.toNanos(ttl), maxTtlNanos)))
+    }
+
+    /**
+     * 현재 노드의 로컬 캐시를 삭제하고 다른 노드에 삭제 메시지 발행
+     */
+    fun evict(key: String) {
+        evictLocal(key)
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, key)
+        } catch (e: Exception) {
+            log.warn(e) { "로컬 캐시 삭제 메시지 발행 실패: $key" }
+        }
+    }
+
+    /**
+     * 여러 키를 삭제하고 삭제 메시지는 한 번만 발행
+     */
+    fun evictAll(keys: Collection<String>) {
+        if (keys.isEmpty()) return
+        keys.forEach(::evictLocal)
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, ArrayList(keys))
+        } catch (e: Exception) {
+            log.warn(e) { "로컬 캐시 삭제 메시지 발행 실패: ${keys.size}건" }
+        }
+    }
+
+    fun evictLocal(key: String) {
+        if (enabled) cache.invalidate(key)
+    }
+
+    fun size() = cache.estimatedSize()
+
+    private data class Entry(val value: Any, val ttlNanos: Long)
+}
@@ -0,0 +1,22 @@
+package com.app.backend.global.cache
+
+import org.springframework.data.redis.connection.Message
+import org.springframework.data.redis.connection.MessageListener
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.stereotype.Component
+
+/**
+ * 다른 노드에서 발행한 캐시 삭제 메시지를 수신하여 로컬(L1) 캐시 삭제
+ */
+@Component
+class NearCacheInvalidationListener(
+    private val nearCache: NearCache,
+    private val redisTemplate: RedisTemplate<String, Any>
+) : MessageListener {
+    override fun onMessage(message: Message, pattern: ByteArray?) {
+        when (val keys = redisTemplate.valueSerializer.deserialize(message.body)) {
+            is String -> nearCache.evictLocal(keys)
+            is Collection<*> -> keys.filterIsInstance<String>().forEach(nearCache::evictLocal)
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.app.backend.global.cache
+
+/**
+ * 존재하지 않는 엔티티 조회 결과(NOT_FOUND)를 로컬 캐시에 짧게 저장하기 위한 값
+ */
+class NegativeCacheEntry(val exception: Throwable)
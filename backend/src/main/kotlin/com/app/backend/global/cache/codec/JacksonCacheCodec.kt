@@ -0,0 +1,30 @@
+package com.app.backend.global.cache.codec
+
+import com.fasterxml.jackson.annotation.JsonCreator
+import com.fasterxml.jackson.core.JsonFactory
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule
+import com.fasterxml.jackson.module.kotlin.KotlinModule
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule
+import java.lang.reflect.Type
+
+/**
+ * 타입 정보를 포함하지 않는 Jackson 기반 코덱(Smile, CBOR 등 바이너리 포맷)
+ */
+class JacksonCacheCodec(
+    override val name: String,
+    factory: JsonFactory
+) : CacheCodec {
+    private val objectMapper = ObjectMapper(factory).apply {
+        registerModule(KotlinModule.Builder().build())
+        registerModule(ParameterNamesModule(JsonCreator.Mode.PROPERTIES))
+        registerModule(Jdk8Module())
+        registerModule(JavaTimeModule())
+    }
+
+    override fun encode(value: Any): ByteArray = objectMapper.writeValueAsBytes(value)
+
+    override fun decode(bytes: ByteArray, type: Type): Any? =
+        objectMapper.readValue(bytes, objectMapper.typeFactory.constructType(type))
+}
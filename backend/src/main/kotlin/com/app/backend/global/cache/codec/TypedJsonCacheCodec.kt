@@ -0,0 +1,17 @@
+package com.app.backend.global.cache.codec
+
+import org.springframework.data.redis.serializer.RedisSerializer
+import java.lang.reflect.Type
+
+/**
+ * 기존 RedisTemplate 값 직렬화(클래스 이름을 포함한 JSON)를 그대로 사용하는 코덱
+ */
+class TypedJsonCacheCodec(
+    private val serializer: RedisSerializer<Any>
+) : CacheCodec {
+    override val name = CacheCodecRegistry.JSON
+
+    override fun encode(value: Any): ByteArray = serializer.serialize(value) ?: ByteArray(0)
+
+    override fun decode(bytes: ByteArray, type: Type): Any? = serializer.deserialize(bytes)
+}
@@ -2,7 +2,9 @@ package com.app.backend.global.config
 
 import com.app.backend.global.aop.AppAspect.Companion.LockAspect
 import com.app.backend.global.aop.AppAspect.Companion.PageJsonSerializerAspect
+import com.app.backend.global.aop.AppAspect.Companion.SchedulerLockAspect
 import com.app.backend.global.util.LockManager
+import com.app.backend.global.util.SchedulerLockManager
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
 
@@ -13,4 +15,7 @@ class AopConfig {
 
     @Bean
     fun redissonLockAspect(lockManager: LockManager) = LockAspect(lockManager)
+
+    @Bean
+    fun schedulerLockAspect(schedulerLockManager: SchedulerLockManager) = SchedulerLockAspect(schedulerLockManager)
 }
@@ -8,6 +8,8 @@ import com.fasterxml.jackson.datatype.jdk8.Jdk8Module
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule
 import com.fasterxml.jackson.module.kotlin.KotlinModule
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule
+import com.app.backend.global.cache.NearCache
+import com.app.backend.global.cache.NearCacheInvalidationListener
 import org.redisson.Redisson
 import org.redisson.api.RedissonClient
 import org.redisson.config.Config
@@ -19,6 +21,8 @@ import org.springframework.data.redis.connection.RedisPassword
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory
 import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.listener.ChannelTopic
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer
 import org.springframework.data.redis.serializer.StringRedisSerializer
@@ -64,6 +68,13 @@ class RedisConfig(
         }
     }
 
+    @Bean
+    fun redisMessageListenerContainer(nearCacheInvalidationListener: NearCacheInvalidationListener) =
+        RedisMessageListenerContainer().apply {
+            setConnectionFactory(redisConnectionFactory())
+            addMessageListener(nearCacheInvalidationListener, ChannelTopic(NearCache.INVALIDATION_CHANNEL))
+        }
+
     @Bean
     fun redissonClient(): RedissonClient {
         val config = Config()
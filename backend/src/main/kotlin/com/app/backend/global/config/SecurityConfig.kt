@@ -68,7 +68,7 @@ class SecurityConfig(
                     "/api/v1/proxy/kakao/**",
                     "/api/v1/notifications/**"
                 ).permitAll()
-                .requestMatchers("/actuator/prometheus").permitAll()
+                .requestMatchers("/actuator/prometheus", "/actuator/health", "/actuator/health/**").permitAll()
                 .anyRequest().authenticated()
         }
         .headers { headers ->
@@ -0,0 +1,20 @@
+package com.app.backend.global.dto.response
+
+import com.fasterxml.jackson.annotation.JsonInclude
+
+/**
+ * 커서 기반 페이지 응답
+ *
+ * nextCursor를 다음 요청의 cursor로 전달하면 이어지는 페이지를 조회하며, 마지막 페이지면 null.
+ * totalCount는 요청한 경우에만 포함한다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+data class CursorPage<T>(
+    val content: List<T>,
+    val nextCursor: String?,
+    val hasNext: Boolean,
+    val totalCount: Long? = null
+) {
+    fun <R> map(transform: (T) -> R): CursorPage<R> =
+        CursorPage(content.map(transform), nextCursor, hasNext, totalCount)
+}
@@ -0,0 +1,20 @@
+package com.app.backend.global.entity
+
+import jakarta.persistence.Column
+import jakarta.persistence.Entity
+import jakarta.persistence.Id
+import jakarta.persistence.Table
+
+/**
+ * 스케줄 작업별 마지막으로 DB에 쓰기를 커밋한 펜싱 토큰(SchedulerLockManager.fence)
+ */
+@Entity
+@Table(name = "tbl_scheduler_fences")
+class SchedulerFence(
+    @Id
+    @Column(name = "job_name", length = 100)
+    val jobName: String,
+
+    @Column(name = "fencing_token", nullable = false)
+    val fencingToken: Long
+)
@@ -0,0 +1,46 @@
+package com.app.backend.global.init.cache
+
+import org.springframework.boot.actuate.health.Health
+import org.springframework.boot.actuate.health.HealthIndicator
+import org.springframework.stereotype.Component
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * 캐시 워밍 진행 상태(readiness health 그룹에 포함)
+ *
+ * 워밍이 끝나기 전에는 OUT_OF_SERVICE, 완료(또는 비활성화) 후에는 UP을 반환한다.
+ */
+@Component
+class CacheWarmupHealthIndicator : HealthIndicator {
+    enum class Status { PENDING, RUNNING, COMPLETED, TIMEOUT, SKIPPED }
+
+    private val status = AtomicReference(Status.PENDING)
+    private val total = AtomicInteger()
+    private val completed = AtomicInteger()
+    private val failed = AtomicInteger()
+
+    override fun health(): Health {
+        val current = status.get()
+        val builder = if (current == Status.PENDING || current == Status.RUNNING) Health.outOfService() else Health.up()
+
+        return builder
+            .withDetail("status", current)
+            .withDetail("total", total.get())
+            .withDetail("completed", completed.get())
+            .withDetail("failed", failed.get())
+            .build()
+    }
+
+    fun start() = status.set(Status.RUNNING)
+
+    fun skip() = status.set(Status.SKIPPED)
+
+    fun finish(timeout: Boolean) = status.set(if (timeout) Status.TIMEOUT else Status.COMPLETED)
+
+    fun taskAdded() = total.incrementAndGet()
+
+    fun taskCompleted() = completed.incrementAndGet()
+
+    fun taskFailed() = failed.incrementAndGet()
+}
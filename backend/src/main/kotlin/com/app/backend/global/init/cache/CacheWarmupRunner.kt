@@ -0,0 +1,93 @@
+package com.app.backend.global.init.cache
+
+import com.app.backend.domain.group.repository.GroupRepository
+import com.app.backend.domain.post.service.post.PostDetailService
+import com.app.backend.domain.post.service.post.PostService
+import io.github.oshai.kotlinlogging.KotlinLogging
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.ApplicationArguments
+import org.springframework.boot.ApplicationRunner
+import org.springframework.data.domain.PageRequest
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+
+/**
+ * 애플리케이션 시작 시 자주 조회되는 캐시를 미리 적재(캐시 워밍)
+ *
+ * 좋아요 수 상위 모임 → 모임별 인기 게시글 5개 → 각 게시글 본문 순서로 적재하며,
+ * 작업은 고정 크기 스레드 풀에서 실행되어 동시 DB 조회 수가 제한된다.
+ * ApplicationRunner는 readiness(ACCEPTING_TRAFFIC) 전환 전에 실행되므로 워밍이 끝난 뒤 트래픽을 받는다.
+ */
+@Component
+class CacheWarmupRunner(
+    private val groupRepository: GroupRepository,
+    private val postService: PostService,
+    private val postDetailService: PostDetailService,
+    private val cacheWarmupHealthIndicator: CacheWarmupHealthIndicator,
+    @Value("\${cache.warmup.enabled:true}") private val enabled: Boolean,
+    @Value("\${cache.warmup.top-groups:20}") private val topGroups: Int,
+    @Value("\${cache.warmup.concurrency:4}") private val concurrency: Int,
+    @Value("\${cache.warmup.timeout:60s}") private val timeout: Duration
+) : ApplicationRunner {
+    private val log = KotlinLogging.logger {}
+
+    override fun run(args: ApplicationArguments) {
+        if (!enabled) {
+            cacheWarmupHealthIndicator.skip()
+            return
+        }
+
+        cacheWarmupHealthIndicator.start()
+        val executor = Executors.newFixedThreadPool(concurrency)
+
+        try {
+            val groupIds = groupRepository.findAllByDisabledOrderByLikeCountDesc(false, PageRequest.of(0, topGroups))
+                .mapNotNull { it.id }
+
+            val tasks = groupIds.map { groupId ->
+                submit(executor) { postService.getTopFivePosts(groupId) }
+                    .thenCompose { posts ->
+                        CompletableFuture.allOf(
+                            *posts.orEmpty().map { post ->
+                                submit(executor) { postDetailService.getPostDetail(post.postId) }
+                            }.toTypedArray()
+                        )
+                    }
+            }
+
+            CompletableFuture.allOf(*tasks.toTypedArray()).get(timeout.toMillis(), TimeUnit.MILLISECONDS)
+            cacheWarmupHealthIndicator.finish(false)
+            log.info { "캐시 워밍 완료: ${cacheWarmupHealthIndicator.health().details}" }
+        } catch (e: TimeoutException) {
+            cacheWarmupHealthIndicator.finish(true)
+            log.warn { "캐시 워밍 시간 초과(${timeout.toMillis()}ms): ${cacheWarmupHealthIndicator.health().details}" }
+        } catch (e: Exception) {
+            // 워밍 실패가 애플리케이션 시작을 막지 않도록 함
+            cacheWarmupHealthIndicator.finish(false)
+            log.warn(e) { "캐시 워밍 실패" }
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    /**
+     * 개별 작업 실패는 건너뛰고 나머지 작업을 계속 진행
+     */
+    private fun <T> submit(executor: ExecutorService, task: () -> T): CompletableFuture<T?> {
+        cacheWarmupHealthIndicator.taskAdded()
+        return CompletableFuture.supplyAsync({
+            try {
+                task().also { cacheWarmupHealthIndicator.taskCompleted() }
+            } catch (e: Exception) {
+                cacheWarmupHealthIndicator.taskFailed()
+                log.debug(e) { "캐시 워밍 작업 실패" }
+                null
+            }
+        }, executor)
+    }
+}
@@ -0,0 +1,142 @@
+package com.app.backend.global.util
+
+import kotlin.math.*
+
+/**
+ * 지오해시(geohash) 인코딩과 반경 검색용 셀 계산
+ *
+ * 지오해시는 앞자리가 같을수록 가까운 위치이므로 문자열 인덱스의 접두사(LIKE 'prefix%') 범위 조회로 주변 후보를 찾고,
+ * 정확한 거리는 haversine 공식으로 계산한다.
+ */
+object GeoHash {
+    const val PRECISION = 9 // 약 4.8m x 4.8m
+
+    private const val BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz"
+    private const val EARTH_RADIUS_KM = 6371.0088
+    private const val KM_PER_DEGREE = 111.32
+
+    /**
+     * 위도/경도를 지오해시 문자열로 인코딩
+     *
+     * @param latitude  - 위도(-90 ~ 90)
+     * @param longitude - 경도(-180 ~ 180)
+     * @param precision - 문자 수(1 ~ 12)
+     * @return 지오해시
+     */
+    fun encode(latitude: Double, longitude: Double, precision: Int = PRECISION): String {
+        require(latitude in -90.0..90.0 && longitude in -180.0..180.0) { "위도/경도 범위를 벗어났습니다." }
+        require(precision in 1..12) { "precision은 1 ~ 12 사이여야 합니다." }
+
+        var minLat = -90.0
+        var maxLat = 90.0
+        var minLng = -180.0
+        var maxLng = 180.0
+        var isLng = true
+        var bit = 0
+        var index = 0
+
+        return buildString(precision) {
+            while (length < precision) {
+                if (isLng) {
+                    val mid = (minLng + maxLng) / 2
+                    if (longitude >= mid) { index = index * 2 + 1; minLng = mid } else { index *= 2; maxLng = mid }
+                } else {
+                    val mid = (minLat + maxLat) / 2
+                    if (latitude >= mid) { index = index * 2 + 1; minLat = mid } else { index *= 2; maxLat = mid }
+                }
+                isLng = !isLng
+
+                if (++bit == 5) {
+                    append(BASE32[index])
+                    bit = 0
+                    index = 0
+                }
+            }
+        }
+    }
+
+    /**
+     * 중심에서 반경 안의 모든 위치를 덮는 지오해시 셀 목록
+     *
+     * 셀 한 변이 반경 이상인 가장 긴 정밀도를 골라 중심 셀과 주변 8개 셀을 반환한다.
+     *
+     * @param latitude  - 중심 위도
+     * @param longitude - 중심 경도
+     * @param radiusKm  - 반경(km)
+     * @return 지오해시 접두사 목록(최대 9개)
+     */
+    fun coveringCells(latitude: Double, longitude: Double, radiusKm: Double): Set<String> {
+        val precision = (PRECISION downTo 1).firstOrNull { precision ->
+            cellHeightKm(precision) >= radiusKm && cellWidthKm(precision, latitude) >= radiusKm
+        } ?: 1
+
+        val latStep = cellLatDegrees(precision)
+        val lngStep = cellLngDegrees(precision)
+
+        return (-1..1).flatMap { i ->
+            (-1..1).map { j ->
+                encode(
+                    (latitude + i * latStep).coerceIn(-90.0, 90.0),
+                    wrapLongitude(longitude + j * lngStep),
+                    precision
+                )
+            }
+        }.toSet()
+    }
+
+    /**
+     * 반경 검색을 좁은 범위부터 단계적으로 넓히기 위한 반경 목록
+     *
+     * 각 정밀도의 셀 한 변(짧은 쪽)을 반경으로 사용하므로 단계마다 [coveringCells]의 정밀도가 한 단계씩 낮아진다.
+     * 가까운 결과가 충분하면 넓은(셀이 큰) 범위를 조회하지 않도록 하기 위함이며, 마지막 값은 항상 radiusKm
+     *
+     * @param latitude    - 중심 위도
+     * @param radiusKm    - 최대 반경(km)
+     * @param minRadiusKm - 첫 단계 반경의 하한(km)
+     * @return 오름차순 반경 목록
+     */
+    fun expandingRadii(latitude: Double, radiusKm: Double, minRadiusKm: Double = 1.0): List<Double> =
+        (PRECISION downTo 1).map { min(cellHeightKm(it), cellWidthKm(it, latitude)) }
+            .filter { it >= minRadiusKm && it < radiusKm }
+            .plus(radiusKm)
+
+    /**
+     * 두 위치 사이의 대원 거리(km), haversine 공식
+     */
+    fun distanceKm(lat1: Double, lng1: Double, lat2: Double, lng2: Double): Double {
+        val dLat = Math.toRadians(lat2 - lat1)
+        val dLng = Math.toRadians(lng2 - lng1)
+        val a = sin(dLat / 2).pow(2) + cos(Math.toRadians(lat1)) * cos(Math.toRadians(lat2)) * sin(dLng / 2).pow(2)
+        return 2 * EARTH_RADIUS_KM * asin(sqrt(a.coerceIn(0.0, 1.0)))
+    }
+
+    /**
+     * 반경을 위도 차이(도)로 환산
+     */
+    fun latitudeDelta(radiusKm: Double): Double = radiusKm / KM_PER_DEGREE
+
+    /**
+     * 반경을 해당 위도에서의 경도 차이(도)로 환산, 극지방처럼 계산할 수 없으면 null
+     */
+    fun longitudeDelta(latitude: Double, radiusKm: Double): Double? {
+        val kmPerDegree = KM_PER_DEGREE * cos(Math.toRadians(latitude))
+        return if (kmPerDegree < 1e-6) null else radiusKm / kmPerDegree
+    }
+
+    //==================== 내부 함수 ====================//
+
+    private fun cellLatDegrees(precision: Int): Double = 180.0 / (1L shl (precision * 5 / 2))
+
+    private fun cellLngDegrees(precision: Int): Double = 360.0 / (1L shl ((precision * 5 + 1) / 2))
+
+    private fun cellHeightKm(precision: Int): Double = cellLatDegrees(precision) * KM_PER_DEGREE
+
+    private fun cellWidthKm(precision: Int, latitude: Double): Double =
+        cellLngDegrees(precision) * KM_PER_DEGREE * cos(Math.toRadians(latitude))
+
+    private fun wrapLongitude(longitude: Double): Double = when {
+        longitude > 180.0 -> longitude - 360.0
+        longitude < -180.0 -> longitude + 360.0
+        else -> longitude
+    }
+}
@@ -0,0 +1,47 @@
+package com.app.backend.global.util
+
+import org.springframework.expression.EvaluationContext
+import org.springframework.expression.Expression
+import org.springframework.expression.spel.SpelCompilerMode
+import org.springframework.expression.spel.SpelParserConfiguration
+import org.springframework.expression.spel.standard.SpelExpressionParser
+import org.springframework.expression.spel.support.SimpleEvaluationContext
+
+/**
+ * 캐시/락 키 SpEL 표현식 평가
+ *
+ * 표현식은 메서드별로 한 번만 파싱하여 재사용하고(SpelCompilerMode.IMMEDIATE로 바이트코드 컴파일),
+ * 호출마다 메서드 인자를 변수로 노출하는 가벼운 EvaluationContext 하나만 생성한다.
+ * 컴파일된 표현식은 첫 평가 시의 인자 타입에 고정되므로 표현식 문자열이 같더라도 메서드마다 따로 파싱한다.
+ */
+object KeyExpressionEvaluator {
+    private const val RESULT_VARIABLE = "result"
+
+    private val parser = SpelExpressionParser(
+        SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, KeyExpressionEvaluator::class.java.classLoader)
+    )
+    private val baseContext: EvaluationContext = SimpleEvaluationContext.forReadOnlyDataBinding().build()
+
+    fun parse(expression: String): Expression = parser.parseExpression(expression)
+
+    /**
+     * 메서드 파라미터는 #파라미터명, 반환 값은 #result로 참조
+     */
+    fun evaluate(expression: Expression, parameterNames: Array<String>, args: Array<Any?>, result: Any? = null): Any? =
+        expression.getValue(ArgumentsEvaluationContext(parameterNames, args, result))
+
+    private class ArgumentsEvaluationContext(
+        private val parameterNames: Array<String>,
+        private val args: Array<Any?>,
+        private val result: Any?
+    ) : EvaluationContext by baseContext {
+        override fun lookupVariable(name: String): Any? {
+            if (name == RESULT_VARIABLE) return result
+            val index = parameterNames.indexOf(name)
+            return if (index >= 0) args[index] else null
+        }
+
+        override fun setVariable(name: String, value: Any?) =
+            throw UnsupportedOperationException("Key expression context is read-only")
+    }
+}
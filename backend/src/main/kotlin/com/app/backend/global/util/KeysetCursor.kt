@@ -0,0 +1,39 @@
+package com.app.backend.global.util
+
+import com.app.backend.global.error.exception.DomainException
+import com.app.backend.global.error.exception.GlobalErrorCode
+import java.time.LocalDateTime
+import java.util.*
+
+/**
+ * (createdAt, id) 키셋 페이지 커서
+ *
+ * 클라이언트에는 Base64 URL 문자열로 전달하여 내부 값에 의존하지 않도록 한다.
+ */
+data class KeysetCursor(
+    val createdAt: LocalDateTime,
+    val id: Long
+) {
+    companion object {
+        private const val DELIMITER = '|'
+
+        /**
+         * 커서 문자열 해석, 비어 있으면 첫 페이지(null)
+         */
+        fun decode(cursor: String?): KeysetCursor? {
+            if (cursor.isNullOrBlank()) return null
+            return try {
+                val value = String(Base64.getUrlDecoder().decode(cursor))
+                KeysetCursor(
+                    LocalDateTime.parse(value.substringBefore(DELIMITER)),
+                    value.substringAfter(DELIMITER).toLong()
+                )
+            } catch (e: RuntimeException) {
+                throw DomainException(GlobalErrorCode.INVALID_INPUT_VALUE)
+            }
+        }
+    }
+
+    fun encode(): String =
+        Base64.getUrlEncoder().withoutPadding().encodeToString("$createdAt$DELIMITER$id".toByteArray())
+}
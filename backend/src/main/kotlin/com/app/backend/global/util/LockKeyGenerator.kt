@@ -2,37 +2,40 @@ package com.app.backend.global.util
 
 import org.aspectj.lang.ProceedingJoinPoint
 import org.aspectj.lang.reflect.MethodSignature
-import org.springframework.expression.ExpressionParser
-import org.springframework.expression.spel.standard.SpelExpressionParser
-import org.springframework.expression.spel.support.StandardEvaluationContext
+import org.springframework.expression.Expression
+import java.lang.reflect.Method
 import java.time.LocalDateTime
 import java.util.*
+import java.util.concurrent.ConcurrentHashMap
 
 class LockKeyGenerator {
     companion object {
-        private val parser: ExpressionParser = SpelExpressionParser()
+        private val plans = ConcurrentHashMap<Method, LockKeyPlan>()
 
         fun generateLockKey(joinPoint: ProceedingJoinPoint, spelExpression: String): String {
             val signature = joinPoint.signature as MethodSignature
-            val args = joinPoint.args
-            val method = signature.method
-            val parameterNames = signature.parameterNames
+            return generateLockKey(signature.method, signature.parameterNames, joinPoint.args, spelExpression)
+        }
 
-            val context = StandardEvaluationContext()
-            parameterNames.forEachIndexed { index, parameterName -> context.setVariable(parameterName, args[index]) }
+        /**
+         * 메서드별로 파싱된 표현식과 파라미터 이름을 캐싱하여 락 키 생성
+         */
+        fun generateLockKey(
+            method: Method,
+            parameterNames: Array<String>,
+            args: Array<Any?>,
+            spelExpression: String
+        ): String {
+            val plan = plans[method]?.takeIf { it.expressionString == spelExpression }
+                ?: LockKeyPlan("${method.name}:", spelExpression, KeyExpressionEvaluator.parse(spelExpression), parameterNames)
+                    .also { plans[method] = it }
 
-            val value = parser.parseExpression(spelExpression).getValue(context)
+            val value = KeyExpressionEvaluator.evaluate(plan.expression, plan.parameterNames, args)
                 ?: throw IllegalArgumentException("Lock key cannot be null")
 
-            return "${method.name}:${convertToKey(value)}"
+            return plan.prefix + convertToKey(value)
         }
 
-        fun generateLockKey(keyParam: String) = "${
-            Thread.currentThread().stackTrace.first {
-                it.methodName != "generateLockKey"
-            }.methodName
-        }:$keyParam"
-
         private fun convertToKey(value: Any): String = when (value) {
             is String -> value
             is Number, is Boolean -> value.toString()
@@ -61,4 +64,11 @@ class LockKeyGenerator {
             ) { "${convertToKey(it.key!!)}=${convertToKey(it.value!!)}" }
 
     }
-}
\ No newline at end of file
+
+    private class LockKeyPlan(
+        val prefix: String,
+        val expressionString: String,
+        val expression: Expression,
+        val parameterNames: Array<String>
+    )
+}
@@ -0,0 +1,196 @@
+package com.app.backend.global.util
+
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import org.redisson.api.RScript
+import org.redisson.api.RedissonClient
+import org.redisson.client.codec.StringCodec
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.dao.DuplicateKeyException
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.stereotype.Component
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import java.lang.management.ManagementFactory
+import java.time.Duration
+import java.util.*
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 스케줄 작업 실행 노드 선출(Redisson)
+ *
+ * - 작업별 락(SET NX PX)을 획득한 노드만 실행하고, 나머지 노드는 해당 주기를 건너뛴다.
+ * - 락을 획득할 때마다 펜싱 토큰(RAtomicLong)을 증가시킨다.
+ * - fence(): 쓰기 트랜잭션 안에서 작업 상태 행(tbl_scheduler_fences)의 토큰을 조건부 UPDATE(저장된 토큰 <= 내 토큰)한다.
+ *   더 큰 토큰이 이미 기록되어 있으면 예외로 트랜잭션을 롤백하고, UPDATE가 잡은 행 락 때문에 쓰기는 토큰 순서대로만 커밋된다.
+ *   락이 만료된 뒤 멈춰 있던 노드가 다시 쓰더라도 DB에서 거부되므로 펜싱은 저장소에서 강제된다.
+ * - checkFencingToken(): Redis의 최신 토큰과 비교하는 사전 확인, 파일 삭제처럼 트랜잭션 밖의 작업 전에 일찍 중단하는 용도(강제되지 않음)
+ * - 지표: scheduler.job.duration{job, result}, scheduler.job.skipped{job},
+ *   scheduler.job.last_run{job, node}(마지막 실행 시각, epoch 초), scheduler.job.fencing_token{job}
+ */
+@Component
+class SchedulerLockManager(
+    private val redissonClient: RedissonClient,
+    private val meterRegistry: MeterRegistry,
+    private val jdbcTemplate: JdbcTemplate,
+    @Value("\${scheduler.lock.enabled:true}") val enabled: Boolean,
+    @Value("\${scheduler.lock.node-id:}") nodeId: String
+) {
+    companion object {
+        private const val LOCK_PREFIX = "scheduler:lock"
+        private const val FENCE_PREFIX = "scheduler:fence"
+
+        // KEYS: 1 락 키, ARGV: 1 락 값, 2 남은 최소 유지 시간(ms)
+        private val RELEASE_SCRIPT =
+            """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                if tonumber(ARGV[2]) > 0 then
+                    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                end
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """.trimIndent()
+
+        private const val UPDATE_FENCE_SQL =
+            "UPDATE tbl_scheduler_fences SET fencing_token = ? WHERE job_name = ? AND fencing_token <= ?"
+        private const val SELECT_FENCE_SQL = "SELECT fencing_token FROM tbl_scheduler_fences WHERE job_name = ?"
+        private const val INSERT_FENCE_SQL = "INSERT INTO tbl_scheduler_fences (job_name, fencing_token) VALUES (?, ?)"
+    }
+
+    val nodeId: String = nodeId.ifBlank { ManagementFactory.getRuntimeMXBean().name }
+
+    private val currentLease = ThreadLocal<Lease>()
+    private val lastRuns = ConcurrentHashMap<String, AtomicLong>()
+    private val fencingTokens = ConcurrentHashMap<String, AtomicLong>()
+
+    /**
+     * 작업 락 획득 시 펜싱 토큰을 발급하고 Lease 반환, 다른 노드가 실행 중이면 null
+     */
+    fun tryAcquire(name: String, lockAtMostFor: Long, lockAtLeastFor: Long, timeUnit: TimeUnit): Lease? {
+        val value = "$nodeId:${UUID.randomUUID()}"
+        val bucket = redissonClient.getBucket<String>("$LOCK_PREFIX:$name", StringCodec.INSTANCE)
+        if (!bucket.setIfAbsent(value, Duration.ofMillis(timeUnit.toMillis(lockAtMostFor)))) {
+            Counter.builder("scheduler.job.skipped")
+                .description("다른 노드가 실행 중이라 건너뛴 스케줄 작업 횟수")
+                .tag("job", name)
+                .register(meterRegistry)
+                .increment()
+            return null
+        }
+
+        val fencingToken = redissonClient.getAtomicLong("$FENCE_PREFIX:$name").incrementAndGet()
+        gauge(fencingTokens, "scheduler.job.fencing_token", "스케줄 작업 펜싱 토큰", name).set(fencingToken)
+
+        return Lease(name, value, fencingToken, System.currentTimeMillis(), timeUnit.toMillis(lockAtLeastFor))
+            .also(currentLease::set)
+    }
+
+    /**
+     * 작업 실행 시간과 마지막 실행 시각 기록
+     */
+    fun <T> record(lease: Lease, job: () -> T): T {
+        val sample = Timer.start(meterRegistry)
+        var result = "success"
+        try {
+            return job()
+        } catch (e: Throwable) {
+            result = "failure"
+            throw e
+        } finally {
+            sample.stop(
+                Timer.builder("scheduler.job.duration")
+                    .description("스케줄 작업 실행 시간")
+                    .tag("job", lease.name)
+                    .tag("result", result)
+                    .register(meterRegistry)
+            )
+            gauge(lastRuns, "scheduler.job.last_run", "스케줄 작업 마지막 실행 시각(epoch 초)", lease.name, nodeId)
+                .set(TimeUnit.MILLISECONDS.toSeconds(lease.acquiredAt))
+            currentLease.remove()
+        }
+    }
+
+    /**
+     * 락 해제, 최소 유지 시간이 남았으면 남은 시간만큼 락 유지
+     */
+    fun release(lease: Lease) {
+        val remaining = lease.lockAtLeastForMillis - (System.currentTimeMillis() - lease.acquiredAt)
+        redissonClient.getScript(StringCodec.INSTANCE).eval<Long>(
+            RScript.Mode.READ_WRITE,
+            RELEASE_SCRIPT,
+            RScript.ReturnType.INTEGER,
+            listOf<Any>("$LOCK_PREFIX:${lease.name}"),
+            lease.value,
+            remaining.coerceAtLeast(0).toString()
+        )
+    }
+
+    /**
+     * 현재 쓰기 트랜잭션에 펜싱 토큰을 기록, 다른 노드가 더 큰 토큰으로 이미 기록했으면 예외 발생(트랜잭션 롤백)
+     *
+     * 청크 트랜잭션의 첫 문장으로 호출해야 하며, 트랜잭션이 끝날 때까지 작업 상태 행의 락을 보유한다.
+     */
+    fun fence() {
+        val lease = currentLease.get() ?: return
+        check(TransactionSynchronizationManager.isActualTransactionActive()) {
+            "fence() must be called inside the write transaction: ${lease.name}"
+        }
+
+        if (jdbcTemplate.update(UPDATE_FENCE_SQL, lease.fencingToken, lease.name, lease.fencingToken) > 0) return
+
+        val stored = jdbcTemplate.queryForList(SELECT_FENCE_SQL, Long::class.javaObjectType, lease.name).firstOrNull()
+        if (stored == null) {
+            try {
+                jdbcTemplate.update(INSERT_FENCE_SQL, lease.name, lease.fencingToken)
+                return
+            } catch (e: DuplicateKeyException) {
+                // 다른 노드가 먼저 행을 만든 경우 조건부 UPDATE 재시도
+                if (jdbcTemplate.update(UPDATE_FENCE_SQL, lease.fencingToken, lease.name, lease.fencingToken) > 0) return
+            }
+        }
+
+        throw IllegalStateException(
+            "Scheduler lock lost: ${lease.name} (token=${lease.fencingToken}, stored=${stored ?: "unknown"})"
+        )
+    }
+
+    /**
+     * 현재 스레드가 실행 중인 작업의 펜싱 토큰이 최신인지 확인, 다른 노드가 실행을 넘겨받았으면 예외 발생
+     * (사전 확인일 뿐 확인 직후의 쓰기를 막지 못하므로 DB 쓰기는 fence()로 보호)
+     */
+    fun checkFencingToken() {
+        val lease = currentLease.get() ?: return
+        val latest = redissonClient.getAtomicLong("$FENCE_PREFIX:${lease.name}").get()
+        check(latest == lease.fencingToken) {
+            "Scheduler lock lost: ${lease.name} (token=${lease.fencingToken}, latest=$latest)"
+        }
+    }
+
+    private fun gauge(
+        values: ConcurrentHashMap<String, AtomicLong>,
+        name: String,
+        description: String,
+        job: String,
+        node: String? = null
+    ) = values.computeIfAbsent(job) {
+        AtomicLong().also { value ->
+            Gauge.builder(name, value) { it.get().toDouble() }
+                .description(description)
+                .tag("job", job)
+                .apply { node?.let { tag("node", it) } }
+                .register(meterRegistry)
+        }
+    }
+
+    class Lease(
+        val name: String,
+        val value: String,
+        val fencingToken: Long,
+        val acquiredAt: Long,
+        val lockAtLeastForMillis: Long
+    )
+}
@@ -3,12 +3,15 @@ package com.app.backend.domain.group.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.app.backend.domain.category.entity.Category;
+import com.app.backend.domain.group.dto.request.GroupSearchCriteria;
 import com.app.backend.domain.group.entity.Group;
 import com.app.backend.domain.group.entity.RecruitStatus;
 import com.app.backend.domain.group.supporter.SpringBootTestSupporter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -180,631 +183,11 @@ class GroupRepositoryTest extends SpringBootTestSupporter {
     }
 
     @Test
-    @DisplayName("[성공] Diabled = false로 Group 엔티티 목록 조회")
-    void findAllListByDisabled() {
-        //Given
-        Category category = new Category("category");
-        em.persist(category);
-
-        int         size   = 20;
-        List<Group> groups = new ArrayList<>();
-        for (int i = 0; i < size; i++) {
-            Group group = Group.Companion.of("test%d".formatted(i),
-                                             "test province%d".formatted(i),
-                                             "test city%d".formatted(i),
-                                             "test town%d".formatted(i),
-                                             "test description%d".formatted(i),
-                                             RecruitStatus.RECRUITING,
-                                             10,
-                                             category);
-            groups.add(group);
-            em.persist(group);
-        }
-        afterEach();
-
-        //When
-        List<Group> findGroups = groupRepository.findAllByDisabled(false);
-
-        //Then
-        assertThat(findGroups).hasSize(size);
-        for (int i = 0; i < size; i++) {
-            Group group     = groups.get(i);
-            Group findGroup = findGroups.get(i);
-
-            assertThat(findGroup.getName()).isEqualTo(group.getName());
-            assertThat(findGroup.getProvince()).isEqualTo(group.getProvince());
-            assertThat(findGroup.getCity()).isEqualTo(group.getCity());
-            assertThat(findGroup.getTown()).isEqualTo(group.getTown());
-            assertThat(findGroup.getDescription()).isEqualTo(group.getDescription());
-            assertThat(findGroup.getRecruitStatus()).isEqualTo(group.getRecruitStatus());
-            assertThat(findGroup.getMaxRecruitCount()).isEqualTo(group.getMaxRecruitCount());
-        }
-    }
-
-    @Test
-    @DisplayName("[실패] Diabled = true로 Group 엔티티 목록 조회")
-    void findAllListByDisabled_disabled() {
-        //Given
-        Category category = new Category("category");
-        em.persist(category);
-
-        int size = 20;
-        for (int i = 0; i < size; i++) {
-            Group group = Group.Companion.of("test%d".formatted(i),
-                                             "test province%d".formatted(i),
-                                             "test city%d".formatted(i),
-                                             "test town%d".formatted(i),
-                                             "test description%d".formatted(i),
-                                             RecruitStatus.RECRUITING,
-                                             10,
-                                             category);
-            em.persist(group);
-        }
-        afterEach();
-
-        //When
-        List<Group> findGroups = groupRepository.findAllByDisabled(true);
-
-        //Then
-        assertThat(findGroups).isEmpty();
-    }
-
-    @Test
-    @DisplayName("[성공] Diabled = false로 Group 엔티티 페이징 목록 조회")
-    void findAllPageByDisabled() {
-        //Given
-        Category category = new Category("category");
-        em.persist(category);
-
-        int         size   = 20;
-        List<Group> groups = new ArrayList<>();
-        for (int i = 0; i < size; i++) {
-            Group group = Group.Companion.of("test%d".formatted(i),
-                                             "test province%d".formatted(i),
-                                             "test city%d".formatted(i),
-                                             "test town%d".formatted(i),
-                                             "test description%d".formatted(i),
-                                             RecruitStatus.RECRUITING,
-                                             10,
-                                             category);
-            groups.add(group);
-            em.persist(group);
-        }
-        Pageable pageable = PageRequest.of(0, 10);
-        afterEach();
-
-        //When
-        Page<Group> findGroupPage = groupRepository.findAllByDisabled(false, pageable);
-
-        //Then
-        List<Group> findGroups = findGroupPage.getContent();
-        groups = groups.subList(0, pageable.getPageSize());
-
-        assertThat(findGroups).hasSizeLessThanOrEqualTo(pageable.getPageSize());
-        for (int i = 0; i < findGroups.size(); i++) {
-            Group group     = groups.get(i);
-            Group findGroup = findGroups.get(i);
-
-            assertThat(findGroup.getName()).isEqualTo(group.getName());
-            assertThat(findGroup.getProvince()).isEqualTo(group.getProvince());
-            assertThat(findGroup.getCity()).isEqualTo(group.getCity());
-            assertThat(findGroup.getTown()).isEqualTo(group.getTown());
-            assertThat(findGroup.getDescription()).isEqualTo(group.getDescription());
-            assertThat(findGroup.getRecruitStatus()).isEqualTo(group.getRecruitStatus());
-            assertThat(findGroup.getMaxRecruitCount()).isEqualTo(group.getMaxRecruitCount());
-        }
-    }
-
-    @Test
-    @DisplayName("[실패] Diabled = true로 Group 엔티티 페이징 목록 조회")
-    void findAllPageByDisabled_disabled() {
-        //Given
-        Category category = new Category("category");
-        em.persist(category);
-
-        int size = 20;
-        for (int i = 0; i < size; i++) {
-            Group group = Group.Companion.of("test%d".formatted(i),
-                                             "test province%d".formatted(i),
-                                             "test city%d".formatted(i),
-                                             "test town%d".formatted(i),
-                                             "test description%d".formatted(i),
-                                             RecruitStatus.RECRUITING,
-                                             10,
-                                             category);
-            em.persist(group);
-        }
-        Pageable pageable = PageRequest.of(0, 10);
-        afterEach();
-
-        //When
-        Page<Group> findGroupPage = groupRepository.findAllByDisabled(true, pageable);
-
-        //Then
-        assertThat(findGroupPage).isEmpty();
-    }
-
-    @Test
-    @DisplayName("[성공] 모임 이름과 Diabled = false로 Group 엔티티 목록 조회")
-    void findAllListByNameContainingAndDisabled() {
-        //Given
-        Category category = new Category("category");
-        em.persist(category);
-
-        int         size   = 20;
-        List<Group> groups = new ArrayList<>();
-        for (int i = 0; i < size; i++) {
-            Group group = Group.Companion.of("test%d".formatted(i),
-                                             "test province%d".formatted(i),
-                                             "test city%d".formatted(i),
-                                             "test town%d".formatted(i),
-                                             "test description%d".formatted(i),
-                                             RecruitStatus.RECRUITING,
-                                             10,
-                                             category);
-            groups.add(group);
-            em.persist(group);
-        }
-        afterEach();
-
-        String name = "5";
-
-        //When
-        List<Group> findGroups = groupRepository.findAllByNameContainingAndDisabled(name, false);
-
-        //Then
-        groups = groups.stream().filter(group -> group.getName().contains(name)).toList();
-
-        assertThat(findGroups).hasSize(groups.size());
-        for (int i = 0; i < groups.size(); i++) {
-            Group group     = groups.get(i);
-            Group findGroup = findGroups.get(i);
-
-            assertThat(findGroup.getName()).isEqualTo(group.getName());
-            assertThat(findGroup.getProvince()).isEqualTo(group.getProvince());
-            assertThat(findGroup.getCity()).isEqualTo(group.getCity());
-            assertThat(findGroup.getTown()).isEqualTo(group.getTown());
-            assertThat(findGroup.getDescription()).isEqualTo(group.getDescription());
-            assertThat(findGroup.getRecruitStatus()).isEqualTo(group.getRecruitStatus());
-            assertThat(findGroup.getMaxRecruitCount()).isEqualTo(group.getMaxRecruitCount());
-        }
-    }
-
-    @Test
-    @DisplayName("[실패] 알 수 없는 모임 이름과 Disabled = false로 Gruop 엔티티 목록 조회")
-    void findAllListByNameContainingAndDisabled_unknownName() {
-        //Given
-        Category category = new Category("category");
-        em.persist(category);
-
-        int size = 20;
-        for (int i = 0; i < size; i++) {
-            Group group = Group.Companion.of("test%d".formatted(i),
-                                             "test province%d".formatted(i),
-                                             "test city%d".formatted(i),
-                                             "test town%d".formatted(i),
-                                             "test description%d".formatted(i),
-                                             RecruitStatus.RECRUITING,
-                                             10,
-                                             category);
-            em.persist(group);
-        }
-        afterEach();
-
-        String name = "unknown";
-
-        //When
-        List<Group> findGroups = groupRepository.findAllByNameContainingAndDisabled(name, false);
-
-        //Then
-        assertThat(findGroups).isEmpty();
-    }
-
-    @Test
-    @DisplayName("[실패] 모임 이름과 Disabled = true로 Gruop 엔티티 목록 조회")
-    void findAllListByNameContainingAndDisabled_disabled() {
-        //Given
-        Category category = new Category("category");
-        em.persist(category);
-
-        int size = 20;
-        for (int i = 0; i < size; i++) {
-            Group group = Group.Companion.of("test%d".formatted(i),
-                                             "test province%d".formatted(i),
-                                             "test city%d".formatted(i),
-                                             "test town%d".formatted(i),
-                                             "test description%d".formatted(i),
-                                             RecruitStatus.RECRUITING,
-                                             10,
-                                             category);
-            em.persist(group);
-        }
-        afterEach();
-
-        String name = "5";
-
-        //When
-        List<Group> findGroups = groupRepository.findAllByNameContainingAndDisabled(name, true);
-
-        //Then
-        assertThat(findGroups).isEmpty();
-    }
-
-    @Test
-    @DisplayName("[성공] 모임 이름과 Diabled로 Group 엔티티 페이징 목록 조회")
-    void findAllPageByNameContainingAndDisabled() {
-        //Given
-        Category category = new Category("category");
-        em.persist(category);
-
-        int         size   = 20;
-        List<Group> groups = new ArrayList<>();
-        for (int i = 0; i < size; i++) {
-            Group group = Group.Companion.of("test%d".formatted(i),
-                                             "test province%d".formatted(i),
-                                             "test city%d".formatted(i),
-                                             "test town%d".formatted(i),
-                                             "test description%d".formatted(i),
-                                             RecruitStatus.RECRUITING,
-                                             10,
-                                             category);
-            groups.add(group);
-            em.persist(group);
-        }
-        Pageable pageable = PageRequest.of(0, 10);
-        afterEach();
-
-        String name = "5";
-
-        //When
-        Page<Group> findGroupPage = groupRepository.findAllByNameContainingAndDisabled(name, false, pageable);
-
-        //Then
-        List<Group> findGroups = findGroupPage.getContent();
-        groups = groups.stream().filter(group -> group.getName().contains(name)).limit(pageable.getPageSize()).toList();
-
-        assertThat(findGroups).hasSizeLessThanOrEqualTo(pageable.getPageSize());
-        for (int i = 0; i < findGroups.size(); i++) {
-            Group group     = groups.get(i);
-            Group findGroup = findGroups.get(i);
-
-            assertThat(findGroup.getName()).isEqualTo(group.getName());
-            assertThat(findGroup.getProvince()).isEqualTo(group.getProvince());
-            assertThat(findGroup.getCity()).isEqualTo(group.getCity());
-            assertThat(findGroup.getTown()).isEqualTo(group.getTown());
-            assertThat(findGroup.getDescription()).isEqualTo(group.getDescription());
-            assertThat(findGroup.getRecruitStatus()).isEqualTo(group.getRecruitStatus());
-            assertThat(findGroup.getMaxRecruitCount()).isEqualTo(group.getMaxRecruitCount());
-        }
-    }
-
-    @Test
-    @DisplayName("[실패] 알 수 없는 모임 이름과 Disabled = false로 Gruop 엔티티 페이징 목록 조회")
-    void findAllPageByNameContainingAndDisabled_unknownName() {
-        //Given
-        Category category = new Category("category");
-        em.persist(category);
-
-        int size = 20;
-        for (int i = 0; i < size; i++) {
-            Group group = Group.Companion.of("test%d".formatted(i),
-                                             "test province%d".formatted(i),
-                                             "test city%d".formatted(i),
-                                             "test town%d".formatted(i),
-                                             "test description%d".formatted(i),
-                                             RecruitStatus.RECRUITING,
-                                             10,
-                                             category);
-            em.persist(group);
-        }
-        Pageable pageable = PageRequest.of(0, 10);
-        afterEach();
-
-        String name = "unknown";
-
-        //When
-        Page<Group> findGroupPage = groupRepository.findAllByNameContainingAndDisabled(name, false, pageable);
-
-        //Then
-        List<Group> findGroups = findGroupPage.getContent();
-
-        assertThat(findGroups).isEmpty();
-    }
-
-    @Test
-    @DisplayName("[실패] 모임 이름과 Disabled = true Gruop 엔티티 페이징 목록 조회")
-    void findAllPageByNameContainingAndDisabled_disabled() {
-        //Given
-        Category category = new Category("category");
-        em.persist(category);
-
-        int size = 20;
-        for (int i = 0; i < size; i++) {
-            Group group = Group.Companion.of("test%d".formatted(i),
-                                             "test province%d".formatted(i),
-                                             "test city%d".formatted(i),
-                                             "test town%d".formatted(i),
-                                             "test description%d".formatted(i),
-                                             RecruitStatus.RECRUITING,
-                                             10,
-                                             category);
-            em.persist(group);
-        }
-        Pageable pageable = PageRequest.of(0, 10);
-        afterEach();
-
-        String name = "5";
-
-        //When
-        Page<Group> findGroupPage = groupRepository.findAllByNameContainingAndDisabled(name, true, pageable);
-
-        //Then
-        List<Group> findGroups = findGroupPage.getContent();
-
-        assertThat(findGroups).isEmpty();
-    }
-
-    @Test
-    @DisplayName("[성공] 상세 주소와 Disabled로 Group 엔티티 목록 조회")
-    void findAllListByRegionAndDisabled() {
-        //Given
-        Category category = new Category("category");
-        em.persist(category);
-
-        int         size   = 20;
-        List<Group> groups = new ArrayList<>();
-        for (int i = 0; i < size; i++) {
-            Group group = Group.Companion.of("test%d".formatted(i),
-                                             "test province%d".formatted(i),
-                                             "test city%d".formatted(i),
-                                             "test town%d".formatted(i),
-                                             "test description%d".formatted(i),
-                                             RecruitStatus.RECRUITING,
-                                             10,
-                                             category);
-            groups.add(group);
-            em.persist(group);
-        }
-        afterEach();
-
-        String province = "test province10";
-        String city     = "test city10";
-        String town     = "test town10";
-
-        //When
-        List<Group> findGroups = groupRepository.findAllByRegion(province, city, town, false);
-
-        //Then
-        groups = groups.stream().filter(group -> group.getProvince().equals(province)
-                                                 && group.getCity().equals(city)
-                                                 && group.getTown().equals(town)).toList();
-
-        assertThat(findGroups).hasSize(groups.size());
-        for (int i = 0; i < groups.size(); i++) {
-            Group group     = groups.get(i);
-            Group findGroup = findGroups.get(i);
-
-            assertThat(findGroup.getName()).isEqualTo(group.getName());
-            assertThat(findGroup.getProvince()).isEqualTo(group.getProvince());
-            assertThat(findGroup.getCity()).isEqualTo(group.getCity());
-            assertThat(findGroup.getTown()).isEqualTo(group.getTown());
-            assertThat(findGroup.getDescription()).isEqualTo(group.getDescription());
-            assertThat(findGroup.getRecruitStatus()).isEqualTo(group.getRecruitStatus());
-            assertThat(findGroup.getMaxRecruitCount()).isEqualTo(group.getMaxRecruitCount());
-        }
-    }
-
-    @Test
-    @DisplayName("[성공] 상세 주소와 Disabled로 Group 엔티티 페이징 목록 조회")
-    void findAllPageByRegionAndDisabled() {
-        //Given
-        Category category = new Category("category");
-        em.persist(category);
-
-        int         size   = 20;
-        List<Group> groups = new ArrayList<>();
-        for (int i = 0; i < size; i++) {
-            Group group = Group.Companion.of("test%d".formatted(i),
-                                             "test province%d".formatted(i),
-                                             "test city%d".formatted(i),
-                                             "test town%d".formatted(i),
-                                             "test description%d".formatted(i),
-                                             RecruitStatus.RECRUITING,
-                                             10,
-                                             category);
-            groups.add(group);
-            em.persist(group);
-        }
-        Pageable pageable = PageRequest.of(0, 10);
-        afterEach();
-
-        String province = "test province10";
-        String city     = "test city10";
-        String town     = "test town10";
-
-        //When
-        Page<Group> findGroupPage = groupRepository.findAllByRegion(province, city, town, false, pageable);
-
-        //Then
-        List<Group> findGroups = findGroupPage.getContent();
-        groups = groups.stream().filter(group -> group.getProvince().equals(province)
-                                                 && group.getCity().equals(city)
-                                                 && group.getTown().equals(town)).toList();
-
-        assertThat(findGroups).hasSizeLessThanOrEqualTo(pageable.getPageSize());
-        for (int i = 0; i < findGroups.size(); i++) {
-            Group group     = groups.get(i);
-            Group findGroup = findGroups.get(i);
-
-            assertThat(findGroup.getName()).isEqualTo(group.getName());
-            assertThat(findGroup.getProvince()).isEqualTo(group.getProvince());
-            assertThat(findGroup.getCity()).isEqualTo(group.getCity());
-            assertThat(findGroup.getTown()).isEqualTo(group.getTown());
-            assertThat(findGroup.getDescription()).isEqualTo(group.getDescription());
-            assertThat(findGroup.getRecruitStatus()).isEqualTo(group.getRecruitStatus());
-            assertThat(findGroup.getMaxRecruitCount()).isEqualTo(group.getMaxRecruitCount());
-        }
-    }
-
-    @Test
-    @DisplayName("[성공] 모임 이름, 상세 주소와 Disabled로 Group 엔티티 목록 조회")
-    void findAllListByNameContainingAndRegionAndDisabled() {
-        //Given
-        Category category = new Category("category");
-        em.persist(category);
-
-        int         size   = 20;
-        List<Group> groups = new ArrayList<>();
-        for (int i = 0; i < size; i++) {
-            Group group = Group.Companion.of("test%d".formatted(i),
-                                             "test province%d".formatted(i),
-                                             "test city%d".formatted(i),
-                                             "test town%d".formatted(i),
-                                             "test description%d".formatted(i),
-                                             RecruitStatus.RECRUITING,
-                                             10,
-                                             category);
-            groups.add(group);
-            em.persist(group);
-        }
-        afterEach();
-
-        String name     = "1";
-        String province = "test province10";
-        String city     = "test city10";
-        String town     = "test town10";
-
-        //When
-        List<Group> findGroups = groupRepository.findAllByNameContainingAndRegion(name, province, city, town, false);
-
-        //Then
-        groups = groups.stream().filter(group -> group.getName().contains(name)
-                                                 && group.getProvince().equals(province)
-                                                 && group.getCity().equals(city)
-                                                 && group.getTown().equals(town)).toList();
-
-        assertThat(findGroups).hasSize(groups.size());
-        for (int i = 0; i < groups.size(); i++) {
-            Group group     = groups.get(i);
-            Group findGroup = findGroups.get(i);
-
-            assertThat(findGroup.getName()).isEqualTo(group.getName());
-            assertThat(findGroup.getProvince()).isEqualTo(group.getProvince());
-            assertThat(findGroup.getCity()).isEqualTo(group.getCity());
-            assertThat(findGroup.getTown()).isEqualTo(group.getTown());
-            assertThat(findGroup.getDescription()).isEqualTo(group.getDescription());
-            assertThat(findGroup.getRecruitStatus()).isEqualTo(group.getRecruitStatus());
-            assertThat(findGroup.getMaxRecruitCount()).isEqualTo(group.getMaxRecruitCount());
-        }
-    }
-
-    @Test
-    @DisplayName("[성공] 모임 이름, 상세 주소와 Disabled로 Group 엔티티 페이징 목록 조회")
-    void findAllPageByNameContainingAndRegionAndDisabled() {
-        //Given
-        Category category = new Category("category");
-        em.persist(category);
-
-        int         size   = 20;
-        List<Group> groups = new ArrayList<>();
-        for (int i = 0; i < size; i++) {
-            Group group = Group.Companion.of("test%d".formatted(i),
-                                             "test province%d".formatted(i),
-                                             "test city%d".formatted(i),
-                                             "test town%d".formatted(i),
-                                             "test description%d".formatted(i),
-                                             RecruitStatus.RECRUITING,
-                                             10,
-                                             category);
-            groups.add(group);
-            em.persist(group);
-        }
-        Pageable pageable = PageRequest.of(0, 10);
-        afterEach();
-
-        String name     = "1";
-        String province = "test province10";
-        String city     = "test city10";
-        String town     = "test town10";
-
-        //When
-        Page<Group> findGroupPage =
-                groupRepository.findAllByNameContainingAndRegion(name, province, city, town, false, pageable);
-
-        //Then
-        List<Group> findGroups = findGroupPage.getContent();
-        groups = groups.stream().filter(group -> group.getName().contains(name)
-                                                 && group.getProvince().equals(province)
-                                                 && group.getCity().equals(city)
-                                                 && group.getTown().equals(town)).toList();
-
-        assertThat(findGroups).hasSizeLessThanOrEqualTo(pageable.getPageSize());
-        for (int i = 0; i < findGroups.size(); i++) {
-            Group group     = groups.get(i);
-            Group findGroup = findGroups.get(i);
-
-            assertThat(findGroup.getName()).isEqualTo(group.getName());
-            assertThat(findGroup.getProvince()).isEqualTo(group.getProvince());
-            assertThat(findGroup.getCity()).isEqualTo(group.getCity());
-            assertThat(findGroup.getTown()).isEqualTo(group.getTown());
-            assertThat(findGroup.getDescription()).isEqualTo(group.getDescription());
-            assertThat(findGroup.getRecruitStatus()).isEqualTo(group.getRecruitStatus());
-            assertThat(findGroup.getMaxRecruitCount()).isEqualTo(group.getMaxRecruitCount());
-        }
-    }
-
-    @Test
-    @DisplayName("[성공] 카테고리명으로 Group 엔티티 목록 조회")
-    void findAllListByCategory_Name() {
-        //Given
-        Category category = new Category("category");
-        em.persist(category);
-        String categoryName = category.getName();
-
-        int         size   = 20;
-        List<Group> groups = new ArrayList<>();
-        for (int i = 0; i < size; i++) {
-            Group group = Group.Companion.of("test%d".formatted(i),
-                                             "test province%d".formatted(i),
-                                             "test city%d".formatted(i),
-                                             "test town%d".formatted(i),
-                                             "test description%d".formatted(i),
-                                             RecruitStatus.RECRUITING,
-                                             10,
-                                             category);
-            groups.add(group);
-            em.persist(group);
-        }
-        afterEach();
-
-        //When
-        List<Group> findGroups = groupRepository.findAllByCategory_Name(categoryName);
-
-        //Then
-        groups = groups.stream().filter(group -> group.getCategory().getName().equals(categoryName)).toList();
-
-        assertThat(findGroups).hasSize(groups.size());
-        for (int i = 0; i < groups.size(); i++) {
-            Group group     = groups.get(i);
-            Group findGroup = findGroups.get(i);
-
-            assertThat(findGroup.getName()).isEqualTo(group.getName());
-            assertThat(findGroup.getProvince()).isEqualTo(group.getProvince());
-            assertThat(findGroup.getCity()).isEqualTo(group.getCity());
-            assertThat(findGroup.getTown()).isEqualTo(group.getTown());
-            assertThat(findGroup.getDescription()).isEqualTo(group.getDescription());
-            assertThat(findGroup.getRecruitStatus()).isEqualTo(group.getRecruitStatus());
-            assertThat(findGroup.getMaxRecruitCount()).isEqualTo(group.getMaxRecruitCount());
-        }
-    }
-
-    @Test
-    @DisplayName("[성공] 카테고리명으로 Group 엔티티 페이징 목록 조회")
-    void findAllPageByCategory_Name() {
+    @DisplayName("[성공] 상세 주소와 Disabled로 Group 엔티티 페이징 목록 조회")
+    void findAllPageByRegionAndDisabled() {
         //Given
         Category category = new Category("category");
         em.persist(category);
-        String categoryName = category.getName();
 
         int         size   = 20;
         List<Group> groups = new ArrayList<>();
@@ -823,108 +206,21 @@ class GroupRepositoryTest extends SpringBootTestSupporter {
         Pageable pageable = PageRequest.of(0, 10);
         afterEach();
 
-        //When
-        Page<Group> findGroupPage = groupRepository.findAllByCategory_Name(categoryName, pageable);
-
-        //Then
-        List<Group> findGroups = findGroupPage.getContent();
-        groups = groups.stream().filter(group -> group.getCategory().getName().equals(categoryName)).toList();
-
-        assertThat(findGroups).hasSizeLessThanOrEqualTo(pageable.getPageSize());
-        for (int i = 0; i < findGroups.size(); i++) {
-            Group group     = groups.get(i);
-            Group findGroup = findGroups.get(i);
-
-            assertThat(findGroup.getName()).isEqualTo(group.getName());
-            assertThat(findGroup.getProvince()).isEqualTo(group.getProvince());
-            assertThat(findGroup.getCity()).isEqualTo(group.getCity());
-            assertThat(findGroup.getTown()).isEqualTo(group.getTown());
-            assertThat(findGroup.getDescription()).isEqualTo(group.getDescription());
-            assertThat(findGroup.getRecruitStatus()).isEqualTo(group.getRecruitStatus());
-            assertThat(findGroup.getMaxRecruitCount()).isEqualTo(group.getMaxRecruitCount());
-        }
-    }
-
-    @Test
-    @DisplayName("[성공] 카테고리명과 Disabled로 Group 엔티티 목록 조회")
-    void findAllListByCategory_NameAndDisabled() {
-        //Given
-        Category category = new Category("category");
-        em.persist(category);
-        String categoryName = category.getName();
-
-        int         size   = 20;
-        List<Group> groups = new ArrayList<>();
-        for (int i = 0; i < size; i++) {
-            Group group = Group.Companion.of("test%d".formatted(i),
-                                             "test province%d".formatted(i),
-                                             "test city%d".formatted(i),
-                                             "test town%d".formatted(i),
-                                             "test description%d".formatted(i),
-                                             RecruitStatus.RECRUITING,
-                                             10,
-                                             category);
-            groups.add(group);
-            em.persist(group);
-        }
-        afterEach();
-
-        //When
-        List<Group> findGroups = groupRepository.findAllByCategory_NameAndDisabled(categoryName, false);
-
-        //Then
-        groups = groups.stream().filter(group -> group.getCategory().getName().equals(categoryName)
-                                                 && !group.getDisabled()).toList();
-
-        assertThat(findGroups).hasSize(groups.size());
-        for (int i = 0; i < groups.size(); i++) {
-            Group group     = groups.get(i);
-            Group findGroup = findGroups.get(i);
-
-            assertThat(findGroup.getName()).isEqualTo(group.getName());
-            assertThat(findGroup.getProvince()).isEqualTo(group.getProvince());
-            assertThat(findGroup.getCity()).isEqualTo(group.getCity());
-            assertThat(findGroup.getTown()).isEqualTo(group.getTown());
-            assertThat(findGroup.getDescription()).isEqualTo(group.getDescription());
-            assertThat(findGroup.getRecruitStatus()).isEqualTo(group.getRecruitStatus());
-            assertThat(findGroup.getMaxRecruitCount()).isEqualTo(group.getMaxRecruitCount());
-        }
-    }
-
-    @Test
-    @DisplayName("[성공] 카테고리명과 Disabled로 Group 엔티티 페이징 목록 조회")
-    void findAllPageByCategory_NameAndDisabled() {
-        //Given
-        Category category = new Category("category");
-        em.persist(category);
-        String categoryName = category.getName();
-
-        int         size   = 20;
-        List<Group> groups = new ArrayList<>();
-        for (int i = 0; i < size; i++) {
-            Group group = Group.Companion.of("test%d".formatted(i),
-                                             "test province%d".formatted(i),
-                                             "test city%d".formatted(i),
-                                             "test town%d".formatted(i),
-                                             "test description%d".formatted(i),
-                                             RecruitStatus.RECRUITING,
-                                             10,
-                                             category);
-            groups.add(group);
-            em.persist(group);
-        }
-        Pageable pageable = PageRequest.of(0, 10);
-        afterEach();
+        String province = "test province10";
+        String city     = "test city10";
+        String town     = "test town10";
 
         //When
-        Page<Group> findGroupPage = groupRepository.findAllByCategory_NameAndDisabled(categoryName,
-                                                                                      false,
-                                                                                      pageable);
+        Page<Group> findGroupPage = groupRepository.findAllByCriteria(
+                new GroupSearchCriteria(null, null, null, province, city, town, false),
+                pageable
+        );
 
         //Then
         List<Group> findGroups = findGroupPage.getContent();
-        groups = groups.stream().filter(group -> group.getCategory().getName().equals(categoryName)
-                                                 && !group.getDisabled()).toList();
+        groups = groups.stream().filter(group -> group.getProvince().equals(province)
+                                                 && group.getCity().equals(city)
+                                                 && group.getTown().equals(town)).toList();
 
         assertThat(findGroups).hasSizeLessThanOrEqualTo(pageable.getPageSize());
         for (int i = 0; i < findGroups.size(); i++) {
@@ -942,63 +238,11 @@ class GroupRepositoryTest extends SpringBootTestSupporter {
     }
 
     @Test
-    @DisplayName("[성공] 카테고리명, 모임 이름과 Disabled로 Group 엔티티 목록 조회")
-    void findAllListByCategory_NameAndNameContainingAndDisabled() {
-        //Given
-        Category category = new Category("category");
-        em.persist(category);
-        String categoryName = category.getName();
-
-        int         size   = 20;
-        List<Group> groups = new ArrayList<>();
-        for (int i = 0; i < size; i++) {
-            Group group = Group.Companion.of("test%d".formatted(i),
-                                             "test province%d".formatted(i),
-                                             "test city%d".formatted(i),
-                                             "test town%d".formatted(i),
-                                             "test description%d".formatted(i),
-                                             RecruitStatus.RECRUITING,
-                                             10,
-                                             category);
-            groups.add(group);
-            em.persist(group);
-        }
-        afterEach();
-
-        String name = "5";
-
-        //When
-        List<Group> findGroups = groupRepository.findAllByCategory_NameAndNameContainingAndDisabled(categoryName,
-                                                                                                    name,
-                                                                                                    false);
-
-        //Then
-        groups = groups.stream().filter(group -> group.getCategory().getName().equals(categoryName)
-                                                 && group.getName().contains(name)
-                                                 && !group.getDisabled()).toList();
-
-        assertThat(findGroups).hasSize(groups.size());
-        for (int i = 0; i < groups.size(); i++) {
-            Group group     = groups.get(i);
-            Group findGroup = findGroups.get(i);
-
-            assertThat(findGroup.getName()).isEqualTo(group.getName());
-            assertThat(findGroup.getProvince()).isEqualTo(group.getProvince());
-            assertThat(findGroup.getCity()).isEqualTo(group.getCity());
-            assertThat(findGroup.getTown()).isEqualTo(group.getTown());
-            assertThat(findGroup.getDescription()).isEqualTo(group.getDescription());
-            assertThat(findGroup.getRecruitStatus()).isEqualTo(group.getRecruitStatus());
-            assertThat(findGroup.getMaxRecruitCount()).isEqualTo(group.getMaxRecruitCount());
-        }
-    }
-
-    @Test
-    @DisplayName("[성공] 카테고리명, 모임 이름과 Disabled로 Group 엔티티 페이징 목록 조회")
-    void findAllPageByCategory_NameAndNameContainingAndDisabled() {
+    @DisplayName("[성공] 모임 이름, 상세 주소와 Disabled로 Group 엔티티 페이징 목록 조회")
+    void findAllPageByNameContainingAndRegionAndDisabled() {
         //Given
         Category category = new Category("category");
         em.persist(category);
-        String categoryName = category.getName();
 
         int         size   = 20;
         List<Group> groups = new ArrayList<>();
@@ -1017,81 +261,26 @@ class GroupRepositoryTest extends SpringBootTestSupporter {
         Pageable pageable = PageRequest.of(0, 10);
         afterEach();
 
-        String name = "5";
-
-        //When
-        Page<Group> findGroupPage = groupRepository.findAllByCategory_NameAndNameContainingAndDisabled(categoryName,
-                                                                                                       name,
-                                                                                                       false,
-                                                                                                       pageable);
-
-        //Then
-        List<Group> findGroups = findGroupPage.getContent();
-        groups = groups.stream().filter(group -> group.getCategory().getName().equals(categoryName)
-                                                 && group.getName().contains(name)
-                                                 && !group.getDisabled()).toList();
-
-        assertThat(findGroups).hasSizeLessThanOrEqualTo(pageable.getPageSize());
-        for (int i = 0; i < findGroups.size(); i++) {
-            Group group     = groups.get(i);
-            Group findGroup = findGroups.get(i);
-
-            assertThat(findGroup.getName()).isEqualTo(group.getName());
-            assertThat(findGroup.getProvince()).isEqualTo(group.getProvince());
-            assertThat(findGroup.getCity()).isEqualTo(group.getCity());
-            assertThat(findGroup.getTown()).isEqualTo(group.getTown());
-            assertThat(findGroup.getDescription()).isEqualTo(group.getDescription());
-            assertThat(findGroup.getRecruitStatus()).isEqualTo(group.getRecruitStatus());
-            assertThat(findGroup.getMaxRecruitCount()).isEqualTo(group.getMaxRecruitCount());
-        }
-    }
-
-    @Test
-    @DisplayName("[성공] 카테고리명, 모임 이름과 상세 주소, Disabled로 Group 엔티티 목록 조회")
-    void findAllListByCategoryAndNameContainingAndRegion() {
-        //Given
-        Category category = new Category("category");
-        em.persist(category);
-        String categoryName = category.getName();
-
-        int         size   = 20;
-        List<Group> groups = new ArrayList<>();
-        for (int i = 0; i < size; i++) {
-            Group group = Group.Companion.of("test%d".formatted(i),
-                                             "test province%d".formatted(i),
-                                             "test city%d".formatted(i),
-                                             "test town%d".formatted(i),
-                                             "test description%d".formatted(i),
-                                             RecruitStatus.RECRUITING,
-                                             10,
-                                             category);
-            groups.add(group);
-            em.persist(group);
-        }
-        afterEach();
-
         String name     = "1";
         String province = "test province10";
         String city     = "test city10";
         String town     = "test town10";
 
         //When
-        List<Group> findGroups = groupRepository.findAllByCategoryAndNameContainingAndRegion(categoryName,
-                                                                                             name,
-                                                                                             province,
-                                                                                             city,
-                                                                                             town,
-                                                                                             false);
+        Page<Group> findGroupPage = groupRepository.findAllByCriteria(
+                new GroupSearchCriteria(null, null, name, province, city, town, false),
+                pageable
+        );
 
         //Then
-        groups = groups.stream().filter(group -> group.getCategory().getName().equals(categoryName)
-                                                 && group.getName().contains(name)
+        List<Group> findGroups = findGroupPage.getContent();
+        groups = groups.stream().filter(group -> group.getName().contains(name)
                                                  && group.getProvince().equals(province)
                                                  && group.getCity().equals(city)
                                                  && group.getTown().equals(town)).toList();
 
-        assertThat(findGroups).hasSize(groups.size());
-        for (int i = 0; i < groups.size(); i++) {
+        assertThat(findGroups).hasSizeLessThanOrEqualTo(pageable.getPageSize());
+        for (int i = 0; i < findGroups.size(); i++) {
             Group group     = groups.get(i);
             Group findGroup = findGroups.get(i);
 
@@ -1136,13 +325,10 @@ class GroupRepositoryTest extends SpringBootTestSupporter {
         String town     = "test town10";
 
         //When
-        Page<Group> findGroupPage = groupRepository.findAllByCategoryAndNameContainingAndRegion(categoryName,
-                                                                                                name,
-                                                                                                province,
-                                                                                                city,
-                                                                                                town,
-                                                                                                false,
-                                                                                                pageable);
+        Page<Group> findGroupPage = groupRepository.findAllByCriteria(
+                new GroupSearchCriteria(categoryName, null, name, province, city, town, false),
+                pageable
+        );
 
         //Then
         List<Group> findGroups = findGroupPage.getContent();
@@ -1167,68 +353,6 @@ class GroupRepositoryTest extends SpringBootTestSupporter {
         }
     }
 
-    @Test
-    @DisplayName("[성공] 카테고리명, 모집 상태, 모임 이름과 상세 주소, Disabled로 Group 엔티티 목록 조회")
-    void findAllListByCategoryAndRecruitStatusAndNameContainingAndRegion() {
-        //Given
-        Category category = new Category("category");
-        em.persist(category);
-        String categoryName = category.getName();
-
-        int         size   = 20;
-        List<Group> groups = new ArrayList<>();
-        for (int i = 0; i < size; i++) {
-            Group group = Group.Companion.of("test%d".formatted(i),
-                                             "test province%d".formatted(i),
-                                             "test city%d".formatted(i),
-                                             "test town%d".formatted(i),
-                                             "test description%d".formatted(i),
-                                             RecruitStatus.RECRUITING,
-                                             10,
-                                             category);
-            groups.add(group);
-            em.persist(group);
-        }
-        afterEach();
-
-        String recruitStatus = "RECRUITING";
-        String name          = "1";
-        String province      = "test province10";
-        String city          = "test city10";
-        String town          = "test town10";
-
-        //When
-        List<Group> findGroups =
-                groupRepository.findAllByCategoryAndRecruitStatusAndNameContainingAndRegion(categoryName,
-                                                                                            recruitStatus,
-                                                                                            name,
-                                                                                            province,
-                                                                                            city,
-                                                                                            town,
-                                                                                            false);
-
-        //Then
-        groups = groups.stream().filter(group -> group.getCategory().getName().equals(categoryName)
-                                                 && group.getName().contains(name)
-                                                 && group.getProvince().equals(province)
-                                                 && group.getCity().equals(city)
-                                                 && group.getTown().equals(town)).toList();
-
-        assertThat(findGroups).hasSize(groups.size());
-        for (int i = 0; i < groups.size(); i++) {
-            Group group     = groups.get(i);
-            Group findGroup = findGroups.get(i);
-
-            assertThat(findGroup.getName()).isEqualTo(group.getName());
-            assertThat(findGroup.getProvince()).isEqualTo(group.getProvince());
-            assertThat(findGroup.getCity()).isEqualTo(group.getCity());
-            assertThat(findGroup.getTown()).isEqualTo(group.getTown());
-            assertThat(findGroup.getDescription()).isEqualTo(group.getDescription());
-            assertThat(findGroup.getRecruitStatus()).isEqualTo(group.getRecruitStatus());
-            assertThat(findGroup.getMaxRecruitCount()).isEqualTo(group.getMaxRecruitCount());
-        }
-    }
-
     @Test
     @DisplayName("[성공] 카테고리명, 모집 상태, 모임 이름과 상세 주소, Disabled로 Group 엔티티 페이징 목록 조회")
     void findAllPageByCategoryAndRecruitStatusAndNameContainingAndRegion() {
@@ -1261,15 +385,10 @@ class GroupRepositoryTest extends SpringBootTestSupporter {
         String town          = "test town10";
 
         //When
-        Page<Group> findGroupPage =
-                groupRepository.findAllByCategoryAndRecruitStatusAndNameContainingAndRegion(categoryName,
-                                                                                            recruitStatus,
-                                                                                            name,
-                                                                                            province,
-                                                                                            city,
-                                                                                            town,
-                                                                                            false,
-                                                                                            pageable);
+        Page<Group> findGroupPage = groupRepository.findAllByCriteria(
+                new GroupSearchCriteria(categoryName, RecruitStatus.valueOf(recruitStatus), name, province, city, town, false),
+                pageable
+        );
 
         //Then
         List<Group> findGroups = findGroupPage.getContent();
@@ -1400,4 +519,52 @@ class GroupRepositoryTest extends SpringBootTestSupporter {
         assertThat(findGroup.getDisabled()).isTrue();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("[성공] 모임 목록 조회 시 카테고리를 함께 조회하여 추가 쿼리 없음")
+    void findAllWithCategory() {
+        //Given
+        int size = 10;
+        for (int i = 0; i < size; i++) {
+            Category category = new Category("category%d".formatted(i));
+            em.persist(category);
+            em.persist(Group.Companion.of("test%d".formatted(i),
+                                          "test province",
+                                          "test city",
+                                          "test town",
+                                          "test description%d".formatted(i),
+                                          RecruitStatus.RECRUITING,
+                                          10,
+                                          category));
+        }
+        afterEach();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        Pageable   pageable   = PageRequest.of(0, size * 2);
+
+        //When
+        statistics.clear();
+        List<String> derivedNames = groupRepository.findAllByDisabledOrderByLikeCountDesc(false, pageable)
+                                                   .stream()
+                                                   .map(group -> group.getCategory().getName())
+                                                   .toList();
+        long derivedQueryCount = statistics.getPrepareStatementCount();
+        afterEach();
+
+        statistics.clear();
+        List<String> customNames = groupRepository.findAllByCriteria(
+                                                          new GroupSearchCriteria(null, null, null, "test province",
+                                                                                  "test city", "test town", false),
+                                                          pageable
+                                                  )
+                                                  .map(group -> group.getCategory().getName())
+                                                  .getContent();
+        long customQueryCount = statistics.getPrepareStatementCount();
+
+        //Then
+        assertThat(derivedNames).hasSize(size);
+        assertThat(customNames).hasSize(size);
+        assertThat(derivedQueryCount).isEqualTo(1);
+        assertThat(customQueryCount).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.app.backend.domain.group.service;
+
+import com.app.backend.BackendApplication;
+import com.app.backend.domain.group.dto.request.GroupRequest;
+import com.app.backend.domain.group.dto.request.GroupSearchCriteria;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 모임 1만 건의 검색 조건 조합별 목록 조회 벤치마크(오프셋 엔티티 페이지 vs 프로젝션 커서, us/op)
+ *
+ * ./gradlew test -PincludeTags=benchmark
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroupSearchBenchmark {
+
+    private static final int      GROUPS     = 10_000;
+    private static final int      PAGE_SIZE  = 20;
+    private static final long     MEMBER_ID  = 1L;
+    private static final String[] CATEGORIES = {"bench0", "bench1", "bench2", "bench3", "bench4"};
+    private static final String[] PROVINCES  = {"서울특별시", "부산광역시", "경기도", "강원도"};
+
+    private static final Map<String, GroupRequest.Search> FILTERS = Map.of(
+            "none", new GroupRequest.Search(null, null, null, null, null, null),
+            "category", new GroupRequest.Search("bench1", null, null, null, null, null),
+            "region", new GroupRequest.Search(null, null, null, "경기도", "시군구2", null),
+            "all", new GroupRequest.Search("bench2", "RECRUITING", null, "서울특별시", "시군구2", "읍면동12"),
+            "name", new GroupRequest.Search(null, null, "모임 99", null, null, null)
+    );
+
+    @Param({"none", "category", "region", "all", "name"})
+    private String filter;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate                   jdbcTemplate;
+    private GroupService                   groupService;
+    private GroupRequest.Search            dto;
+    private GroupSearchCriteria            criteria;
+    private Pageable                       pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackendApplication.class).profiles("test")
+                                                                        .web(WebApplicationType.NONE)
+                                                                        .run();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        groupService = context.getBean(GroupService.class);
+        dto = FILTERS.get(filter);
+        criteria = GroupSearchCriteria.Companion.from(dto);
+        pageable = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        for (String category : CATEGORIES)
+            jdbcTemplate.update("INSERT INTO tbl_categories (name, created_at, modified_at, disabled) " +
+                                "VALUES (?, NOW(), NOW(), false)", category);
+        List<Long> categoryIds = jdbcTemplate.queryForList(
+                "SELECT category_id FROM tbl_categories WHERE name LIKE 'bench%' ORDER BY name", Long.class
+        );
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Integer> rows = IntStream.range(0, GROUPS).boxed().toList();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tbl_groups (name, province, city, town, description, recruit_status, max_recruit_count, " +
+                "category_id, like_count, created_at, modified_at, disabled) " +
+                "VALUES (?, ?, ?, ?, '설명', ?, 10, ?, 0, ?, ?, false)",
+                rows, 1_000, (ps, i) -> {
+                    ps.setString(1, "모임 " + i);
+                    ps.setString(2, PROVINCES[i % PROVINCES.length]);
+                    ps.setString(3, "시군구" + i % 10);
+                    ps.setString(4, "읍면동" + i % 50);
+                    ps.setString(5, i % 3 == 0 ? "CLOSED" : "RECRUITING");
+                    ps.setLong(6, categoryIds.get(i % categoryIds.size()));
+                    ps.setTimestamp(7, Timestamp.valueOf(now.toLocalDateTime().minusSeconds(i)));
+                    ps.setTimestamp(8, now);
+                }
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM tbl_groups WHERE category_id IN " +
+                            "(SELECT category_id FROM tbl_categories WHERE name LIKE 'bench%')");
+        jdbcTemplate.update("DELETE FROM tbl_categories WHERE name LIKE 'bench%'");
+        context.close();
+    }
+
+    /**
+     * GET /api/v1/groups(오프셋 페이지, 엔티티 조회 + COUNT)
+     */
+    @Benchmark
+    public Object entityPage() {
+        return groupService.getGroupsBySearch(dto, pageable, MEMBER_ID);
+    }
+
+    /**
+     * GET /api/v1/groups/cursor(프로젝션 커서, COUNT 생략)
+     */
+    @Benchmark
+    public Object cursor() {
+        return groupService.searchGroups(criteria, null, PAGE_SIZE, false, MEMBER_ID);
+    }
+
+    /**
+     * GET /api/v1/groups/cursor?withTotal=true
+     */
+    @Benchmark
+    public Object cursorWithTotal() {
+        return groupService.searchGroups(criteria, null, PAGE_SIZE, true, MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("모임 검색 조건 조합별 목록 조회 벤치마크")
+    void benchmark() throws RunnerException {
+        new Runner(new OptionsBuilder().include(GroupSearchBenchmark.class.getSimpleName()).build()).run();
+    }
+}
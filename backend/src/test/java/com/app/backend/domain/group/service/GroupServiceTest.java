@@ -3,8 +3,10 @@ package com.app.backend.domain.group.service;
 import com.app.backend.domain.category.entity.Category;
 import com.app.backend.domain.chat.room.entity.ChatRoom;
 import com.app.backend.domain.group.dto.request.GroupRequest;
+import com.app.backend.domain.group.dto.request.GroupSearchCriteria;
 import com.app.backend.domain.group.dto.response.GroupResponse;
 import com.app.backend.domain.group.dto.response.GroupResponse.ListInfo;
+import com.app.backend.domain.group.dto.response.GroupResponse.ListInfoWithLike;
 import com.app.backend.domain.group.entity.*;
 import com.app.backend.domain.group.exception.GroupErrorCode;
 import com.app.backend.domain.group.exception.GroupException;
@@ -13,6 +15,9 @@ import com.app.backend.domain.group.exception.GroupMembershipException;
 import com.app.backend.domain.group.supporter.SpringBootTestSupporter;
 import com.app.backend.domain.member.entity.Member;
 import com.app.backend.domain.member.entity.Member.Provider;
+import com.app.backend.global.dto.response.CursorPage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,11 +26,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 
 @Transactional
 class GroupServiceTest extends SpringBootTestSupporter {
@@ -136,7 +144,7 @@ class GroupServiceTest extends SpringBootTestSupporter {
     }
 
     @Test
-    @DisplayName("[성공] 모든 Group ListInfo DTO 목록 조회")
+    @DisplayName("[성공] 모든 Group ListInfo DTO 목록 최신순 조회")
     void getGroupList() {
         //Given
         Category category = new Category("category");
@@ -158,10 +166,16 @@ class GroupServiceTest extends SpringBootTestSupporter {
         }
         afterEach();
 
+        GroupSearchCriteria criteria = GroupSearchCriteria.Companion.from(
+                new GroupRequest.Search(null, null, null, null, null, null)
+        );
+
         //When
-        List<ListInfo> responseList = groupService.getGroups();
+        List<ListInfo> responseList = groupService.searchGroups(criteria, null, size, false).getContent();
 
         //Then
+        groups = groups.reversed();
+
         assertThat(responseList).hasSize(size);
         for (int i = 0; i < size; i++) {
             Group                  group       = groups.get(i);
@@ -178,7 +192,7 @@ class GroupServiceTest extends SpringBootTestSupporter {
     }
 
     @Test
-    @DisplayName("[성공] 모든 Group ListInfo DTO 페이징 목록 조회")
+    @DisplayName("[성공] 모든 Group ListInfo DTO 커서 첫 페이지 조회")
     void getGroupPage() {
         //Given
         Category category = new Category("category");
@@ -200,16 +214,21 @@ class GroupServiceTest extends SpringBootTestSupporter {
         }
         afterEach();
 
-        Pageable pageable = PageRequest.of(0, 10);
+        int                 pageSize = 10;
+        GroupSearchCriteria criteria = GroupSearchCriteria.Companion.from(
+                new GroupRequest.Search(null, null, null, null, null, null)
+        );
 
         //When
-        Page<ListInfo> responsePage = groupService.getGroups(pageable);
+        CursorPage<ListInfo> responsePage = groupService.searchGroups(criteria, null, pageSize, true);
 
         //Then
         List<ListInfo> responseList = responsePage.getContent();
-        groups = groups.subList(0, pageable.getPageSize());
+        groups = groups.reversed().subList(0, pageSize);
 
-        assertThat(responseList).hasSizeLessThanOrEqualTo(pageable.getPageSize());
+        assertThat(responsePage.getHasNext()).isTrue();
+        assertThat(responsePage.getTotalCount()).isEqualTo(size);
+        assertThat(responseList).hasSize(pageSize);
         for (int i = 0; i < groups.size(); i++) {
             Group                  group       = groups.get(i);
             ListInfo responseDto = responseList.get(i);
@@ -224,6 +243,60 @@ class GroupServiceTest extends SpringBootTestSupporter {
         }
     }
 
+    @Test
+    @DisplayName("[성공] 모든 Group ListInfoWithLike DTO 페이징 목록 조회 시 좋아요 여부 일괄 조회")
+    void getGroupPageWithLike() {
+        //Given
+        Member member = Member.create("testUsername",
+                                      "testPassword",
+                                      "testNickname",
+                                      "ROLE_USER",
+                                      false,
+                                      Provider.LOCAL,
+                                      null);
+        em.persist(member);
+        Long memberId = member.getId();
+
+        Category category = new Category("category");
+        em.persist(category);
+
+        int         size   = 10;
+        List<Group> groups = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Group group = Group.Companion.of("test%d".formatted(i),
+                                             "test province%d".formatted(i),
+                                             "test city%d".formatted(i),
+                                             "test town%d".formatted(i),
+                                             "test description%d".formatted(i),
+                                             RecruitStatus.RECRUITING,
+                                             10,
+                                             category);
+            groups.add(group);
+            em.persist(group);
+            if (i % 2 == 0)
+                em.persist(new GroupLike(member, group));
+        }
+        afterEach();
+
+        Pageable            pageable = PageRequest.of(0, size);
+        GroupRequest.Search dto      = new GroupRequest.Search("", "", "", "", "", "");
+
+        //When
+        Page<ListInfoWithLike> responsePage = groupService.getGroupsBySearch(dto, pageable, memberId);
+
+        //Then
+        List<ListInfoWithLike> responseList = responsePage.getContent();
+
+        assertThat(responseList).hasSize(size);
+        for (int i = 0; i < size; i++) {
+            Group            group       = groups.get(i);
+            ListInfoWithLike responseDto = responseList.get(i);
+
+            assertThat(responseDto.getId()).isEqualTo(group.getId());
+            assertThat(responseDto.isLiked()).isEqualTo(i % 2 == 0);
+        }
+    }
+
     @Test
     @DisplayName("[성공] 모임 이름으로 ListInfo DTO 목록 조회")
     void getGroupsByNameContainingList() {
@@ -250,10 +323,13 @@ class GroupServiceTest extends SpringBootTestSupporter {
         String name = "5";
 
         //When
-        List<ListInfo> responseList = groupService.getGroupsByNameContaining(name);
+        List<ListInfo> responseList = groupService.searchGroups(
+                GroupSearchCriteria.Companion.from(new GroupRequest.Search(null, null, name, null, null, null)),
+                null, size, false
+        ).getContent();
 
         //Then
-        groups = groups.stream().filter(group -> group.getName().contains(name)).toList();
+        groups = groups.reversed().stream().filter(group -> group.getName().contains(name)).toList();
 
         assertThat(responseList).hasSize(groups.size());
         for (int i = 0; i < groups.size(); i++) {
@@ -271,7 +347,7 @@ class GroupServiceTest extends SpringBootTestSupporter {
     }
 
     @Test
-    @DisplayName("[성공] 모임 이름으로 ListInfo DTO 페이징 목록 조회")
+    @DisplayName("[성공] 모임 이름으로 ListInfo DTO 커서 첫 페이지 조회")
     void getGroupsByNameContainingPage() {
         //Given
         Category category = new Category("category");
@@ -293,15 +369,20 @@ class GroupServiceTest extends SpringBootTestSupporter {
         }
         afterEach();
 
-        Pageable pageable = PageRequest.of(0, 10);
-        String   name     = "5";
+        int    pageSize = 10;
+        String name     = "5";
 
         //When
-        Page<ListInfo> responsePage = groupService.getGroupsByNameContaining(name, pageable);
+        CursorPage<ListInfo> responsePage = groupService.searchGroups(
+                GroupSearchCriteria.Companion.from(new GroupRequest.Search(null, null, name, null, null, null)),
+                null, pageSize, true
+        );
 
         //Then
         List<ListInfo> responseList = responsePage.getContent();
-        groups = groups.stream().filter(group -> group.getName().contains(name)).limit(pageable.getPageSize()).toList();
+        groups = groups.reversed().stream().filter(group -> group.getName().contains(name)).limit(pageSize).toList();
+
+        assertThat(responsePage.getTotalCount()).isEqualTo(groups.size());
 
         assertThat(responseList).hasSize(groups.size());
         for (int i = 0; i < groups.size(); i++) {
@@ -346,10 +427,13 @@ class GroupServiceTest extends SpringBootTestSupporter {
         String town     = "test town10";
 
         //When
-        List<ListInfo> responseList = groupService.getGroupsByRegion(province, city, town);
+        List<ListInfo> responseList = groupService.searchGroups(
+                GroupSearchCriteria.Companion.from(new GroupRequest.Search(null, null, null, province, city, town)),
+                null, size, false
+        ).getContent();
 
         //Then
-        groups = groups.stream().filter(group -> group.getProvince().equals(province)
+        groups = groups.reversed().stream().filter(group -> group.getProvince().equals(province)
                                                  && group.getCity().equals(city)
                                                  && group.getTown().equals(town)).toList();
 
@@ -369,7 +453,7 @@ class GroupServiceTest extends SpringBootTestSupporter {
     }
 
     @Test
-    @DisplayName("[성공] 주소로 ListInfo DTO 페이징 목록 조회")
+    @DisplayName("[성공] 주소로 ListInfo DTO 커서 첫 페이지 조회")
     void getGroupsByRegionPage() {
         //Given
         Category category = new Category("category");
@@ -391,22 +475,26 @@ class GroupServiceTest extends SpringBootTestSupporter {
         }
         afterEach();
 
-        Pageable pageable = PageRequest.of(0, 10);
+        int pageSize = 10;
 
         String province = "test province10";
         String city     = "test city10";
         String town     = "test town10";
 
         //When
-        Page<ListInfo> responsePage = groupService.getGroupsByRegion(province, city, town, pageable);
+        CursorPage<ListInfo> responsePage = groupService.searchGroups(
+                GroupSearchCriteria.Companion.from(new GroupRequest.Search(null, null, null, province, city, town)),
+                null, pageSize, true
+        );
 
         //Then
-        groups = groups.stream().filter(group -> group.getProvince().equals(province)
+        groups = groups.reversed().stream().filter(group -> group.getProvince().equals(province)
                                                  && group.getCity().equals(city)
                                                  && group.getTown().equals(town)).toList();
         List<ListInfo> responseList = responsePage.getContent();
 
-        assertThat(responseList).hasSizeLessThanOrEqualTo(pageable.getPageSize());
+        assertThat(responseList).hasSizeLessThanOrEqualTo(pageSize);
+        assertThat(responsePage.getTotalCount()).isEqualTo(groups.size());
         for (int i = 0; i < groups.size(); i++) {
             Group                  group       = groups.get(i);
             ListInfo responseDto = responseList.get(i);
@@ -451,13 +539,13 @@ class GroupServiceTest extends SpringBootTestSupporter {
         String town     = "test town10";
 
         //When
-        List<ListInfo> responseList = groupService.getGroupsByNameContainingAndRegion(name,
-                                                                                                    province,
-                                                                                                    city,
-                                                                                                    town);
+        List<ListInfo> responseList = groupService.searchGroups(
+                GroupSearchCriteria.Companion.from(new GroupRequest.Search(null, null, name, province, city, town)),
+                null, size, false
+        ).getContent();
 
         //Then
-        groups = groups.stream().filter(group -> group.getName().contains(name)
+        groups = groups.reversed().stream().filter(group -> group.getName().contains(name)
                                                  && group.getProvince().equals(province)
                                                  && group.getCity().equals(city)
                                                  && group.getTown().equals(town)).toList();
@@ -478,7 +566,7 @@ class GroupServiceTest extends SpringBootTestSupporter {
     }
 
     @Test
-    @DisplayName("[성공] 모임 이름과 주소로 ListInfo DTO 페이징 목록 조회")
+    @DisplayName("[성공] 모임 이름과 주소로 ListInfo DTO 커서 첫 페이지 조회")
     void getGroupsByNameContainingAndRegionPage() {
         //Given
         Category category = new Category("category");
@@ -500,7 +588,7 @@ class GroupServiceTest extends SpringBootTestSupporter {
         }
         afterEach();
 
-        Pageable pageable = PageRequest.of(0, 10);
+        int pageSize = 10;
 
         String name = "1";
 
@@ -509,20 +597,20 @@ class GroupServiceTest extends SpringBootTestSupporter {
         String town     = "test town10";
 
         //When
-        Page<ListInfo> responsePage = groupService.getGroupsByNameContainingAndRegion(name,
-                                                                                                    province,
-                                                                                                    city,
-                                                                                                    town,
-                                                                                                    pageable);
+        CursorPage<ListInfo> responsePage = groupService.searchGroups(
+                GroupSearchCriteria.Companion.from(new GroupRequest.Search(null, null, name, province, city, town)),
+                null, pageSize, true
+        );
 
         //Then
-        groups = groups.stream().filter(group -> group.getName().contains(name)
+        groups = groups.reversed().stream().filter(group -> group.getName().contains(name)
                                                  && group.getProvince().equals(province)
                                                  && group.getCity().equals(city)
                                                  && group.getTown().equals(town)).toList();
         List<ListInfo> responseList = responsePage.getContent();
 
-        assertThat(responseList).hasSizeLessThanOrEqualTo(pageable.getPageSize());
+        assertThat(responseList).hasSizeLessThanOrEqualTo(pageSize);
+        assertThat(responsePage.getTotalCount()).isEqualTo(groups.size());
         for (int i = 0; i < groups.size(); i++) {
             Group                  group       = groups.get(i);
             ListInfo responseDto = responseList.get(i);
@@ -568,10 +656,11 @@ class GroupServiceTest extends SpringBootTestSupporter {
                                                           "test town10");
 
         //When
-        List<ListInfo> responseList = groupService.getGroupsBySearch(dto);
+        List<ListInfo> responseList = groupService.searchGroups(GroupSearchCriteria.Companion.from(dto), null, size, false)
+                                                  .getContent();
 
         //Then
-        groups = groups.stream().filter(group -> group.getCategory().getName().equals(dto.getCategoryName())
+        groups = groups.reversed().stream().filter(group -> group.getCategory().getName().equals(dto.getCategoryName())
                                                  && group.getName().contains(dto.getName())
                                                  && group.getProvince().equals(dto.getProvince())
                                                  && group.getCity().equals(dto.getCity())
@@ -593,7 +682,7 @@ class GroupServiceTest extends SpringBootTestSupporter {
     }
 
     @Test
-    @DisplayName("[성공] 카테고리와 모임 이름, 상세 주소로 ListInfo DTO 페이징 목록 조회")
+    @DisplayName("[성공] 카테고리와 모임 이름, 상세 주소로 ListInfo DTO 커서 첫 페이지 조회")
     void getGroupsBySearchPage() {
         //Given
         Category category = new Category("category");
@@ -615,7 +704,7 @@ class GroupServiceTest extends SpringBootTestSupporter {
         }
         afterEach();
 
-        Pageable pageable = PageRequest.of(0, 10);
+        int pageSize = 10;
         GroupRequest.Search dto = new GroupRequest.Search("category",
                                                           "RECRUITING",
                                                           "1",
@@ -624,17 +713,18 @@ class GroupServiceTest extends SpringBootTestSupporter {
                                                           "test town10");
 
         //When
-        Page<ListInfo> responsePage = groupService.getGroupsBySearch(dto, pageable);
+        CursorPage<ListInfo> responsePage = groupService.searchGroups(GroupSearchCriteria.Companion.from(dto), null, pageSize, true);
 
         //Then
-        groups = groups.stream().filter(group -> group.getCategory().getName().equals(dto.getCategoryName())
+        groups = groups.reversed().stream().filter(group -> group.getCategory().getName().equals(dto.getCategoryName())
                                                  && group.getName().contains(dto.getName())
                                                  && group.getProvince().equals(dto.getProvince())
                                                  && group.getCity().equals(dto.getCity())
                                                  && group.getTown().equals(dto.getTown())).toList();
         List<ListInfo> responseList = responsePage.getContent();
 
-        assertThat(responseList).hasSizeLessThanOrEqualTo(pageable.getPageSize());
+        assertThat(responseList).hasSizeLessThanOrEqualTo(pageSize);
+        assertThat(responsePage.getTotalCount()).isEqualTo(groups.size());
         for (int i = 0; i < groups.size(); i++) {
             Group                  group       = groups.get(i);
             ListInfo responseDto = responseList.get(i);
@@ -649,6 +739,168 @@ class GroupServiceTest extends SpringBootTestSupporter {
         }
     }
 
+    @Test
+    @DisplayName("[성공] 검색 조건으로 ListInfoWithLike DTO 커서 페이지 순회 조회")
+    void searchGroupsByCursor() {
+        //Given
+        Member member = Member.create("testUsername",
+                                      "testPassword",
+                                      "testNickname",
+                                      "ROLE_USER",
+                                      false,
+                                      Provider.LOCAL,
+                                      null);
+        em.persist(member);
+        Long memberId = member.getId();
+
+        Category category = new Category("category");
+        Category other    = new Category("other");
+        em.persist(category);
+        em.persist(other);
+
+        int        size     = 5;
+        List<Long> groupIds = new ArrayList<>();
+        for (int i = 0; i < size + 2; i++) {
+            Group group = Group.Companion.of("test%d".formatted(i),
+                                             "test province",
+                                             "test city",
+                                             "test town",
+                                             "test description%d".formatted(i),
+                                             RecruitStatus.RECRUITING,
+                                             10,
+                                             i < size ? category : other);
+            em.persist(group);
+            em.persist(GroupMembership.Companion.of(member, group, GroupRole.LEADER));
+            if (i < size)
+                groupIds.add(0, group.getId());
+        }
+        em.persist(new GroupLike(member, em.find(Group.class, groupIds.get(0))));
+        afterEach();
+
+        GroupSearchCriteria criteria = GroupSearchCriteria.Companion.from(
+                new GroupRequest.Search("category", "RECRUITING", "test", "test province", null, null)
+        );
+
+        //When
+        List<ListInfoWithLike>       responseList = new ArrayList<>();
+        CursorPage<ListInfoWithLike> page         = groupService.searchGroups(criteria, null, 2, true, memberId);
+        Long                         totalCount   = page.getTotalCount();
+        responseList.addAll(page.getContent());
+        while (page.getHasNext()) {
+            page = groupService.searchGroups(criteria, page.getNextCursor(), 2, false, memberId);
+            responseList.addAll(page.getContent());
+        }
+
+        //Then
+        assertThat(totalCount).isEqualTo(size);
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.getTotalCount()).isNull();
+        assertThat(responseList).extracting(ListInfoWithLike::getId).containsExactlyElementsOf(groupIds);
+        for (ListInfoWithLike responseDto : responseList) {
+            assertThat(responseDto.getCategoryName()).isEqualTo(category.getName());
+            assertThat(responseDto.getCurrentMemberCount()).isEqualTo(1);
+            assertThat(responseDto.getGroupLeaders()).containsExactly(member.getNickname());
+            assertThat(responseDto.isLiked()).isEqualTo(groupIds.get(0).equals(responseDto.getId()));
+        }
+    }
+
+    @Test
+    @DisplayName("[성공] 좌표 기준 반경 안의 모임을 가까운 순으로 조회")
+    void getNearbyGroups() {
+        //Given
+        Member member = Member.create("testUsername",
+                                      "testPassword",
+                                      "testNickname",
+                                      "ROLE_USER",
+                                      false,
+                                      Provider.LOCAL,
+                                      null);
+        em.persist(member);
+        Long memberId = member.getId();
+
+        Category category = new Category("category");
+        em.persist(category);
+
+        double   latitude  = 37.5663;
+        double   longitude = 126.9779;
+        double[] distances = {3, 1, 10};    //북쪽으로 떨어진 거리(km)
+        for (int i = 0; i < distances.length; i++) {
+            Group group = Group.Companion.of("test%d".formatted(i),
+                                             "test province",
+                                             "test city",
+                                             "test town",
+                                             "test description%d".formatted(i),
+                                             RecruitStatus.RECRUITING,
+                                             10,
+                                             category);
+            group.modifyLocation(latitude + distances[i] / 111.32, longitude);
+            em.persist(group);
+        }
+        em.persist(Group.Companion.of("no location",
+                                      "test province",
+                                      "test city",
+                                      "test town",
+                                      "test description",
+                                      RecruitStatus.RECRUITING,
+                                      10,
+                                      category));
+        afterEach();
+
+        //When
+        List<GroupResponse.NearbyListInfo> responseList = groupService.getNearbyGroups(latitude, longitude, 5, 20, memberId);
+
+        //Then
+        assertThat(responseList).extracting(response -> response.getGroup().getName())
+                                .containsExactly("test1", "test0");
+        assertThat(responseList.get(0).getDistanceKm()).isCloseTo(1.0, within(0.05));
+        assertThat(responseList.get(1).getDistanceKm()).isCloseTo(3.0, within(0.05));
+        assertThat(groupService.getNearbyGroups(latitude, longitude, 50, 1, memberId))
+                .extracting(response -> response.getGroup().getName())
+                .containsExactly("test1");
+        assertThat(groupService.getNearbyGroups(latitude, longitude, 50, 20, memberId))
+                .extracting(response -> response.getGroup().getName())
+                .containsExactly("test1", "test0", "test2");
+    }
+
+    @Test
+    @DisplayName("[성공] 검색 조건에 해당하는 모임 전체를 NDJSON으로 내보내기")
+    void exportGroups() throws Exception {
+        //Given
+        Category category = new Category("category");
+        em.persist(category);
+
+        int size = 5;
+        for (int i = 0; i < size + 2; i++) {
+            em.persist(Group.Companion.of("test%d".formatted(i),
+                                          i < size ? "test province" : "other province",
+                                          "test city",
+                                          "test town",
+                                          "test description%d".formatted(i),
+                                          RecruitStatus.RECRUITING,
+                                          10,
+                                          category));
+        }
+        afterEach();
+
+        GroupSearchCriteria   criteria     = new GroupSearchCriteria(null, null, null, "test province", null, null, false);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //When
+        groupService.exportGroups(criteria, outputStream);
+
+        //Then
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+
+        assertThat(lines).hasSize(size);
+        for (int i = 0; i < size; i++) {
+            JsonNode line = new ObjectMapper().readTree(lines.get(i));
+
+            assertThat(line.get("name").asText()).isEqualTo("test%d".formatted(i));
+            assertThat(line.get("province").asText()).isEqualTo("test province");
+            assertThat(line.get("categoryName").asText()).isEqualTo(category.getName());
+        }
+    }
+
     @Test
     @DisplayName("[성공] ID로 모임 조회 후 값 수정")
     void modifyGroup() {
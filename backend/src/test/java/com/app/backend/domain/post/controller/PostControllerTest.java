@@ -18,6 +18,7 @@ import com.app.backend.domain.post.entity.PostStatus;
 import com.app.backend.domain.post.exception.PostErrorCode;
 import com.app.backend.domain.post.exception.PostException;
 import com.app.backend.domain.post.service.post.PostService;
+import com.app.backend.global.util.AppUtil;
 import com.app.backend.global.util.ReflectionUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -67,7 +68,11 @@ public class PostControllerTest {
 
         MemberDetails mockUser = new MemberDetails(member);
 
-        PostRespDto.GetPostDto responseDto = PostRespDto.GetPostDto.Companion.from(post, member.getId(), member.getNickname(), null, null, true);
+        PostRespDto.GetPostDto responseDto = new PostRespDto.GetPostDto(
+                post.getId(), post.getTitle(), post.getContent(), post.getPostStatus(), member.getNickname(), member.getId(),
+                post.getGroupId(), AppUtil.INSTANCE.localDateTimeToString(post.getCreatedAt()),
+                AppUtil.INSTANCE.localDateTimeToString(post.getModifiedAt()), post.getLikeCount(), true, List.of(), List.of()
+        );
 
         given(postService.getPost(eq(post.getId()), eq(mockUser.getId()))).willReturn(responseDto);
 
@@ -6,6 +6,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.List;
+
 import com.app.backend.domain.member.repository.MemberRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -47,6 +50,9 @@ public class PostLikeControllerTest {
 	@Autowired
 	private PostService postService;
 
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
 	private Member testMember;
 	private Post testPost;
 	private MemberDetails memberDetails;
@@ -63,6 +69,9 @@ public class PostLikeControllerTest {
 		testPost = postRepository.save(testPost);
 
 		memberDetails = new MemberDetails(testMember);
+
+		stringRedisTemplate.delete(List.of("post:likers:" + testPost.getId(), "post:likes:pending:" + testPost.getId(),
+			"post:likes:delta", "post:likes:dirty"));
 	}
 
 	@Test
@@ -22,6 +22,8 @@ import com.app.backend.domain.post.entity.Post;
 import com.app.backend.domain.post.entity.PostStatus;
 import com.app.backend.domain.post.repository.post.PostLikeRepository;
 import com.app.backend.domain.post.repository.post.PostRepository;
+import com.app.backend.domain.post.service.scheduler.PostScheduler;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 @SpringBootTest
 class PostLikeConcurrencyTest {
@@ -38,6 +40,12 @@ class PostLikeConcurrencyTest {
 	@Autowired
 	private PostLikeRepository postLikeRepository;
 
+	@Autowired
+	private PostScheduler postScheduler;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
 	@AfterEach
 	void tearDown() {
 		postLikeRepository.deleteAll();
@@ -54,6 +62,9 @@ class PostLikeConcurrencyTest {
 		testMember = memberRepository.save(Member.create("testUser","password","작성자","ROLE_USER",false, null,null));
 
 		testPost = postRepository.save(Post.of("테스트 게시글", "테스트 내용", PostStatus.PUBLIC, 1L, testMember.getId(), testMember.getNickname()));
+
+		stringRedisTemplate.delete(List.of("post:likers:" + testPost.getId(), "post:likes:pending:" + testPost.getId(),
+			"post:likes:delta", "post:likes:dirty"));
 	}
 
 	@Test
@@ -88,6 +99,7 @@ class PostLikeConcurrencyTest {
 		startSignal.countDown();
 		endSignal.await();
 		executorService.shutdown();
+		postScheduler.reconcileLikes();
 
 		Post foundPost = postRepository.findById(testPost.getId()).get();
 		assertThat(foundPost.getLikeCount()).isEqualTo(numberOfUsers);
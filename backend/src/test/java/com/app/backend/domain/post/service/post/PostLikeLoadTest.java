@@ -0,0 +1,149 @@
+package com.app.backend.domain.post.service.post;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.app.backend.domain.member.entity.Member;
+import com.app.backend.domain.member.repository.MemberRepository;
+import com.app.backend.domain.post.entity.Post;
+import com.app.backend.domain.post.entity.PostLike;
+import com.app.backend.domain.post.entity.PostStatus;
+import com.app.backend.domain.post.repository.post.PostLikeRepository;
+import com.app.backend.domain.post.repository.post.PostRepository;
+import com.app.backend.domain.post.service.scheduler.PostScheduler;
+import com.app.backend.global.util.TransactionHelper;
+
+/**
+ * 인기 게시글 하나에 좋아요가 몰릴 때 처리량 비교(로컬 Redis 필요)
+ *
+ * - pessimistic: 기존 방식(게시글 행 PESSIMISTIC_WRITE 락 + 좋아요 행 저장 + like_count 증가)
+ * - write-behind: Redis 좋아요 Set 갱신 후 PostScheduler.reconcileLikes()로 일괄 반영
+ *
+ * ./gradlew test -PincludeTags=benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+class PostLikeLoadTest {
+
+	private static final int MEMBERS = 500;
+	private static final int THREADS = 32;
+
+	@Autowired
+	private PostService postService;
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private PostLikeRepository postLikeRepository;
+
+	@Autowired
+	private PostScheduler postScheduler;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	private final List<Long> memberIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < MEMBERS; i++) {
+			Member member = memberRepository.save(Member.create("loadUser" + i, "password", "부하" + i, "ROLE_USER", false, null, null));
+			memberIds.add(member.getId());
+		}
+		stringRedisTemplate.delete(List.of("post:likes:delta", "post:likes:dirty"));
+	}
+
+	@AfterEach
+	void tearDown() {
+		postLikeRepository.deleteAll();
+		postRepository.deleteAll();
+		memberRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("단일 게시글 좋아요 처리량 - 행 락 vs write-behind")
+	void hotPostLikeThroughput() throws InterruptedException {
+		Post lockedPost = createPost();
+		Post writeBehindPost = createPost();
+
+		double pessimistic = run(memberId -> TransactionHelper.Companion.execute(() -> {
+			Post post = postRepository.findByIdWithLock(lockedPost.getId());
+			postLikeRepository.save(new PostLike(null, memberRepository.getReferenceById(memberId), post));
+			post.addLikeCount();
+			return null;
+		}));
+		double writeBehind = run(memberId -> postService.PostLike(writeBehindPost.getId(), memberId));
+
+		long start = System.nanoTime();
+		postScheduler.reconcileLikes();
+		long reconcileMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		System.out.printf("%-13s %12s%n", "mode", "ops/s");
+		System.out.printf("%-13s %12.1f%n", "pessimistic", pessimistic);
+		System.out.printf("%-13s %12.1f%n", "write-behind", writeBehind);
+		System.out.printf("reconcile %d likes: %d ms%n", MEMBERS, reconcileMillis);
+
+		assertThat(postRepository.findById(lockedPost.getId()).get().getLikeCount()).isEqualTo(MEMBERS);
+		assertThat(postRepository.findById(writeBehindPost.getId()).get().getLikeCount()).isEqualTo(MEMBERS);
+		assertThat(postLikeRepository.count()).isEqualTo(MEMBERS * 2L);
+	}
+
+	private Post createPost() {
+		Post post = postRepository.save(Post.Companion.of("인기 게시글", "내용", PostStatus.PUBLIC, 1L, memberIds.get(0), "부하0"));
+		stringRedisTemplate.delete(List.of("post:likers:" + post.getId(), "post:likes:pending:" + post.getId()));
+		return post;
+	}
+
+	/**
+	 * 회원마다 좋아요 1회, 초당 처리 건수 반환
+	 */
+	private double run(LongConsumer like) throws InterruptedException {
+		ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch startSignal = new CountDownLatch(1);
+		CountDownLatch endSignal = new CountDownLatch(MEMBERS);
+		AtomicInteger failures = new AtomicInteger();
+
+		for (Long memberId : memberIds) {
+			executorService.submit(() -> {
+				try {
+					startSignal.await();
+					like.accept(memberId);
+				} catch (Exception e) {
+					failures.incrementAndGet();
+				} finally {
+					endSignal.countDown();
+				}
+			});
+		}
+
+		long start = System.nanoTime();
+		startSignal.countDown();
+		endSignal.await();
+		long elapsed = System.nanoTime() - start;
+		executorService.shutdown();
+
+		assertThat(failures.get()).isZero();
+		return MEMBERS * 1_000_000_000.0 / elapsed;
+	}
+}
@@ -3,6 +3,8 @@ package com.app.backend.domain.post.service.post;
 import static org.assertj.core.api.AssertionsForClassTypes.*;
 
 import com.app.backend.domain.member.repository.MemberRepository;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +18,8 @@ import com.app.backend.domain.post.entity.PostStatus;
 import com.app.backend.domain.post.exception.PostErrorCode;
 import com.app.backend.domain.post.exception.PostException;
 import com.app.backend.domain.post.repository.post.PostRepository;
+import com.app.backend.domain.post.service.scheduler.PostScheduler;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 @SpringBootTest
@@ -30,6 +34,12 @@ class PostLikeServiceTest {
 	@Autowired
 	private MemberRepository memberRepository;
 
+	@Autowired
+	private PostScheduler postScheduler;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
 	private Member testMember;
 	private Post testPost;
 
@@ -38,6 +48,9 @@ class PostLikeServiceTest {
 		testMember = memberRepository.save(Member.create("testUser","password","작성자","ROLE_USER",false, null,null));
 
 		testPost = postRepository.save(Post.Companion.of("테스트 게시글", "테스트 내용", PostStatus.PUBLIC, 1L, testMember.getId(), testMember.getNickname()));
+
+		stringRedisTemplate.delete(List.of("post:likers:" + testPost.getId(), "post:likes:pending:" + testPost.getId(),
+			"post:likes:delta", "post:likes:dirty"));
 	}
 
 	@Test
@@ -45,6 +58,7 @@ class PostLikeServiceTest {
 	void createPostLike() {
 		// when
 		postService.PostLike(testPost.getId(), testMember.getId());
+		postScheduler.reconcileLikes();
 
 		// then
 		Post foundPost = postRepository.findById(testPost.getId()).get();
@@ -77,6 +91,7 @@ class PostLikeServiceTest {
 			// when
 			postService.PostLike(testPost.getId(), savedUser.getId());
 		}
+		postScheduler.reconcileLikes();
 
 		// then
 		Post foundPost = postRepository.findById(testPost.getId()).get();
@@ -93,6 +108,7 @@ class PostLikeServiceTest {
 		for (int i = 0; i < toggleCount; i++) {
 			postService.PostLike(testPost.getId(), testMember.getId());
 		}
+		postScheduler.reconcileLikes();
 
 		// then
 		Post foundPost = postRepository.findById(testPost.getId()).get();
@@ -0,0 +1,141 @@
+package com.app.backend.domain.post.service.post;
+
+import com.app.backend.BackendApplication;
+import com.app.backend.domain.post.dto.resp.PostRespDto;
+import com.app.backend.domain.post.entity.Post;
+import com.app.backend.domain.post.entity.PostStatus;
+import com.app.backend.domain.post.repository.post.PostRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 게시글 1만 건 모임의 목록 조회 비교(엔티티 조회 후 DTO 변환 vs 목록 컬럼 프로젝션, us/op)
+ * 프로젝션 조회가 엔티티를 로딩하지 않는지는 PostServiceTest에서 검증
+ *
+ * ./gradlew test -PincludeTags=benchmark
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostListBenchmark {
+
+    private static final long   GROUP_ID  = 10_000L;
+    private static final int    POSTS     = 10_000;
+    private static final int    PAGE_SIZE = 20;
+    private static final String CONTENT   = "본문".repeat(1_000);
+
+    // 첫 페이지, 중간 페이지, 마지막 페이지
+    @Param({"0", "250", "499"})
+    private int page;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate                   jdbcTemplate;
+    private PostRepository                 postRepository;
+    private EntityManager                  em;
+    private TransactionTemplate            readOnly;
+    private Pageable                       pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackendApplication.class).profiles("test")
+                                                                        .web(WebApplicationType.NONE)
+                                                                        .run();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        postRepository = context.getBean(PostRepository.class);
+        em = context.getBean(EntityManager.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        pageable = PageRequest.of(page, PAGE_SIZE);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Integer> rows = IntStream.range(0, POSTS).boxed().toList();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tbl_posts (title, content, post_status, member_id, nick_name, group_id, like_count, " +
+                "today_view_count, total_view_count, created_at, modified_at, disabled) " +
+                "VALUES (?, ?, 'PUBLIC', 1, '닉네임', ?, 0, 0, 0, ?, ?, false)",
+                rows, 1_000, (ps, i) -> {
+                    ps.setString(1, "제목 " + i);
+                    ps.setString(2, CONTENT);
+                    ps.setLong(3, GROUP_ID);
+                    ps.setTimestamp(4, Timestamp.valueOf(now.toLocalDateTime().minusSeconds(i)));
+                    ps.setTimestamp(5, now);
+                }
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM tbl_posts WHERE group_id = ?", GROUP_ID);
+        context.close();
+    }
+
+    /**
+     * 엔티티 조회 후 DTO 변환(본문 등 모든 컬럼 로딩)
+     */
+    @Benchmark
+    public Object entity() {
+        return readOnly.execute(status ->
+                em.createQuery("SELECT p FROM Post p WHERE p.groupId = :groupId AND p.disabled = false " +
+                               "ORDER BY p.createdAt DESC", Post.class)
+                  .setParameter("groupId", GROUP_ID)
+                  .setFirstResult((int) pageable.getOffset())
+                  .setMaxResults(pageable.getPageSize())
+                  .getResultList()
+                  .stream()
+                  .map(PostRespDto.GetPostListDto.Companion::from)
+                  .toList());
+    }
+
+    /**
+     * GET /api/v1/post(목록 컬럼 프로젝션 + COUNT)
+     */
+    @Benchmark
+    public Object projection() {
+        return readOnly.execute(status ->
+                postRepository.findListBySearchStatus(GROUP_ID, null, "", PostStatus.ALL, false, pageable)
+                              .map(PostRespDto.GetPostListDto.Companion::from)
+                              .getContent());
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 벤치마크 - 엔티티 vs 프로젝션")
+    void benchmark() throws RunnerException {
+        new Runner(new OptionsBuilder().include(PostListBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -10,6 +10,7 @@ import com.app.backend.domain.group.repository.GroupRepository;
 import com.app.backend.domain.member.entity.Member;
 import com.app.backend.domain.member.repository.MemberRepository;
 import com.app.backend.domain.post.dto.req.PostReqDto;
+import com.app.backend.domain.post.dto.resp.PostListProjection;
 import com.app.backend.domain.post.dto.resp.PostRespDto;
 import com.app.backend.domain.post.entity.Post;
 import com.app.backend.domain.post.entity.PostAttachment;
@@ -20,9 +21,12 @@ import com.app.backend.domain.post.repository.post.PostRepository;
 import com.app.backend.domain.post.repository.postAttachment.PostAttachmentRepository;
 import com.app.backend.domain.post.service.scheduler.PostScheduler;
 import com.app.backend.global.annotation.CustomWithMockUser;
+import com.app.backend.global.dto.response.CursorPage;
 import com.app.backend.global.error.exception.DomainException;
 import com.app.backend.global.error.exception.GlobalErrorCode;
 import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -60,6 +64,9 @@ public class PostServiceTest {
     @Autowired
     private PostScheduler postScheduler;
 
+    @Autowired
+    private PostDetailService postDetailService;
+
     @Autowired
     private PostRepository postRepository;
 
@@ -106,6 +113,15 @@ public class PostServiceTest {
         redisTemplate.delete("post:postid:1:user:1");
         redisTemplate.delete("viewCount:post:postid:1");
         redisTemplate.delete("post:history");
+        redisTemplate.delete("post:update");
+        redisTemplate.delete("post:trending:1");
+        redisTemplate.delete("post:trending:1:epoch");
+        redisTemplate.delete(redisTemplate.keys("post:trending:viewers:*"));
+        redisTemplate.delete("post:groupid:1");
+        redisTemplate.delete("post:likers:1");
+        redisTemplate.delete("post:likes:pending:1");
+        redisTemplate.delete("post:likes:delta");
+        redisTemplate.delete("post:likes:dirty");
     }
 
     private void dataSetting() {
@@ -991,6 +1007,61 @@ public class PostServiceTest {
         assertEquals(2, respDto.getImages().size());
     }
 
+    @Test
+    @DisplayName("Success : 게시글 불러오기 - 캐시된 본문에 회원별 좋아요 여부 반영")
+    @CustomWithMockUser(username = "Test member1", nickname = "Test Nickname 1")
+    void getPost_Success5() {
+        // Given
+        PostReqDto.SavePostDto savePostDto = new PostReqDto.SavePostDto("새로운 게시글", "새로운 내용", PostStatus.PUBLIC, 1L);
+
+        postService.savePost(1L, savePostDto, null);
+        postService.PostLike(1L, 1L);
+
+        // When
+        PostRespDto.GetPostDto likedDto = postService.getPost(1L, 1L);
+        PostRespDto.GetPostDto notLikedDto = postService.getPost(1L, 2L);
+
+        // Then
+        assertTrue(likedDto.getLiked());
+        assertFalse(notLikedDto.getLiked());
+        assertFalse(((PostRespDto.GetPostDto) redisTemplate.opsForValue().get("post:postid:1")).getLiked());
+    }
+
+    @Test
+    @DisplayName("Success : 게시글 불러오기 - 본문/작성자/첨부파일을 쿼리 2번으로 조회, 캐시 적중 시 쿼리 없음")
+    @CustomWithMockUser(username = "Test member1", nickname = "Test Nickname 1")
+    void getPost_Success6() {
+        // Given
+        MultipartFile[] files = {
+                new MockMultipartFile("file1", "test1.jpg", "image/jpeg", "file1-content".getBytes()),
+                new MockMultipartFile("file2", "test2.pdf", "application/pdf", "file2-content".getBytes())
+        };
+        PostReqDto.SavePostDto savePostDto = new PostReqDto.SavePostDto("새로운 게시글", "새로운 내용", PostStatus.PUBLIC, 1L);
+        postService.savePost(1L, savePostDto, files);
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        // When
+        statistics.clear();
+        PostRespDto.GetPostDto detail = postDetailService.getPostDetail(1L);
+        long missQueries = statistics.getPrepareStatementCount();
+
+        postService.getPost(1L, 1L);
+        statistics.clear();
+        PostRespDto.GetPostDto cached = postService.getPost(1L, 1L);
+        long hitQueries = statistics.getPrepareStatementCount();
+
+        // Then
+        assertEquals(2, missQueries);
+        assertEquals(0, hitQueries);
+        assertEquals("Test Nickname 1", detail.getNickName());
+        assertEquals(1, detail.getImages().size());
+        assertEquals(1, detail.getDocuments().size());
+        assertEquals(detail.getPostId(), cached.getPostId());
+    }
+
     @Test
     @DisplayName("Fail : 게시글 불러오기 - MembershipStatus.PENDING")
     @CustomWithMockUser(id = 2L, username = "Test member2", nickname = "Test Nickname 2")
@@ -1105,7 +1176,7 @@ public class PostServiceTest {
 
         Pageable pageable = PageRequest.of(0, 10, Sort.unsorted());
 
-        Page<Post> result = postRepository.findAllBySearchStatus(1L, "", PostStatus.ALL, false, pageable);
+        Page<PostListProjection> result = postRepository.findListBySearchStatus(1L, null, "", PostStatus.ALL, false, pageable);
 
         // Then
         assertEquals(15, result.getTotalElements()); // 전체 데이터 개수 확인
@@ -1125,7 +1196,7 @@ public class PostServiceTest {
 
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "title"));
 
-        Page<Post> result = postRepository.findAllBySearchStatus(1L, "", PostStatus.ALL, false, pageable);
+        Page<PostListProjection> result = postRepository.findListBySearchStatus(1L, null, "", PostStatus.ALL, false, pageable);
 
         // Then
         assertEquals(9, result.getTotalElements()); // 전체 데이터 개수 확인
@@ -1145,7 +1216,7 @@ public class PostServiceTest {
 
         Pageable pageable = PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "title"));
 
-        Page<Post> result = postRepository.findAllBySearchStatus(1L, "", PostStatus.ALL, false, pageable);
+        Page<PostListProjection> result = postRepository.findListBySearchStatus(1L, null, "", PostStatus.ALL, false, pageable);
 
         // Then
         assertEquals(15, result.getTotalElements()); // 전체 데이터 개수 확인
@@ -1165,12 +1236,91 @@ public class PostServiceTest {
 
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "title"));
 
-        Page<Post> result = postRepository.findAllBySearchStatus(1L, "test", PostStatus.ALL, false, pageable);
+        Page<PostListProjection> result = postRepository.findListBySearchStatus(1L, null, "test", PostStatus.ALL, false, pageable);
 
         // Then
         assertEquals(0, result.getContent().size());
     }
 
+    @Test
+    @DisplayName("Success : 게시글 목록 불러오기 [커서] - 다음 커서로 마지막 페이지까지 중복 없이 조회")
+    public void getPosts_Success5() {
+        for (int i = 1; i <= 15; i++) {
+            Post post = Post.of(i + " 테스트 제목", i + " 테스트 내용", PostStatus.PUBLIC, 1L, 1L, "테스트 닉");
+            postRepository.save(post);
+        }
+        em.flush();
+        em.clear();
+
+        // When
+        CursorPage<PostRespDto.GetPostListDto> first = postService.getPostsByCursor(1L, null, "", PostStatus.ALL, null, 10, true);
+        CursorPage<PostRespDto.GetPostListDto> second = postService.getPostsByCursor(1L, null, "", PostStatus.ALL, first.getNextCursor(), 10, false);
+
+        // Then
+        assertEquals(10, first.getContent().size());
+        assertTrue(first.getHasNext());
+        assertEquals(15L, first.getTotalCount());
+        assertEquals("15 테스트 제목", first.getContent().get(0).getTitle());
+
+        assertEquals(5, second.getContent().size());
+        assertFalse(second.getHasNext());
+        assertNull(second.getNextCursor());
+        assertNull(second.getTotalCount());
+        assertEquals("5 테스트 제목", second.getContent().get(0).getTitle());
+        assertEquals("1 테스트 제목", second.getContent().get(4).getTitle());
+    }
+
+    @Test
+    @DisplayName("Success : 게시글 목록 불러오기 - 엔티티를 로딩하지 않고 목록 컬럼만 조회")
+    public void getPosts_Success6() {
+        for (int i = 1; i <= 15; i++) {
+            Post post = Post.of(i + " 테스트 제목", i + " 테스트 내용", PostStatus.PUBLIC, 1L, 1L, "테스트 닉");
+            postRepository.save(post);
+        }
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        Page<PostRespDto.GetPostListDto> first = postService.getPostsBySearch(1L, "", PostStatus.ALL, PageRequest.of(0, 10));
+        Page<PostRespDto.GetPostListDto> last = postService.getPostsBySearch(1L, "", PostStatus.ALL, PageRequest.of(1, 10));
+        Page<PostRespDto.GetPostListDto> byUser = postService.getPostsByUser(
+                new PostReqDto.SearchPostDto(1L, "", PostStatus.ALL), PageRequest.of(0, 10), 1L);
+        CursorPage<PostRespDto.GetPostListDto> cursor = postService.getPostsByCursor(1L, null, "", PostStatus.ALL, null, 10, true);
+
+        // Then
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertTrue(statistics.getPrepareStatementCount() > 0);
+        assertEquals(15, byUser.getTotalElements());
+        assertEquals(10, cursor.getContent().size());
+        assertEquals(15, first.getTotalElements());
+        assertEquals("15 테스트 제목", first.getContent().get(0).getTitle());
+        assertEquals(15, last.getTotalElements());
+        assertEquals(5, last.getContent().size());
+    }
+
+    @Test
+    @DisplayName("Success : 게시글 검색 - 제목/본문 색인, 제목 일치 우선, 삭제 시 색인 제거")
+    public void searchPosts_Success1() {
+        // Given
+        Post notice = postService.savePost(1L, new PostReqDto.SavePostDto("정기 모임 공지", "이번 주 토요일", PostStatus.PUBLIC, 1L), null);
+        Post question = postService.savePost(1L, new PostReqDto.SavePostDto("자유 글", "모임 공지는 어디서 보나요", PostStatus.PUBLIC, 1L), null);
+        postService.savePost(1L, new PostReqDto.SavePostDto("잡담", "관련 없는 내용", PostStatus.PUBLIC, 1L), null);
+
+        // When
+        List<PostRespDto.GetPostListDto> result = postService.searchPosts(1L, "모임 공지", 10);
+        Page<PostListProjection> page = postRepository.findListBySearchStatus(1L, null, "공지", PostStatus.ALL, false, PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(List.of(notice.getId(), question.getId()), result.stream().map(PostRespDto.GetPostListDto::getPostId).toList());
+        assertEquals(2, page.getTotalElements());
+
+        postService.deletePost(1L, notice.getId());
+        assertEquals(List.of(question.getId()), postService.searchPosts(1L, "모임 공지", 10).stream().map(PostRespDto.GetPostListDto::getPostId).toList());
+    }
+
     @Test
     @DisplayName("Fail : 게시글 목록 불러오기 [페이징]")
     public void getPosts_Fail1() {
@@ -1184,12 +1334,20 @@ public class PostServiceTest {
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "fail"));
 
         // Then
-        assertThatThrownBy(() -> postRepository.findAllBySearchStatus(1L, "", PostStatus.ALL, false, pageable))
+        assertThatThrownBy(() -> postRepository.findListBySearchStatus(1L, null, "", PostStatus.ALL, false, pageable))
                 .isInstanceOf(DomainException.class)
                 .hasFieldOrPropertyWithValue("domainErrorCode", GlobalErrorCode.INVALID_INPUT_VALUE)
                 .hasMessage(GlobalErrorCode.INVALID_INPUT_VALUE.getMessage());
     }
 
+    @Test
+    @DisplayName("Fail : 게시글 목록 불러오기 [커서] - 잘못된 커서")
+    public void getPosts_Fail2() {
+        assertThatThrownBy(() -> postService.getPostsByCursor(1L, null, "", PostStatus.ALL, "invalid", 10, false))
+                .isInstanceOf(DomainException.class)
+                .hasFieldOrPropertyWithValue("domainErrorCode", GlobalErrorCode.INVALID_INPUT_VALUE);
+    }
+
     @Test
     @DisplayName("Success : 같은 사용자 게시물 조회수 적용 제한")
     @CustomWithMockUser(username = "Test member1", nickname = "Test Nickname 1")
@@ -1293,6 +1451,56 @@ public class PostServiceTest {
         assertEquals(3L, cachedPosts.get(0).getTodayViewCount());
     }
 
+    @Test
+    @DisplayName("Success : 00 00 스케쥴러 실행 시 갱신 목록의 조회수도 반영")
+    public void viewCount_Success5() {
+        // given
+        for (int i = 1; i <= 2; i++) {
+            PostReqDto.SavePostDto savePostDto = new PostReqDto.SavePostDto("새로운 게시글", "새로운 내용", PostStatus.PUBLIC, 1L);
+            postService.savePost(1L, savePostDto, null);
+        }
+
+        String updateKey = "post:update";
+        redisTemplate.opsForValue().set("viewCount:post:postid:1", 20L);
+        redisTemplate.opsForValue().set("viewCount:post:postid:2", 5L);
+        redisTemplate.opsForSet().add(updateKey, "viewCount:post:postid:1", "viewCount:post:postid:2");
+        redisTemplate.opsForSet().add("post:history", "post:postid:1");
+
+        // when
+        postScheduler.refreshViewCount();
+
+        // Then
+        Post post1 = postRepository.findById(1L).orElseThrow();
+        Post post2 = postRepository.findById(2L).orElseThrow();
+        assertEquals(0L, post1.getTodayViewCount());
+        assertEquals(20L, post1.getTotalViewCount());
+        assertEquals(5L, post2.getTodayViewCount());
+        assertEquals(0L, post2.getTotalViewCount());
+        assertFalse(redisTemplate.hasKey(updateKey));
+    }
+
+    @Test
+    @DisplayName("Success : 조회 순위가 반영된 hot 게시물 목록 조회")
+    public void viewCount_Success6() {
+        // given
+        for (int i = 1; i <= 3; i++) {
+            PostReqDto.SavePostDto savePostDto = new PostReqDto.SavePostDto("새로운 게시글", "새로운 내용", PostStatus.PUBLIC, 1L);
+            postService.savePost(1L, savePostDto, null);
+        }
+
+        // when : 같은 회원의 재조회는 한 번만 반영
+        postService.getPost(2L, 1L);
+        postService.getPost(2L, 2L);
+        postService.getPost(3L, 1L);
+        postService.getPost(3L, 1L);
+
+        // Then
+        List<PostRespDto.GetPostListDto> posts = postService.getTopFivePosts(1L);
+        assertEquals(2, posts.size());
+        assertEquals(2L, posts.get(0).getPostId());
+        assertEquals(3L, posts.get(1).getPostId());
+    }
+
     @AfterAll
     public static void tearDown() {
         deleteTestUploadsFile();
@@ -0,0 +1,65 @@
+package com.app.backend.domain.post.service.postLike;
+
+import com.app.backend.domain.post.exception.PostErrorCode;
+import com.app.backend.domain.post.exception.PostException;
+import com.app.backend.domain.post.repository.post.PostLikeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostLikerServiceTest {
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final PostLikeRepository  postLikeRepository  = mock(PostLikeRepository.class);
+    private final PostLikerService    postLikerService    =
+            new PostLikerService(stringRedisTemplate, postLikeRepository, Duration.ofHours(1));
+
+    @Test
+    @DisplayName("좋아요 회원 목록이 없으면 DB에서 적재한 뒤 다시 토글")
+    void toggleAfterLoad() {
+        givenToggleResults(-1L, 1L);
+        when(postLikeRepository.findMemberIdsByPostId(1L)).thenReturn(List.of());
+
+        assertThat(postLikerService.toggle(1L, 2L)).isTrue();
+        verify(postLikeRepository).findMemberIdsByPostId(1L);
+    }
+
+    @Test
+    @DisplayName("적재 후에도 목록이 계속 사라지면 취소로 응답하지 않고 예외 발생")
+    void toggleFailsAfterRetries() {
+        givenToggleResults(-1L, -1L, -1L);
+        when(postLikeRepository.findMemberIdsByPostId(1L)).thenReturn(List.of());
+
+        assertThatThrownBy(() -> postLikerService.toggle(1L, 2L))
+                .isInstanceOf(PostException.class)
+                .hasFieldOrPropertyWithValue("domainErrorCode", PostErrorCode.POST_LIKE_CONFLICT);
+        verify(postLikeRepository, times(3)).findMemberIdsByPostId(1L);
+    }
+
+    /**
+     * 토글 스크립트(키 4개)는 주어진 결과를 차례로 반환하고, 적재 스크립트(키 1개)는 성공으로 응답
+     */
+    @SuppressWarnings("unchecked")
+    private void givenToggleResults(Long... results) {
+        Deque<Long> toggleResults = new ArrayDeque<>(List.of(results));
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(1);
+            return keys.size() == 4 ? toggleResults.poll() : 1L;
+        });
+    }
+}
@@ -0,0 +1,71 @@
+package com.app.backend.domain.post.service.postSearch;
+
+import com.app.backend.domain.post.repository.post.PostRepository;
+import com.app.backend.domain.post.repository.postSearch.PostSearchTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostSearchServiceTest {
+
+    private final PostRepository            postRepository            = mock(PostRepository.class);
+    private final PostSearchTokenRepository postSearchTokenRepository = mock(PostSearchTokenRepository.class);
+    private final PostSearchService         postSearchService         =
+            new PostSearchService(postRepository, postSearchTokenRepository);
+
+    @Test
+    @DisplayName("백필 완료 전에는 색인 결과가 부족하면 제목 부분 일치 게시글로 채움")
+    void searchFallsBackToTitleBeforeBackfill() {
+        when(postSearchTokenRepository.searchPostIds(eq(1L), any(), eq(10L))).thenReturn(List.of(5L));
+        when(postSearchTokenRepository.isBackfillCompleted()).thenReturn(false);
+        when(postSearchTokenRepository.searchPostIdsByTitle(1L, "테스트", List.of(5L), 9L)).thenReturn(List.of(3L, 2L));
+
+        assertThat(postSearchService.searchPostIds(1L, "테스트", 10)).containsExactly(5L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("백필 완료 후에는 색인 결과만 사용")
+    void searchUsesIndexAfterBackfill() {
+        when(postSearchTokenRepository.searchPostIds(eq(1L), any(), eq(10L))).thenReturn(List.of(5L));
+        when(postSearchTokenRepository.isBackfillCompleted()).thenReturn(true);
+
+        assertThat(postSearchService.searchPostIds(1L, "테스트", 10)).containsExactly(5L);
+        verify(postSearchTokenRepository, never()).searchPostIdsByTitle(anyLong(), anyString(), anyCollection(), anyLong());
+    }
+
+    @Test
+    @DisplayName("백필이 이미 완료되었으면 게시글을 다시 색인하지 않음")
+    void backfillOnce() {
+        when(postSearchTokenRepository.isBackfillCompleted()).thenReturn(true);
+
+        assertThat(postSearchService.backfill(100, 10)).isZero();
+        verify(postRepository, never()).findAllByDisabledAndIdGreaterThanOrderByIdAsc(any(Boolean.class), anyLong(), any());
+        verify(postSearchTokenRepository, never()).markBackfillCompleted(anyLong());
+    }
+
+    @Test
+    @DisplayName("백필은 저장된 위치부터 최대 청크 수만큼 진행하고 남은 게시글이 없으면 완료 기록")
+    void backfillResumesFromProgress() {
+        when(postSearchTokenRepository.isBackfillCompleted()).thenReturn(false);
+        when(postSearchTokenRepository.findBackfillProgress()).thenReturn(10L);
+        when(postRepository.findAllByDisabledAndIdGreaterThanOrderByIdAsc(eq(false), anyLong(), any()))
+                .thenReturn(List.of());
+
+        assertThat(postSearchService.backfill(100, 10)).isZero();
+        verify(postRepository).findAllByDisabledAndIdGreaterThanOrderByIdAsc(eq(false), eq(10L), any());
+        verify(postSearchTokenRepository).markBackfillCompleted(10L);
+        verify(postSearchTokenRepository, never()).saveBackfillProgress(anyLong());
+    }
+}
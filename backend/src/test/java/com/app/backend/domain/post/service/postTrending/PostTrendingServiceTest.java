@@ -0,0 +1,99 @@
+package com.app.backend.domain.post.service.postTrending;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+class PostTrendingServiceTest {
+
+    private static final long GROUP_ID = 900_001L;
+    private static final long POST_ID  = 900_001L;
+    private static final long OTHER_ID = 900_002L;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private PostTrendingService postTrendingService;
+
+    @BeforeEach
+    void setUp() {
+        clear();
+        // 반감기 200ms, 조회 가중치 1, 좋아요 가중치 3
+        postTrendingService = new PostTrendingService(stringRedisTemplate, Duration.ofMillis(200), 1, 3, 100,
+                                                      Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        clear();
+    }
+
+    @Test
+    @DisplayName("좋아요 후 반감기가 여러 번 지난 뒤 취소해도 좋아요가 더한 점수만 빠지고 조회 점수는 유지")
+    void unlikeAfterHalfLives() throws InterruptedException {
+        // 비교 대상 게시글은 같은 시각에 조회만 반영(기준 시각 이동으로 점수가 재조정되어도 같은 비율로 재조정됨)
+        postTrendingService.recordView(GROUP_ID, POST_ID, 1L);
+        postTrendingService.recordView(GROUP_ID, OTHER_ID, 1L);
+        postTrendingService.onLikeToggled(GROUP_ID, POST_ID, 2L, true);
+        assertThat(score(POST_ID)).isGreaterThan(score(OTHER_ID));
+
+        Thread.sleep(600);
+        postTrendingService.onLikeToggled(GROUP_ID, POST_ID, 2L, false);
+
+        assertThat(score(POST_ID)).isPositive().isCloseTo(score(OTHER_ID), within(score(OTHER_ID) * 0.05));
+        assertThat(postTrendingService.getTopPostIds(GROUP_ID, 10)).containsExactlyInAnyOrder(POST_ID, OTHER_ID);
+    }
+
+    @Test
+    @DisplayName("좋아요 기록이 없는 취소는 점수에 반영하지 않음")
+    void unlikeWithoutLike() {
+        postTrendingService.recordView(GROUP_ID, POST_ID, 1L);
+        double viewScore = score(POST_ID);
+
+        postTrendingService.onLikeToggled(GROUP_ID, POST_ID, 2L, false);
+
+        assertThat(score(POST_ID)).isEqualTo(viewScore);
+    }
+
+    @Test
+    @DisplayName("처음 조회한 회원은 모두 반영하고 같은 회원의 반감기 내 재조회는 제외")
+    void recordDistinctViews() {
+        // 반감기 1일(테스트 중 시간 감쇠 무시)
+        PostTrendingService service = new PostTrendingService(stringRedisTemplate, Duration.ofDays(1), 1, 3, 100,
+                                                               Duration.ofMinutes(1));
+        int viewers = 5_000;
+        for (long memberId = 1; memberId <= viewers; memberId++) {
+            service.recordView(GROUP_ID, POST_ID, memberId);
+            service.recordView(GROUP_ID, POST_ID, memberId);
+        }
+        service.recordView(GROUP_ID, OTHER_ID, 1L);
+
+        assertThat(score(POST_ID) / score(OTHER_ID)).isCloseTo(viewers, within(viewers * 0.001));
+        stringRedisTemplate.delete(LongStream.rangeClosed(1, viewers)
+                                             .mapToObj(memberId -> "post:trending:viewed:" + POST_ID + ":" + memberId)
+                                             .toList());
+        stringRedisTemplate.delete("post:trending:viewed:" + OTHER_ID + ":1");
+    }
+
+    private double score(long postId) {
+        Double score = stringRedisTemplate.opsForZSet().score("post:trending:" + GROUP_ID, String.valueOf(postId));
+        return score == null ? 0 : score;
+    }
+
+    private void clear() {
+        stringRedisTemplate.delete(List.of("post:trending:" + GROUP_ID, "post:trending:" + GROUP_ID + ":epoch",
+                                           "post:trending:likes:" + POST_ID));
+    }
+}
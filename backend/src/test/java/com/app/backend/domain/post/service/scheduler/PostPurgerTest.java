@@ -0,0 +1,116 @@
+package com.app.backend.domain.post.service.scheduler;
+
+import com.app.backend.domain.attachment.entity.FileType;
+import com.app.backend.domain.attachment.service.FileService;
+import com.app.backend.domain.post.entity.PostAttachment;
+import com.app.backend.domain.post.repository.post.PostRepository;
+import com.app.backend.domain.post.repository.postAttachment.PostAttachmentRepository;
+import com.app.backend.global.config.FileConfig;
+import com.app.backend.global.util.SchedulerLockManager;
+import com.app.backend.global.util.TransactionHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostPurgerTest {
+
+    private static final LocalDateTime DELETE_DAY = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final RedisTemplate<String, Object>          redisTemplate            = mock(RedisTemplate.class);
+    private final HashOperations<String, String, Object> hashOperations           = mock(HashOperations.class);
+    private final FileConfig                             fileConfig               = mock(FileConfig.class);
+    private final FileService                            fileService              = mock(FileService.class);
+    private final PostRepository                         postRepository           = mock(PostRepository.class);
+    private final PostAttachmentRepository               postAttachmentRepository = mock(PostAttachmentRepository.class);
+    private final SchedulerLockManager                   schedulerLockManager     = mock(SchedulerLockManager.class);
+
+    private PostPurger postPurger;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class))
+        );
+        new TransactionHelper(transactionTemplate);
+
+        when(redisTemplate.<String, Object>opsForHash()).thenReturn(hashOperations);
+        when(fileConfig.getBaseDir()).thenReturn("/files");
+        postPurger = purger(Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        postPurger.shutdown();
+    }
+
+    @Test
+    @DisplayName("체크포인트 다음 id부터 청크 단위로 삭제하고 끝까지 처리하면 체크포인트 삭제")
+    void purgePostsFromCheckpoint() {
+        when(hashOperations.get(PostPurger.CHECKPOINT_KEY, PostPurger.POST)).thenReturn(10);
+        when(postRepository.findIdsByModifiedAtAndDisabled(DELETE_DAY, true, 10L, 2L)).thenReturn(List.of(11L, 12L));
+        when(postRepository.findIdsByModifiedAtAndDisabled(DELETE_DAY, true, 12L, 2L)).thenReturn(List.of(13L));
+
+        postPurger.purge(DELETE_DAY);
+
+        verify(postRepository).deleteAllByIdList(List.of(11L, 12L));
+        verify(postRepository).deleteAllByIdList(List.of(13L));
+        verify(hashOperations).put(PostPurger.CHECKPOINT_KEY, PostPurger.POST, 12L);
+        verify(hashOperations).put(PostPurger.CHECKPOINT_KEY, PostPurger.POST, 13L);
+        verify(hashOperations).delete(PostPurger.CHECKPOINT_KEY, PostPurger.POST);
+    }
+
+    @Test
+    @DisplayName("첨부파일은 파일을 먼저 삭제한 뒤 행 삭제")
+    void purgeAttachments() {
+        PostAttachment attachment = new PostAttachment("a.png", "b.png", "20240101/b.png", 1L, "image/png", FileType.IMAGE, 1L);
+        attachment.setId(5L);
+        when(postAttachmentRepository.findAllByModifiedAtAndDisabled(DELETE_DAY, true, 0L, 2L))
+                .thenReturn(List.of(attachment));
+
+        postPurger.purge(DELETE_DAY);
+
+        InOrder inOrder = inOrder(fileService, postAttachmentRepository);
+        inOrder.verify(fileService).deleteFile("/files/20240101/b.png");
+        inOrder.verify(postAttachmentRepository).deleteByFileIdList(List.of(5L));
+        verify(hashOperations).delete(PostPurger.CHECKPOINT_KEY, PostPurger.ATTACHMENT);
+    }
+
+    @Test
+    @DisplayName("시간 예산을 넘기면 중단하고 체크포인트 유지")
+    void stopWhenOverBudget() {
+        postPurger.shutdown();
+        postPurger = purger(Duration.ZERO);
+
+        postPurger.purge(DELETE_DAY);
+
+        verify(postRepository, never()).findIdsByModifiedAtAndDisabled(any(), eq(true), anyLong(), anyLong());
+        verify(hashOperations, never()).delete(anyString(), any());
+    }
+
+    private PostPurger purger(Duration timeBudget) {
+        return new PostPurger(redisTemplate, fileConfig, fileService, postRepository, postAttachmentRepository,
+                              schedulerLockManager, 2L, Duration.ZERO, timeBudget, 2);
+    }
+}
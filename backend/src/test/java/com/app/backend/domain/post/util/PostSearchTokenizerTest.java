@@ -0,0 +1,35 @@
+package com.app.backend.domain.post.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class PostSearchTokenizerTest {
+
+    @Test
+    @DisplayName("단어마다 2글자씩 잘라 토큰별 등장 횟수 집계, 1글자 단어와 구분자는 제외")
+    void tokenize() {
+        assertThat(PostSearchTokenizer.INSTANCE.tokenize("모임공지, 모임 a Spring!"))
+                .containsOnly(
+                        entry("모임", 2), entry("임공", 1), entry("공지", 1),
+                        entry("sp", 1), entry("pr", 1), entry("ri", 1), entry("in", 1), entry("ng", 1)
+                );
+    }
+
+    @Test
+    @DisplayName("검색어 토큰은 중복 제거, 1글자 검색어는 토큰 없음")
+    void queryTokens() {
+        assertThat(PostSearchTokenizer.INSTANCE.queryTokens("공지 공지사항")).containsExactlyInAnyOrder("공지", "사항", "지사");
+        assertThat(PostSearchTokenizer.INSTANCE.queryTokens("a")).isEmpty();
+        assertThat(PostSearchTokenizer.INSTANCE.queryTokens(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("악센트/전각 문자가 다른 토큰은 서로 다른 토큰(토큰 컬럼은 바이너리 콜레이션)")
+    void accentAndWidthVariantsAreDistinct() {
+        assertThat(PostSearchTokenizer.INSTANCE.tokenize("fé fe １２ 12"))
+                .containsOnly(entry("fé", 1), entry("fe", 1), entry("１２", 1), entry("12", 1));
+    }
+}
@@ -0,0 +1,61 @@
+package com.app.backend.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheCircuitBreakerTest {
+
+    private CacheCircuitBreaker circuitBreaker(Duration openDuration) {
+        return new CacheCircuitBreaker(new SimpleMeterRegistry(), 3, openDuration);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 OPEN")
+    void openAfterConsecutiveFailures() {
+        CacheCircuitBreaker circuitBreaker = circuitBreaker(Duration.ofMinutes(1));
+
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.getCurrentState()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.allowRequest()).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 한 요청만 probe로 허용하고 성공 시 CLOSED")
+    void halfOpenProbe() {
+        CacheCircuitBreaker circuitBreaker = circuitBreaker(Duration.ZERO);
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onFailure();
+        }
+
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+        assertThat(circuitBreaker.getCurrentState()).isEqualTo(CacheCircuitBreaker.State.HALF_OPEN);
+
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.getCurrentState()).isEqualTo(CacheCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("probe 실패 시 다시 OPEN")
+    void halfOpenFailure() {
+        CacheCircuitBreaker circuitBreaker = circuitBreaker(Duration.ZERO);
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onFailure();
+        }
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.getCurrentState()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+    }
+}
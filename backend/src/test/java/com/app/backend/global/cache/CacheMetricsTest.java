@@ -0,0 +1,82 @@
+package com.app.backend.global.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CacheMetricsTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NearCache nearCache = new NearCache(redisTemplate, true, 100, Duration.ofSeconds(30));
+    private final CacheMetrics cacheMetrics = new CacheMetrics(meterRegistry, redisTemplate, nearCache);
+
+    @Test
+    @DisplayName("캐시별 조회 결과 집계")
+    void requests() {
+        cacheMetrics.l1Hit("post:postid");
+        cacheMetrics.l2Hit("post:postid");
+        cacheMetrics.l2Hit("post:postid");
+        cacheMetrics.miss("post:groupid");
+
+        assertThat(count("post:postid", "l1_hit")).isEqualTo(1);
+        assertThat(count("post:postid", "l2_hit")).isEqualTo(2);
+        assertThat(count("post:groupid", "miss")).isEqualTo(1);
+        assertThat(meterRegistry.find("cache.l2.keys").tag("cache", "post:postid").gauge()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("오류 및 우회 집계")
+    void errorsAndBypass() {
+        cacheMetrics.error("post:postid", "read", new IllegalStateException());
+        cacheMetrics.bypass("post:postid", "error");
+
+        assertThat(meterRegistry.get("cache.aspect.errors")
+                                .tags("cache", "post:postid", "operation", "read", "exception",
+                                      "IllegalStateException")
+                                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.aspect.bypass").tags("cache", "post:postid", "reason", "error").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("원본 조회 시간 기록")
+    void recordLoad() {
+        Object result = cacheMetrics.recordLoad("post:postid", () -> "value");
+
+        assertThat(result).isEqualTo("value");
+        assertThat(meterRegistry.get("cache.aspect.load").tag("cache", "post:postid").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("L2 키 개수는 캐시별 키 인덱스의 만료되지 않은 항목 수로 집계")
+    @SuppressWarnings("unchecked")
+    void countL2Keys() {
+        ZSetOperations<String, Object> zSetOperations = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.count(eq("cache:keys:post:postid"), anyDouble(), eq(Double.POSITIVE_INFINITY)))
+                .thenReturn(3L);
+
+        cacheMetrics.l2Hit("post:postid");
+        cacheMetrics.countL2Keys();
+
+        assertThat(meterRegistry.get("cache.l2.keys").tag("cache", "post:postid").gauge().value()).isEqualTo(3);
+    }
+
+    private double count(String cache, String result) {
+        return meterRegistry.get("cache.aspect.requests").tags("cache", cache, "result", result).counter().count();
+    }
+}
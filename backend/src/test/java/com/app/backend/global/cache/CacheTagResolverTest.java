@@ -0,0 +1,52 @@
+package com.app.backend.global.cache;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CacheTagResolverTest {
+
+    private final CacheTagResolver cacheTagResolver = new CacheTagResolver();
+
+    private ProceedingJoinPoint joinPoint(String methodName, String[] parameterNames, Object[] args)
+            throws NoSuchMethodException {
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(CacheTagResolverTest.class.getDeclaredMethod(methodName));
+        when(signature.getParameterNames()).thenReturn(parameterNames);
+
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(args);
+        return joinPoint;
+    }
+
+    @Test
+    @DisplayName("파라미터와 반환 값으로 태그 키 생성")
+    void resolve() throws NoSuchMethodException {
+        ProceedingJoinPoint joinPoint = joinPoint("resolve", new String[]{"postId"}, new Object[]{1L});
+
+        List<String> tagKeys = cacheTagResolver.resolve(joinPoint, new String[]{"'post:' + #postId",
+                                                                               "'group:' + #result['groupId']"},
+                                                        Map.of("groupId", 3L));
+
+        assertThat(tagKeys).containsExactly("cache:tag:post:1", "cache:tag:group:3");
+    }
+
+    @Test
+    @DisplayName("값이 null인 태그는 제외")
+    void skipNullTag() throws NoSuchMethodException {
+        ProceedingJoinPoint joinPoint = joinPoint("skipNullTag", new String[]{"groupId"}, new Object[]{1L});
+
+        List<String> tagKeys = cacheTagResolver.resolve(joinPoint, new String[]{"#result"}, null);
+
+        assertThat(tagKeys).isEmpty();
+    }
+}
@@ -0,0 +1,67 @@
+package com.app.backend.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class NearCacheTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+
+    @Test
+    @DisplayName("로컬 캐시 저장 후 조회")
+    void putAndGet() {
+        NearCache nearCache = new NearCache(redisTemplate, true, 100, Duration.ofSeconds(30));
+
+        nearCache.put("post:postid:1", "value", 5, TimeUnit.MINUTES);
+
+        assertThat(nearCache.get("post:postid:1")).isEqualTo("value");
+        assertThat(nearCache.contains("post:postid:1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("로컬 캐시 삭제 시 삭제 메시지 발행")
+    void evictPublishesInvalidation() {
+        NearCache nearCache = new NearCache(redisTemplate, true, 100, Duration.ofSeconds(30));
+        nearCache.put("post:postid:1", "value", 5, TimeUnit.MINUTES);
+
+        nearCache.evict("post:postid:1");
+
+        assertThat(nearCache.get("post:postid:1")).isNull();
+        verify(redisTemplate).convertAndSend(eq(NearCache.INVALIDATION_CHANNEL), eq("post:postid:1"));
+    }
+
+    @Test
+    @DisplayName("여러 키 삭제 시 삭제 메시지 1회 발행")
+    void evictAllPublishesOnce() {
+        NearCache nearCache = new NearCache(redisTemplate, true, 100, Duration.ofSeconds(30));
+        nearCache.put("post:postid:1", "value1", 5, TimeUnit.MINUTES);
+        nearCache.put("post:postid:2", "value2", 5, TimeUnit.MINUTES);
+
+        nearCache.evictAll(List.of("post:postid:1", "post:postid:2"));
+
+        assertThat(nearCache.get("post:postid:1")).isNull();
+        assertThat(nearCache.get("post:postid:2")).isNull();
+        verify(redisTemplate).convertAndSend(eq(NearCache.INVALIDATION_CHANNEL), eq(List.of("post:postid:1", "post:postid:2")));
+    }
+
+    @Test
+    @DisplayName("비활성화 시 로컬 캐시 미사용")
+    void disabled() {
+        NearCache nearCache = new NearCache(redisTemplate, false, 100, Duration.ofSeconds(30));
+
+        nearCache.put("post:postid:1", "value", 5, TimeUnit.MINUTES);
+
+        assertThat(nearCache.get("post:postid:1")).isNull();
+    }
+}
@@ -0,0 +1,131 @@
+package com.app.backend.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RedisCacheExecutorTest {
+
+    private static final String CACHE_KEY = "test:redis-mode:post:postid:1";
+    private static final String VIEW_KEY = "viewCount:" + CACHE_KEY;
+    private static final String UPDATE_KEY = "test:redis-mode:post:update";
+    private static final String HISTORY_KEY = "test:redis-mode:post:history";
+    private static final String INDEX_KEY = CacheMetrics.Companion.keyIndex("test:redis-mode:post:postid");
+    private static final long VIEW_TTL_MS = 60_000L;
+    private static final String CACHED_VALUE = "cached";
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        clear();
+    }
+
+    @ParameterizedTest
+    @EnumSource(ViewCountMode.class)
+    @DisplayName("script 모드와 sequential 모드의 조회수 중복 확인, TTL 갱신, 조회 기록 결과 일치")
+    void scriptMatchesSequential(ViewCountMode viewCountMode) {
+        Snapshot script = run("script", viewCountMode);
+        Snapshot sequential = run("sequential", viewCountMode);
+
+        assertThat(script).isEqualTo(sequential);
+        assertThat(script.viewCount()).isEqualTo("2");
+        assertThat(script.updateMembers()).hasSize(1);
+        assertThat(script.historyMembers()).hasSize(1);
+        assertThat(script.results()).containsExactly("cached:true", "cached:true", "cached:true", "null:false");
+        assertThat(script.limitKeysAlive()).isTrue();
+    }
+
+    @Test
+    @DisplayName("캐시 저장 시 키 인덱스에 등록하고 단건 삭제 시 제거")
+    void keyIndex() {
+        RedisCacheExecutor executor = new RedisCacheExecutor(redisTemplate, new SimpleMeterRegistry(), "script");
+        executor.write(CACHE_KEY, CACHED_VALUE.getBytes(), 10, TimeUnit.MINUTES, INDEX_KEY, List.of());
+        executor.write(CACHE_KEY + ":2", CACHED_VALUE.getBytes(), 10, TimeUnit.MINUTES, INDEX_KEY, List.of());
+        assertThat(stringRedisTemplate.opsForZSet().count(INDEX_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY))
+                .isEqualTo(2);
+
+        executor.delete(CACHE_KEY, INDEX_KEY);
+
+        assertThat(stringRedisTemplate.hasKey(CACHE_KEY)).isFalse();
+        assertThat(stringRedisTemplate.opsForZSet().count(INDEX_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY))
+                .isEqualTo(1);
+    }
+
+    /**
+     * 같은 키로 조회 시나리오를 실행한 뒤 Redis 상태를 기록
+     * 1) 회원 1 조회 2) 회원 1 재조회(중복) 3) 회원 2 조회 4) 조회수 집계 없이 기록만 저장(캐시 조회 생략)
+     */
+    private Snapshot run(String mode, ViewCountMode viewCountMode) {
+        clear();
+        RedisCacheExecutor executor = new RedisCacheExecutor(redisTemplate, new SimpleMeterRegistry(), mode);
+        executor.write(CACHE_KEY, CACHED_VALUE.getBytes(), 10, TimeUnit.MINUTES, INDEX_KEY, List.of());
+
+        List<String> results = new ArrayList<>();
+        results.add(read(executor, viewCountMode, 1L, true, true));
+        results.add(read(executor, viewCountMode, 1L, true, true));
+        results.add(read(executor, viewCountMode, 2L, true, true));
+        results.add(read(executor, viewCountMode, 2L, false, false));
+
+        boolean limitKeysAlive = limitKeys(viewCountMode).stream().allMatch(key -> {
+            Long ttl = stringRedisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+            return ttl != null && ttl > 0 && ttl <= VIEW_TTL_MS;
+        });
+
+        return new Snapshot(
+                stringRedisTemplate.opsForValue().get(VIEW_KEY),
+                new TreeSet<>(stringRedisTemplate.opsForSet().members(UPDATE_KEY)),
+                new TreeSet<>(stringRedisTemplate.opsForSet().members(HISTORY_KEY)),
+                results,
+                limitKeysAlive
+        );
+    }
+
+    private String read(RedisCacheExecutor executor, ViewCountMode viewCountMode, long viewerId,
+                        boolean viewCount, boolean fetch) {
+        RedisCacheExecutor.ReadResult result = executor.read(new RedisCacheExecutor.ReadCommand(
+                CACHE_KEY, VIEW_KEY, limitKey(viewCountMode, viewerId), UPDATE_KEY, HISTORY_KEY,
+                viewCount, VIEW_TTL_MS, TimeUnit.MILLISECONDS, true, fetch, viewCountMode, viewerId
+        ));
+        return (result.getBytes() == null ? "null" : new String(result.getBytes())) + ":" + (result.getTtlMillis() > 0);
+    }
+
+    private String limitKey(ViewCountMode viewCountMode, long viewerId) {
+        return viewCountMode == ViewCountMode.KEY ? CACHE_KEY + ":user:" + viewerId : "viewers:" + CACHE_KEY + ":0";
+    }
+
+    private List<String> limitKeys(ViewCountMode viewCountMode) {
+        return List.of(limitKey(viewCountMode, 1L), limitKey(viewCountMode, 2L));
+    }
+
+    private void clear() {
+        List<String> keys = new ArrayList<>(List.of(CACHE_KEY, CACHE_KEY + ":2", VIEW_KEY, UPDATE_KEY, HISTORY_KEY, INDEX_KEY));
+        for (ViewCountMode viewCountMode : ViewCountMode.values())
+            keys.addAll(limitKeys(viewCountMode));
+        stringRedisTemplate.delete(keys);
+    }
+
+    private record Snapshot(String viewCount, Set<String> updateMembers, Set<String> historyMembers,
+                            List<String> results, boolean limitKeysAlive) {
+    }
+}
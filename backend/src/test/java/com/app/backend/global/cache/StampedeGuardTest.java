@@ -0,0 +1,147 @@
+package com.app.backend.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StampedeGuardTest {
+
+    private final RedisCacheExecutor redisCacheExecutor = mock(RedisCacheExecutor.class);
+    private final CacheCircuitBreaker cacheCircuitBreaker =
+            new CacheCircuitBreaker(new SimpleMeterRegistry(), 2, Duration.ofMinutes(1));
+
+    private StampedeGuard stampedeGuard(double beta) {
+        return new StampedeGuard(redisCacheExecutor, cacheCircuitBreaker, Duration.ofSeconds(5),
+                                 Duration.ofMillis(200), Duration.ofMillis(10), beta);
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 캐시 미스는 원본 조회 1회로 처리")
+    void singleFlight() throws Exception {
+        when(redisCacheExecutor.tryLock(anyString(), anyString(), anyLong())).thenReturn(true);
+        StampedeGuard stampedeGuard = stampedeGuard(1.0);
+
+        int threadCount = 10;
+        AtomicInteger loadCount = new AtomicInteger();
+        AtomicInteger writeCount = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                return stampedeGuard.load("post", "post:postid:1", () -> {
+                    loadCount.incrementAndGet();
+                    started.countDown();
+                    try {
+                        ready.await();
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "value";
+                }, value -> {
+                    writeCount.incrementAndGet();
+                    return null;
+                }, String::new);
+            }));
+        }
+
+        for (Future<Object> result : results) {
+            assertThat(result.get()).isEqualTo("value");
+        }
+        executor.shutdown();
+
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(writeCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 보유 중이면 L2 캐시가 채워질 때까지 대기")
+    void waitForOtherNode() {
+        when(redisCacheExecutor.tryLock(anyString(), anyString(), anyLong())).thenReturn(false);
+        when(redisCacheExecutor.get("post:postid:1")).thenReturn(null, "value".getBytes());
+        AtomicInteger loadCount = new AtomicInteger();
+
+        Object result = stampedeGuard(1.0).load("post", "post:postid:1", () -> {
+            loadCount.incrementAndGet();
+            return "loaded";
+        }, value -> null, String::new);
+
+        assertThat(result).isEqualTo("value");
+        assertThat(loadCount.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("원본 조회 예외는 대기 중인 요청에도 그대로 전달")
+    void loaderException() {
+        when(redisCacheExecutor.tryLock(anyString(), anyString(), anyLong())).thenReturn(true);
+
+        assertThatThrownBy(
+                () -> stampedeGuard(1.0).load("post", "post:postid:1", () -> {
+                    throw new IllegalStateException("loader");
+                }, value -> null, String::new)
+        ).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("조기 갱신 중 원본 조회가 실패하면 null을 반환하여 기존 값 사용")
+    void refreshLoaderFailure() {
+        when(redisCacheExecutor.tryLock(anyString(), anyString(), anyLong())).thenReturn(true);
+        AtomicInteger writeCount = new AtomicInteger();
+
+        Object result = stampedeGuard(1.0).refresh("post", "post:postid:1", () -> {
+            throw new IllegalStateException("loader");
+        }, value -> {
+            writeCount.incrementAndGet();
+            return null;
+        });
+
+        assertThat(result).isNull();
+        assertThat(writeCount.get()).isZero();
+        verify(redisCacheExecutor).unlock(eq("lock:cache:post:postid:1"), anyString());
+    }
+
+    @Test
+    @DisplayName("락 획득 실패(Redis 오류)는 서킷 브레이커에 실패로 집계")
+    void lockFailureOpensCircuit() {
+        when(redisCacheExecutor.tryLock(anyString(), anyString(), anyLong()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        StampedeGuard stampedeGuard = stampedeGuard(1.0);
+
+        assertThat(stampedeGuard.refresh("post", "post:postid:1", () -> "value", value -> null)).isNull();
+        assertThatThrownBy(() -> stampedeGuard.load("post", "post:postid:1", () -> "value", value -> null,
+                                                    String::new))
+                .isInstanceOf(RedisConnectionFailureException.class);
+
+        assertThat(cacheCircuitBreaker.getCurrentState()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("원본 조회 시간이 기록되지 않았거나 beta가 0이면 조기 갱신하지 않음")
+    void noEarlyRefresh() {
+        assertThat(stampedeGuard(1.0).shouldRefreshEarly("post", 1)).isFalse();
+        assertThat(stampedeGuard(0).shouldRefreshEarly("post", 1)).isFalse();
+    }
+}
@@ -0,0 +1,128 @@
+package com.app.backend.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.params.SetParams;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * 조회수 중복 확인 방식별 Redis 메모리 사용량과 집계 오차 비교(로컬 Redis 필요)
+ *
+ * ./gradlew test -PincludeTags=benchmark
+ */
+@Tag("benchmark")
+class ViewCountBenchmark {
+
+    private static final String PREFIX  = "benchmark:viewCount";
+    private static final int    POSTS   = 100;
+    private static final int    MEMBERS = 100_000;
+    private static final int    VIEWS   = 500_000;
+    private static final int    BATCH   = 1_000;
+
+    @Test
+    @DisplayName("조회수 중복 확인 방식별 메모리/정확도 벤치마크")
+    void benchmark() {
+        try (Jedis jedis = new Jedis(System.getProperty("redis.host", "localhost"), 6379)) {
+            System.out.printf("%-7s %10s %14s %12s %10s %14s%n",
+                              "mode", "keys", "memory(bytes)", "counted", "error(%)", "max post(%)");
+            for (ViewCountMode mode : ViewCountMode.values()) {
+                run(jedis, mode);
+            }
+        }
+    }
+
+    private void run(Jedis jedis, ViewCountMode mode) {
+        delete(jedis);
+
+        Random random = new Random(42);
+        List<Set<Integer>> viewers = new ArrayList<>();
+        for (int i = 0; i < POSTS; i++)
+            viewers.add(new HashSet<>());
+
+        long[] counted = new long[POSTS];
+        for (int from = 0; from < VIEWS; from += BATCH) {
+            Pipeline pipeline = jedis.pipelined();
+            List<Response<?>> responses = new ArrayList<>(BATCH);
+            List<Response<Long>[]> counts = new ArrayList<>(BATCH);
+            int[] posts = new int[BATCH];
+            for (int i = 0; i < BATCH; i++) {
+                int post = random.nextInt(POSTS);
+                posts[i] = post;
+                int member = random.nextInt(MEMBERS) + 1;
+                viewers.get(post).add(member);
+                switch (mode) {
+                    case KEY -> responses.add(pipeline.set("%s:%d:user:%d".formatted(PREFIX, post, member), "true",
+                                                           SetParams.setParams().nx().px(600_000)));
+                    case HLL -> {
+                        //RedisCacheExecutor와 같이 PFADD 전후 PFCOUNT 증가분을 조회수로 집계
+                        String key = "%s:hll:%d".formatted(PREFIX, post);
+                        Response<Long> before = pipeline.pfcount(key);
+                        pipeline.pfadd(key, String.valueOf(member));
+                        counts.add(new Response[]{before, pipeline.pfcount(key)});
+                    }
+                    case BITMAP -> responses.add(pipeline.setbit("%s:bitmap:%d".formatted(PREFIX, post), member, true));
+                }
+            }
+            pipeline.sync();
+            for (int i = 0; i < responses.size(); i++) {
+                Object reply = responses.get(i).get();
+                if ("OK".equals(reply) || Boolean.FALSE.equals(reply))
+                    counted[posts[i]]++;
+            }
+            for (int i = 0; i < counts.size(); i++)
+                counted[posts[i]] += Math.max(counts.get(i)[1].get() - counts.get(i)[0].get(), 0);
+        }
+
+        long exact = viewers.stream().mapToLong(Set::size).sum();
+        long total = LongStream.of(counted).sum();
+        double maxPostError = IntStream.range(0, POSTS)
+                                       .mapToDouble(i -> 100.0 * Math.abs(counted[i] - viewers.get(i).size())
+                                                         / viewers.get(i).size())
+                                       .max()
+                                       .orElse(0);
+        long[] usage = memoryUsage(jedis);
+        System.out.printf("%-7s %10d %14d %12d %10.3f %14.3f%n", mode, usage[0], usage[1], total,
+                          100.0 * Math.abs(total - exact) / exact, maxPostError);
+
+        delete(jedis);
+    }
+
+    private long[] memoryUsage(Jedis jedis) {
+        long keys = 0;
+        long bytes = 0;
+        String cursor = ScanParams.SCAN_POINTER_START;
+        do {
+            ScanResult<String> result = jedis.scan(cursor, new ScanParams().match(PREFIX + ":*").count(1_000));
+            Pipeline pipeline = jedis.pipelined();
+            List<Response<Long>> responses = result.getResult().stream().map(pipeline::memoryUsage).toList();
+            pipeline.sync();
+            keys += responses.size();
+            bytes += responses.stream().mapToLong(Response::get).sum();
+            cursor = result.getCursor();
+        } while (!cursor.equals(ScanParams.SCAN_POINTER_START));
+        return new long[]{keys, bytes};
+    }
+
+    private void delete(Jedis jedis) {
+        String cursor = ScanParams.SCAN_POINTER_START;
+        do {
+            ScanResult<String> result = jedis.scan(cursor, new ScanParams().match(PREFIX + ":*").count(1_000));
+            if (!result.getResult().isEmpty())
+                jedis.unlink(result.getResult().toArray(String[]::new));
+            cursor = result.getCursor();
+        } while (!cursor.equals(ScanParams.SCAN_POINTER_START));
+    }
+}
@@ -0,0 +1,29 @@
+package com.app.backend.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ViewCountPolicyTest {
+
+    @Test
+    @DisplayName("KEY 모드는 사용자별, HLL 모드는 게시글·시간 구간별 중복 확인 키 생성")
+    void dedupeKey() {
+        ViewCountPolicy keyPolicy = new ViewCountPolicy(ViewCountMode.KEY, 0.01);
+        ViewCountPolicy hllPolicy = new ViewCountPolicy(ViewCountMode.HLL, 0.01);
+
+        assertThat(keyPolicy.dedupeKey("post:postid:1", 7L, 600_000L, 1_800_000L)).isEqualTo("post:postid:1:user:7");
+        assertThat(hllPolicy.dedupeKey("post:postid:1", 7L, 600_000L, 1_800_000L))
+                .isEqualTo(hllPolicy.dedupeKey("post:postid:1", 8L, 600_000L, 2_399_999L))
+                .isEqualTo("viewers:post:postid:1:3");
+        assertThat(hllPolicy.dedupeKey("post:postid:1", 7L, 600_000L, 2_400_000L)).isEqualTo("viewers:post:postid:1:4");
+    }
+
+    @Test
+    @DisplayName("허용 오차가 HyperLogLog 표준 오차보다 작으면 BITMAP 모드 사용")
+    void fallbackToBitmap() {
+        assertThat(new ViewCountPolicy(ViewCountMode.HLL, 0.01).getMode()).isEqualTo(ViewCountMode.HLL);
+        assertThat(new ViewCountPolicy(ViewCountMode.HLL, 0.001).getMode()).isEqualTo(ViewCountMode.BITMAP);
+    }
+}
@@ -0,0 +1,79 @@
+package com.app.backend.global.cache.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 코덱 벤치마크(엔트리당 바이트 수, 직렬화/역직렬화 ns/op)
+ *
+ * ./gradlew test -PincludeTags=benchmark
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheCodecBenchmark {
+
+    @Param({CacheCodecRegistry.JSON, CacheCodecRegistry.SMILE, CacheCodecRegistry.CBOR})
+    private String codecName;
+
+    @Param({"post", "topFivePosts"})
+    private String value;
+
+    private CacheCodec codec;
+    private Object data;
+    private Type type;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        codec = CacheCodecFixture.codecs().stream().filter(it -> it.getName().equals(codecName)).findFirst()
+                .orElseThrow();
+        data = value.equals("post") ? CacheCodecFixture.post() : CacheCodecFixture.topFivePosts();
+        type = CacheCodecFixture.returnType(value);
+        bytes = codec.encode(data);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encode(data);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return codec.decode(bytes, type);
+    }
+
+    @Test
+    @DisplayName("캐시 코덱 벤치마크")
+    void benchmark() throws RunnerException {
+        for (CacheCodec codec : CacheCodecFixture.codecs()) {
+            System.out.printf("[%s] bytes/entry post=%d, topFivePosts=%d%n", codec.getName(),
+                              codec.encode(CacheCodecFixture.post()).length,
+                              codec.encode(CacheCodecFixture.topFivePosts()).length);
+        }
+
+        new Runner(new OptionsBuilder().include(CacheCodecBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,64 @@
+package com.app.backend.global.cache.codec;
+
+import com.app.backend.domain.attachment.entity.FileType;
+import com.app.backend.domain.post.dto.resp.PostAttachmentRespDto;
+import com.app.backend.domain.post.dto.resp.PostRespDto;
+import com.app.backend.domain.post.entity.PostStatus;
+import com.app.backend.global.config.RedisConfig;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 코덱 테스트/벤치마크용 캐시 값과 코덱 목록
+ */
+final class CacheCodecFixture {
+
+    private CacheCodecFixture() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<CacheCodec> codecs() {
+        // 운영과 동일한 RedisTemplate 값 직렬화 설정 사용(연결은 생성하지 않음)
+        RedisSerializer<Object> serializer =
+                (RedisSerializer<Object>) new RedisConfig("localhost", 6379, "").redisTemplate().getValueSerializer();
+
+        return List.of(new TypedJsonCacheCodec(serializer),
+                       new JacksonCacheCodec(CacheCodecRegistry.SMILE, new SmileFactory()),
+                       new JacksonCacheCodec(CacheCodecRegistry.CBOR, new CBORFactory()));
+    }
+
+    static PostRespDto.GetPostDto post() {
+        List<PostAttachmentRespDto.GetPostImageDto> images = IntStream.rangeClosed(1, 3)
+                .mapToObj(i -> new PostAttachmentRespDto.GetPostImageDto(
+                        i, "image" + i + ".png", FileType.IMAGE, "images/2025/01/image" + i + ".png", 1024L * i))
+                .toList();
+        List<PostAttachmentRespDto.GetPostDocumentDto> documents = IntStream.rangeClosed(1, 2)
+                .mapToObj(i -> new PostAttachmentRespDto.GetPostDocumentDto(
+                        i, "document" + i + ".pdf", FileType.DOCUMENT, 2048L * i))
+                .toList();
+
+        return new PostRespDto.GetPostDto(1L, "게시글 제목", "게시글 내용 ".repeat(20), PostStatus.PUBLIC, "닉네임", 1L,
+                                          1L, "2025-01-01T00:00:00", "2025-01-01T00:00:00", 10, false, images,
+                                          documents);
+    }
+
+    static List<PostRespDto.GetPostListDto> topFivePosts() {
+        return IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> new PostRespDto.GetPostListDto(
+                        i, "게시글 제목 " + i, PostStatus.PUBLIC, 1L, "닉네임", "2025-01-01T00:00:00", 10L * i))
+                .toList();
+    }
+
+    static Type returnType(String methodName) {
+        try {
+            return CacheCodecFixture.class.getDeclaredMethod(methodName).getGenericReturnType();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
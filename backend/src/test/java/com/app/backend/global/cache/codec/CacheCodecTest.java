@@ -0,0 +1,37 @@
+package com.app.backend.global.cache.codec;
+
+import com.app.backend.domain.post.dto.resp.PostRespDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheCodecTest {
+
+    @Test
+    @DisplayName("코덱별 직렬화 후 역직렬화 시 원본과 동일")
+    void roundTrip() {
+        PostRespDto.GetPostDto post = CacheCodecFixture.post();
+        List<PostRespDto.GetPostListDto> posts = CacheCodecFixture.topFivePosts();
+
+        for (CacheCodec codec : CacheCodecFixture.codecs()) {
+            assertThat(codec.decode(codec.encode(post), CacheCodecFixture.returnType("post")))
+                    .as(codec.getName()).isEqualTo(post);
+            assertThat(codec.decode(codec.encode(posts), CacheCodecFixture.returnType("topFivePosts")))
+                    .as(codec.getName()).isEqualTo(posts);
+        }
+    }
+
+    @Test
+    @DisplayName("바이너리 코덱은 클래스 이름을 포함한 JSON보다 작음")
+    void smallerThanTypedJson() {
+        List<CacheCodec> codecs = CacheCodecFixture.codecs();
+        int jsonSize = codecs.get(0).encode(CacheCodecFixture.topFivePosts()).length;
+
+        codecs.stream().skip(1).forEach(codec ->
+                assertThat(codec.encode(CacheCodecFixture.topFivePosts()).length)
+                        .as(codec.getName()).isLessThan(jsonSize));
+    }
+}
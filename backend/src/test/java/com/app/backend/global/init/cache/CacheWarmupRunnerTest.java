@@ -0,0 +1,77 @@
+package com.app.backend.global.init.cache;
+
+import com.app.backend.domain.group.entity.Group;
+import com.app.backend.domain.group.repository.GroupRepository;
+import com.app.backend.domain.post.dto.resp.PostRespDto;
+import com.app.backend.domain.post.entity.PostStatus;
+import com.app.backend.domain.post.service.post.PostDetailService;
+import com.app.backend.domain.post.service.post.PostService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CacheWarmupRunnerTest {
+
+    private final GroupRepository groupRepository = mock(GroupRepository.class);
+    private final PostService postService = mock(PostService.class);
+    private final PostDetailService postDetailService = mock(PostDetailService.class);
+    private final CacheWarmupHealthIndicator healthIndicator = new CacheWarmupHealthIndicator();
+
+    private CacheWarmupRunner runner(boolean enabled) {
+        return new CacheWarmupRunner(groupRepository, postService, postDetailService, healthIndicator, enabled, 10, 2,
+                                     Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("상위 모임의 인기 게시글과 게시글 본문 적재 후 UP")
+    void warmup() {
+        Group group1 = mock(Group.class);
+        Group group2 = mock(Group.class);
+        when(group1.getId()).thenReturn(1L);
+        when(group2.getId()).thenReturn(2L);
+        when(groupRepository.findAllByDisabledOrderByLikeCountDesc(eq(false), any(Pageable.class)))
+                .thenReturn(List.of(group1, group2));
+        when(postService.getTopFivePosts(1L)).thenReturn(List.of(post(1L), post(2L)));
+        when(postService.getTopFivePosts(2L)).thenReturn(List.of(post(3L)));
+        when(postDetailService.getPostDetail(2L)).thenThrow(new IllegalStateException());
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        runner(true).run(new DefaultApplicationArguments());
+
+        verify(postDetailService).getPostDetail(1L);
+        verify(postDetailService).getPostDetail(3L);
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(healthIndicator.health().getDetails())
+                .containsEntry("total", 5)
+                .containsEntry("completed", 4)
+                .containsEntry("failed", 1);
+    }
+
+    @Test
+    @DisplayName("비활성화 시 적재하지 않고 UP")
+    void disabled() {
+        runner(false).run(new DefaultApplicationArguments());
+
+        verify(postService, never()).getTopFivePosts(anyLong());
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    private PostRespDto.GetPostListDto post(long postId) {
+        return new PostRespDto.GetPostListDto(postId, "제목", PostStatus.PUBLIC, 1L, "닉네임", "2025-01-01", 1L);
+    }
+}
@@ -0,0 +1,53 @@
+package com.app.backend.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoHashTest {
+
+    @Test
+    @DisplayName("위도/경도를 지오해시로 인코딩하고 두 위치의 거리 계산")
+    void encodeAndDistance() {
+        assertThat(GeoHash.INSTANCE.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoHash.INSTANCE.encode(57.64911, 10.40744, GeoHash.PRECISION)).isEqualTo("u4pruydqq");
+        assertThat(GeoHash.INSTANCE.distanceKm(37.5663, 126.9779, 35.1796, 129.0756)).isCloseTo(325.0, within(5.0));
+        assertThat(GeoHash.INSTANCE.distanceKm(37.5663, 126.9779, 37.5663, 126.9779)).isZero();
+    }
+
+    @Test
+    @DisplayName("반경 안의 모든 위치는 셀 목록 중 하나로 시작")
+    void coveringCells() {
+        double latitude  = 37.5663;
+        double longitude = 126.9779;
+
+        for (double radiusKm : new double[]{0.1, 1, 5, 20, 50}) {
+            Set<String> cells = GeoHash.INSTANCE.coveringCells(latitude, longitude, radiusKm);
+
+            assertThat(cells).hasSizeLessThanOrEqualTo(9);
+            for (int degree = 0; degree < 360; degree += 15) {
+                double theta = Math.toRadians(degree);
+                double lat   = latitude + GeoHash.INSTANCE.latitudeDelta(radiusKm * 0.95) * Math.cos(theta);
+                double lng   = longitude + GeoHash.INSTANCE.longitudeDelta(latitude, radiusKm * 0.95) * Math.sin(theta);
+                String hash  = GeoHash.INSTANCE.encode(lat, lng, GeoHash.PRECISION);
+
+                assertThat(cells).anyMatch(hash::startsWith);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("반경 확장 단계는 오름차순이고 최대 반경으로 끝남")
+    void expandingRadii() {
+        List<Double> radii = GeoHash.INSTANCE.expandingRadii(37.5663, 50, 1);
+
+        assertThat(radii).isSorted().hasSizeGreaterThan(1).last().isEqualTo(50.0);
+        assertThat(radii.get(0)).isGreaterThanOrEqualTo(1);
+        assertThat(GeoHash.INSTANCE.expandingRadii(37.5663, 0.5, 1)).containsExactly(0.5);
+    }
+}
@@ -0,0 +1,90 @@
+package com.app.backend.global.util;
+
+import com.app.backend.global.cache.CacheKeyGenerator.CacheKeyPlan;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시/락 키 생성 벤치마크(호출마다 파싱하던 기존 방식과 메서드별 캐싱 방식 비교, ns/op)
+ *
+ * ./gradlew test -PincludeTags=benchmark
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyGeneratorBenchmark {
+
+    private static final String   LOCK_EXPRESSION = "'group:' + #groupId + '-member:' + #memberId";
+    private static final String[] PARAMETER_NAMES = {"groupId", "memberId"};
+
+    private final ExpressionParser parser = new SpelExpressionParser();
+
+    private Method       method;
+    private Object[]     args;
+    private CacheKeyPlan cacheKeyPlan;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        method = KeyGeneratorBenchmark.class.getDeclaredMethod("lockKey");
+        args = new Object[]{1L, 2L};
+        cacheKeyPlan = new CacheKeyPlan("post", "groupid", "groupId", PARAMETER_NAMES);
+    }
+
+    @Benchmark
+    public String legacyLockKey() {
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        for (int i = 0; i < PARAMETER_NAMES.length; i++)
+            context.setVariable(PARAMETER_NAMES[i], args[i]);
+        return method.getName() + ":" + parser.parseExpression(LOCK_EXPRESSION).getValue(context);
+    }
+
+    @Benchmark
+    public String lockKey() {
+        return LockKeyGenerator.Companion.generateLockKey(method, PARAMETER_NAMES, args, LOCK_EXPRESSION);
+    }
+
+    @Benchmark
+    public String legacyCacheKey() {
+        Map<String, Object> params = new HashMap<>();
+        for (int i = 0; i < PARAMETER_NAMES.length; i++)
+            params.put(PARAMETER_NAMES[i], args[i]);
+        return "post:groupid:" + params.get("groupId");
+    }
+
+    @Benchmark
+    public String cacheKey() {
+        return cacheKeyPlan.generate(args);
+    }
+
+    @Test
+    @DisplayName("캐시/락 키 생성 벤치마크")
+    void benchmark() throws RunnerException {
+        new Runner(new OptionsBuilder().include(KeyGeneratorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
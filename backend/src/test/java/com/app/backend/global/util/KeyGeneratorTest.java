@@ -0,0 +1,39 @@
+package com.app.backend.global.util;
+
+import com.app.backend.global.cache.CacheKeyGenerator.CacheKeyPlan;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyGeneratorTest {
+
+    @Test
+    @DisplayName("캐시 키 생성, id 파라미터가 있으면 해당 인자만 사용")
+    void cacheKey() {
+        String[] parameterNames = {"groupId", "page"};
+
+        assertThat(new CacheKeyPlan("post", "groupid", "groupId", parameterNames).generate(new Object[]{1L, 2}))
+                .isEqualTo("post:groupid:1");
+        assertThat(new CacheKeyPlan("post", "groupid", "", parameterNames).generate(new Object[]{1L, 2}))
+                .isEqualTo("post:groupid:1:2");
+        assertThat(new CacheKeyPlan("post", "", "", parameterNames).generate(new Object[]{1L, null}))
+                .isEqualTo("post:1:null");
+    }
+
+    @Test
+    @DisplayName("락 키 생성, 같은 메서드의 반복 호출에도 인자 값 반영")
+    void lockKey() throws NoSuchMethodException {
+        Method method = KeyGeneratorTest.class.getDeclaredMethod("lockKey");
+        String[] parameterNames = {"groupId", "memberId"};
+        String expression = "'group:' + #groupId + '-member:' + #memberId";
+
+        for (long i = 1; i <= 3; i++) {
+            assertThat(LockKeyGenerator.Companion.generateLockKey(method, parameterNames, new Object[]{i, i + 10},
+                                                                  expression))
+                    .isEqualTo("lockKey:group:" + i + "-member:" + (i + 10));
+        }
+    }
+}
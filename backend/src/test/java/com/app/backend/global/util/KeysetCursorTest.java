@@ -0,0 +1,35 @@
+package com.app.backend.global.util;
+
+import com.app.backend.global.error.exception.DomainException;
+import com.app.backend.global.error.exception.GlobalErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("커서 인코딩 후 디코딩하면 같은 (createdAt, id)")
+    void roundTrip() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("|", "=", "/", "+");
+        assertThat(KeysetCursor.Companion.decode(encoded)).isEqualTo(cursor);
+        assertThat(KeysetCursor.Companion.decode(null)).isNull();
+        assertThat(KeysetCursor.Companion.decode("")).isNull();
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 커서는 INVALID_INPUT_VALUE")
+    void invalid() {
+        assertThatThrownBy(() -> KeysetCursor.Companion.decode("not-a-cursor"))
+                .isInstanceOf(DomainException.class)
+                .hasFieldOrPropertyWithValue("domainErrorCode", GlobalErrorCode.INVALID_INPUT_VALUE);
+    }
+}
@@ -0,0 +1,133 @@
+package com.app.backend.global.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SchedulerLockManagerTest {
+
+    private final RedissonClient      redissonClient = mock(RedissonClient.class);
+    private final RBucket<String>     bucket         = mock(RBucket.class);
+    private final RAtomicLong         fence          = mock(RAtomicLong.class);
+    private final SimpleMeterRegistry meterRegistry  = new SimpleMeterRegistry();
+    private final JdbcTemplate        jdbcTemplate   = mock(JdbcTemplate.class);
+
+    private SchedulerLockManager schedulerLockManager;
+
+    @BeforeEach
+    void setUp() {
+        when(redissonClient.<String>getBucket(eq("scheduler:lock:job"), eq(StringCodec.INSTANCE))).thenReturn(bucket);
+        when(redissonClient.getAtomicLong("scheduler:fence:job")).thenReturn(fence);
+        schedulerLockManager = new SchedulerLockManager(redissonClient, meterRegistry, jdbcTemplate, true, "node-1");
+    }
+
+    @Test
+    @DisplayName("락 획득 시 펜싱 토큰 발급, 실행 후 마지막 실행 노드와 실행 시간 기록")
+    void acquire() {
+        when(bucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(true);
+        when(fence.incrementAndGet()).thenReturn(3L);
+
+        SchedulerLockManager.Lease lease = schedulerLockManager.tryAcquire("job", 10, 1, TimeUnit.MINUTES);
+        schedulerLockManager.record(lease, () -> "done");
+
+        assertThat(lease.getFencingToken()).isEqualTo(3L);
+        assertThat(meterRegistry.get("scheduler.job.fencing_token").tag("job", "job").gauge().value()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("scheduler.job.last_run").tags("job", "job", "node", "node-1").gauge().value())
+                .isPositive();
+        assertThat(meterRegistry.get("scheduler.job.duration").tags("job", "job", "result", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 보유 중이면 실행하지 않음")
+    void skip() {
+        when(bucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(false);
+
+        assertThat(schedulerLockManager.tryAcquire("job", 10, 1, TimeUnit.MINUTES)).isNull();
+        assertThat(meterRegistry.get("scheduler.job.skipped").tag("job", "job").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 실행을 넘겨받으면(펜싱 토큰 변경) 작업 중단")
+    void fencing() {
+        when(bucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(true);
+        when(fence.incrementAndGet()).thenReturn(3L);
+        when(fence.get()).thenReturn(3L, 4L);
+
+        SchedulerLockManager.Lease lease = schedulerLockManager.tryAcquire("job", 10, 1, TimeUnit.MINUTES);
+
+        assertThatThrownBy(() -> schedulerLockManager.record(lease, () -> {
+            schedulerLockManager.checkFencingToken();
+            schedulerLockManager.checkFencingToken();
+            return null;
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("scheduler.job.duration").tags("job", "job", "result", "failure").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션의 펜싱 토큰 기록, 더 큰 토큰이 이미 기록되어 있으면 거부")
+    void fenceAtWrite() {
+        when(bucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(true);
+        when(fence.incrementAndGet()).thenReturn(3L);
+        when(jdbcTemplate.update(anyString(), eq(3L), eq("job"), eq(3L))).thenReturn(1, 0);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq("job"))).thenReturn(List.of(4L));
+
+        SchedulerLockManager.Lease lease = schedulerLockManager.tryAcquire("job", 10, 1, TimeUnit.MINUTES);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThatThrownBy(() -> schedulerLockManager.record(lease, () -> {
+                schedulerLockManager.fence();
+                schedulerLockManager.fence();
+                return null;
+            })).isInstanceOf(IllegalStateException.class).hasMessageContaining("stored=4");
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    @DisplayName("작업 상태 행이 없으면 현재 토큰으로 생성")
+    void fenceCreatesRow() {
+        when(bucket.setIfAbsent(anyString(), any(Duration.class))).thenReturn(true);
+        when(fence.incrementAndGet()).thenReturn(1L);
+        when(jdbcTemplate.update(anyString(), eq(1L), eq("job"), eq(1L))).thenReturn(0);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq("job"))).thenReturn(List.of());
+
+        SchedulerLockManager.Lease lease = schedulerLockManager.tryAcquire("job", 10, 1, TimeUnit.MINUTES);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            schedulerLockManager.record(lease, () -> {
+                schedulerLockManager.fence();
+                return null;
+            });
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        verify(jdbcTemplate).update(contains("INSERT INTO tbl_scheduler_fences"), eq("job"), eq(1L));
+    }
+}